@@ -0,0 +1,151 @@
+package uk.gov.hmcts.juror.scheduler.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.listeners.JobListenerSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.juror.scheduler.config.scheduler.SchedulerConfig;
+import uk.gov.hmcts.juror.scheduler.testsupport.PostgresqlContainer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures scheduling lag (actual start time minus scheduled fire time) against the number of triggers due at the
+ * same instant, with single trigger acquisition and with batches sized to the thread pool. Runs a clustered JDBC job
+ * store against the Flyway managed QRTZ_ tables.
+ *
+ * <p>Only run on demand: SCHEDULER_BENCHMARK=true ./gradlew integrationTest --tests '*TriggerAcquisitionBenchmarkIT'
+ */
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "SCHEDULER_BENCHMARK", matches = "true")
+@SuppressWarnings("PMD.LawOfDemeter")
+class TriggerAcquisitionBenchmarkIT {
+    private static final Logger LOG = LoggerFactory.getLogger(TriggerAcquisitionBenchmarkIT.class);
+    private static final int THREAD_COUNT = 10;
+    private static final int[] DUE_TRIGGER_COUNTS = {10, 50, 200, 500};
+    private static final long START_DELAY_MS = 5000;
+
+    @Container
+    private static final PostgresqlContainer SQL_CONTAINER = PostgresqlContainer.getInstance();
+
+    @Test
+    void schedulingLagAgainstDueTriggers() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add(String.format("%-8s %8s %10s %10s %10s", "mode", "triggers", "p50 (ms)", "p95 (ms)", "max (ms)"));
+        //A max batch size of 0 batches up to the thread count
+        for (int maxBatchSize : new int[]{1, 0}) {
+            String mode = maxBatchSize == 1 ? "single" : "batched";
+            for (int dueTriggers : DUE_TRIGGER_COUNTS) {
+                List<Long> lags = run(maxBatchSize, dueTriggers);
+                assertEquals(dueTriggers, lags.size(), mode + " acquisition must fire every due trigger");
+                Collections.sort(lags);
+                rows.add(String.format("%-8s %8d %10d %10d %10d", mode, dueTriggers,
+                    percentile(lags, 50), percentile(lags, 95), lags.get(lags.size() - 1)));
+            }
+        }
+        LOG.info("Scheduling lag with {} threads:{}{}", THREAD_COUNT, System.lineSeparator(),
+            String.join(System.lineSeparator(), rows));
+    }
+
+    private List<Long> run(int maxBatchSize, int dueTriggers) throws Exception {
+        Scheduler scheduler = new StdSchedulerFactory(schedulerProperties(maxBatchSize)).getScheduler();
+        LagRecorder lagRecorder = new LagRecorder(dueTriggers);
+        try {
+            scheduler.clear();
+            scheduler.getListenerManager().addJobListener(lagRecorder);
+
+            Date fireTime = new Date(System.currentTimeMillis() + START_DELAY_MS);
+            for (int index = 0; index < dueTriggers; index++) {
+                JobDetail jobDetail = JobBuilder.newJob(NoOpJob.class)
+                    .withIdentity("benchmark-" + index)
+                    .build();
+                Trigger trigger = TriggerBuilder.newTrigger()
+                    .withIdentity("benchmark-" + index)
+                    .startAt(fireTime)
+                    .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                    .build();
+                scheduler.scheduleJob(jobDetail, trigger);
+            }
+            scheduler.start();
+            lagRecorder.latch.await(START_DELAY_MS + 120_000, TimeUnit.MILLISECONDS);
+            return new ArrayList<>(lagRecorder.lags);
+        } finally {
+            scheduler.clear();
+            scheduler.shutdown(true);
+        }
+    }
+
+    private Properties schedulerProperties(int maxBatchSize) {
+        Properties properties = new Properties();
+        properties.put("org.quartz.scheduler.instanceName", "TriggerAcquisitionBenchmark");
+        properties.put("org.quartz.scheduler.instanceId", "AUTO");
+        properties.put("org.quartz.threadPool.threadCount", String.valueOf(THREAD_COUNT));
+        properties.put("org.quartz.jobStore.class", "org.quartz.impl.jdbcjobstore.JobStoreTX");
+        properties.put("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.PostgreSQLDelegate");
+        properties.put("org.quartz.jobStore.tablePrefix", "scheduler_application.QRTZ_");
+        properties.put("org.quartz.jobStore.isClustered", "true");
+        properties.put("org.quartz.jobStore.clusterCheckinInterval", "5000");
+        properties.put("org.quartz.jobStore.dataSource", "benchmark");
+        properties.put("org.quartz.dataSource.benchmark.provider", "hikaricp");
+        properties.put("org.quartz.dataSource.benchmark.driver", SQL_CONTAINER.getDriverClassName());
+        properties.put("org.quartz.dataSource.benchmark.URL", SQL_CONTAINER.getJdbcUrl());
+        properties.put("org.quartz.dataSource.benchmark.user", SQL_CONTAINER.getUsername());
+        properties.put("org.quartz.dataSource.benchmark.password", SQL_CONTAINER.getPassword());
+        properties.put("org.quartz.dataSource.benchmark.maxConnections", String.valueOf(THREAD_COUNT + 2));
+        properties.putAll(SchedulerConfig.triggerAcquisitionProperties(properties, maxBatchSize, 0));
+        return properties;
+    }
+
+    private static long percentile(List<Long> sortedValues, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedValues.size()) - 1;
+        return sortedValues.get(Math.max(index, 0));
+    }
+
+    public static class NoOpJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) {
+            //Only the start time is measured
+        }
+    }
+
+    private static class LagRecorder extends JobListenerSupport {
+        private final ConcurrentLinkedQueue<Long> lags = new ConcurrentLinkedQueue<>();
+        private final CountDownLatch latch;
+
+        LagRecorder(int dueTriggers) {
+            this.latch = new CountDownLatch(dueTriggers);
+        }
+
+        @Override
+        public String getName() {
+            return "lagRecorder";
+        }
+
+        @Override
+        public void jobToBeExecuted(JobExecutionContext context) {
+            lags.add(System.currentTimeMillis() - context.getScheduledFireTime().getTime());
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.juror.scheduler.datastore;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.APIMethod;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.JobRepository;
+import uk.gov.hmcts.juror.scheduler.testsupport.PostgresqlContainer;
+
+import static uk.gov.hmcts.juror.scheduler.testsupport.ITestUtil.getNextUniqueIndex;
+
+/**
+ * Runs queries against the Flyway managed schema in Postgres, for behaviour (SQL, indexes, partitions) that mocked
+ * repositories cannot show.
+ */
+@ActiveProfiles({"test"})
+@Testcontainers
+@SpringBootTest
+public abstract class AbstractDatastoreIT {
+
+    @Container
+    private static final PostgresqlContainer SQL_CONTAINER = PostgresqlContainer.getInstance();
+
+    @Autowired
+    protected JobRepository jobRepository;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected APIJobDetailsEntity.APIJobDetailsEntityBuilder jobBuilder(String keyPrefix) {
+        return APIJobDetailsEntity.builder()
+            .key(keyPrefix + getNextUniqueIndex())
+            .name("Datastore test job")
+            .method(APIMethod.GET)
+            .url("http://localhost:8080/datastore-test");
+    }
+
+    protected void deleteJob(String jobKey) {
+        jdbcTemplate.update("DELETE FROM scheduler_application.task_entity WHERE job_key = ?", jobKey);
+        jobRepository.deleteById(jobKey);
+    }
+}
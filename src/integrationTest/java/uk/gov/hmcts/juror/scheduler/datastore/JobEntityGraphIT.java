@@ -0,0 +1,76 @@
+package uk.gov.hmcts.juror.scheduler.datastore;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.MaxResponseTimeAPIValidationEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.StatusCodeValidationEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.JobRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("APIJobDetailsEntity entity graphs")
+@Transactional
+@SuppressWarnings("PMD.LawOfDemeter")
+class JobEntityGraphIT extends AbstractDatastoreIT {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String jobKey;
+
+    @BeforeEach
+    void beforeEach() {
+        APIJobDetailsEntity job = jobBuilder("ENTITY_GRAPH_")
+            .tags(Set.of("TAG_1", "TAG_2"))
+            .headers(Map.of("Header-1", "value 1", "Header-2", "value 2", "Header-3", "value 3"))
+            .build();
+        job.addValidation(new StatusCodeValidationEntity(200));
+        job.addValidation(new StatusCodeValidationEntity(201));
+        job.addValidation(new MaxResponseTimeAPIValidationEntity(1000));
+        jobKey = jobRepository.saveAndFlush(job).getKey();
+        //Load the job from the database rather than the persistence context
+        entityManager.clear();
+    }
+
+    private void assertCollections(APIJobDetailsEntity job) {
+        assertEquals(3, job.getValidations().size(), "Validations must not be repeated");
+        assertEquals(List.of(200, 201), job.getValidations().stream()
+            .filter(StatusCodeValidationEntity.class::isInstance)
+            .map(validation -> ((StatusCodeValidationEntity) validation).getExpectedStatusCode())
+            .sorted()
+            .toList(), "Status code validations must match");
+        assertEquals(3, job.getHeaders().size(), "Headers must match");
+        assertEquals(Set.of("TAG_1", "TAG_2"), job.getTags(), "Tags must match");
+    }
+
+    @Test
+    @DisplayName("Execution graph")
+    void positiveExecutionGraph() {
+        assertCollections(jobRepository.findForExecutionByKey(jobKey).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Details graph, find by id")
+    void positiveDetailsGraphFindById() {
+        assertCollections(jobRepository.findById(jobKey).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Details graph, search")
+    void positiveDetailsGraphSearch() {
+        List<APIJobDetailsEntity> jobs = jobRepository.findAll(
+            JobRepository.Specs.byTags(Set.of("TAG_1")).and(JobRepository.Specs.byJobKey(jobKey)));
+
+        assertEquals(1, jobs.size(), "Job must only be returned once");
+        assertCollections(jobs.get(0));
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.juror.scheduler.datastore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Task completion")
+@SuppressWarnings("PMD.LawOfDemeter")
+class TaskCompletionIT extends AbstractDatastoreIT {
+
+    @Autowired
+    private TaskService taskService;
+
+    private APIJobDetailsEntity job;
+    private TaskEntity task;
+
+    @BeforeEach
+    void beforeEach() {
+        job = jobRepository.saveAndFlush(jobBuilder("TASK_COMPLETION_").build());
+        task = taskService.createTask(job);
+    }
+
+    @AfterEach
+    void afterEach() {
+        deleteJob(job.getKey());
+    }
+
+    private int countRevisions() {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM scheduler_application.task_entity_aud WHERE task_id = ?", Integer.class,
+            task.getTaskId());
+    }
+
+    private String getStoredStatus() {
+        return jdbcTemplate.queryForObject("SELECT status FROM scheduler_application.task_entity WHERE task_id = ?",
+            String.class, task.getTaskId());
+    }
+
+    @Test
+    @DisplayName("Completion is audited")
+    void positiveCompletionAudited() {
+        final LocalDateTime lastUpdatedAt = task.getLastUpdatedAt();
+        task.setStatus(Status.VALIDATION_PASSED);
+        task.setMessage("Passed");
+
+        assertTrue(taskService.completeTask(task, lastUpdatedAt), "Task must be updated");
+        assertEquals(Status.VALIDATION_PASSED.name(), getStoredStatus(), "Status must be stored");
+        assertTrue(task.getLastUpdatedAt().isAfter(lastUpdatedAt), "Last updated at must be refreshed");
+        assertEquals(2, countRevisions(), "Creation and completion must both be audited");
+    }
+
+    @Test
+    @DisplayName("Completion is skipped when the task was modified")
+    void negativeModified() {
+        final LocalDateTime lastUpdatedAt = task.getLastUpdatedAt();
+        jdbcTemplate.update("UPDATE scheduler_application.task_entity SET status = ?, last_updated_at = ? "
+            + "WHERE task_id = ?", Status.SUCCESS.name(), lastUpdatedAt.plusSeconds(1), task.getTaskId());
+        task.setStatus(Status.VALIDATION_PASSED);
+
+        assertFalse(taskService.completeTask(task, lastUpdatedAt), "Task must not be updated");
+        assertEquals(Status.SUCCESS.name(), getStoredStatus(), "Status reported by the job must be kept");
+        assertEquals(1, countRevisions(), "Only the creation must be audited");
+    }
+
+    @Test
+    @DisplayName("Unconditional completion")
+    void positiveUnconditional() {
+        jdbcTemplate.update("UPDATE scheduler_application.task_entity SET status = ? WHERE task_id = ?",
+            Status.PROCESSING.name(), task.getTaskId());
+        task.setStatus(Status.FAILED_UNEXPECTED_EXCEPTION);
+
+        assertTrue(taskService.completeTask(task, null), "Task must be updated");
+        assertEquals(Status.FAILED_UNEXPECTED_EXCEPTION.name(), getStoredStatus(), "Status must be stored");
+        assertEquals(2, countRevisions(), "Creation and completion must both be audited");
+    }
+}
@@ -0,0 +1,150 @@
+package uk.gov.hmcts.juror.scheduler.datastore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.TaskPartitionRepository;
+import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
+import uk.gov.hmcts.juror.scheduler.service.housekeeping.TaskPartitionMaintainer;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Task partitions")
+@SuppressWarnings("PMD.LawOfDemeter")
+class TaskPartitionIT extends AbstractDatastoreIT {
+    private static final YearMonth DEFAULT_PARTITION_MONTH = YearMonth.of(2099, 1);
+    //Months old enough to be the only ones expired by a ten year retention
+    private static final YearMonth DROPPED_MONTH = YearMonth.of(2001, 1);
+    private static final YearMonth DETACHED_MONTH = YearMonth.of(2002, 1);
+
+    @Autowired
+    private TaskPartitionRepository taskPartitionRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private APIJobDetailsEntity job;
+    private final List<String> tablesToDrop = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        job = jobRepository.saveAndFlush(jobBuilder("TASK_PARTITION_").build());
+    }
+
+    @AfterEach
+    void afterEach() {
+        tablesToDrop.forEach(table -> jdbcTemplate.execute("DROP TABLE IF EXISTS scheduler_application." + table));
+        deleteJob(job.getKey());
+    }
+
+    private String partitionName(YearMonth month) {
+        return "task_entity_y" + month.getYear() + "m" + String.format("%02d", month.getMonthValue());
+    }
+
+    private int createPartition(YearMonth month) {
+        String partitionName = partitionName(month);
+        tablesToDrop.add(partitionName);
+        return transactionTemplate.execute(status -> taskPartitionRepository.createPartition(partitionName,
+            month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    private TaskEntity createTask(LocalDate createdOn) {
+        TaskEntity task = taskService.createTask(job);
+        //Moves the row into the partition (or the default partition) for the day
+        jdbcTemplate.update("UPDATE scheduler_application.task_entity SET created_at = ? WHERE task_id = ?",
+            createdOn.atTime(12, 0), task.getTaskId());
+        return task;
+    }
+
+    private String getPartitionHolding(TaskEntity task) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM scheduler_application.task_entity "
+            + "WHERE task_id = ?", String.class, task.getTaskId());
+    }
+
+    private List<String> findPartitionNames() {
+        return transactionTemplate.execute(status -> taskPartitionRepository.findPartitionNames());
+    }
+
+    private int countRevisions(TaskEntity task) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM scheduler_application.task_entity_aud WHERE task_id = ?", Integer.class,
+            task.getTaskId());
+    }
+
+    private void removeExpiredPartitions(TaskPartitionMaintainer.RetentionMode retentionMode) {
+        new TaskPartitionMaintainer(taskPartitionRepository, transactionManager, 0, 120, retentionMode)
+            .maintainPartitions();
+    }
+
+    @Test
+    @DisplayName("task_entity is partitioned by month")
+    void positiveMigrated() {
+        List<String> partitionNames = findPartitionNames();
+        assertTrue(partitionNames.contains("task_entity_default"), "Default partition must exist");
+        assertTrue(partitionNames.contains(partitionName(YearMonth.now())), "Current month must be partitioned");
+
+        TaskEntity task = createTask(LocalDate.now());
+        assertEquals(partitionName(YearMonth.now()), getPartitionHolding(task), "Task must be in its month");
+    }
+
+    @Test
+    @DisplayName("Tasks in the default partition are moved into a new partition")
+    void positiveMovedFromDefaultPartition() {
+        TaskEntity task = createTask(DEFAULT_PARTITION_MONTH.atDay(15));
+        assertEquals("task_entity_default", getPartitionHolding(task), "Task must start in the default partition");
+
+        assertEquals(1, createPartition(DEFAULT_PARTITION_MONTH), "One task must be moved");
+
+        assertEquals(partitionName(DEFAULT_PARTITION_MONTH), getPartitionHolding(task), "Task must be moved");
+        assertEquals(0, createPartition(DEFAULT_PARTITION_MONTH), "Existing partition must be left as is");
+    }
+
+    @Test
+    @DisplayName("Dropping an expired partition deletes its tasks and their history")
+    void positiveDropped() {
+        createPartition(DROPPED_MONTH);
+        TaskEntity task = createTask(DROPPED_MONTH.atDay(15));
+        assertEquals(1, countRevisions(task), "Task creation must be audited");
+
+        removeExpiredPartitions(TaskPartitionMaintainer.RetentionMode.DROP);
+
+        assertFalse(findPartitionNames().contains(partitionName(DROPPED_MONTH)), "Partition must be removed");
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class,
+            "scheduler_application." + partitionName(DROPPED_MONTH)), "Partition must be dropped");
+        assertEquals(0, countRevisions(task), "Audit history must be deleted");
+    }
+
+    @Test
+    @DisplayName("Detaching an expired partition keeps its tasks and their history")
+    void positiveDetached() {
+        createPartition(DETACHED_MONTH);
+        TaskEntity task = createTask(DETACHED_MONTH.atDay(15));
+
+        removeExpiredPartitions(TaskPartitionMaintainer.RetentionMode.DETACH);
+
+        assertFalse(findPartitionNames().contains(partitionName(DETACHED_MONTH)), "Partition must be removed");
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM scheduler_application."
+            + partitionName(DETACHED_MONTH) + " WHERE task_id = ?", Integer.class, task.getTaskId()),
+            "Detached table must keep the task");
+        assertEquals(1, countRevisions(task), "Audit history must be kept");
+    }
+}
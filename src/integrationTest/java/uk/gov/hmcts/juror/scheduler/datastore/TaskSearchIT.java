@@ -0,0 +1,138 @@
+package uk.gov.hmcts.juror.scheduler.datastore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchCursor;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchFilter;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchPage;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.TaskRepository;
+import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("Task search keyset pagination")
+@SuppressWarnings("PMD.LawOfDemeter")
+class TaskSearchIT extends AbstractDatastoreIT {
+    private static final String UPDATE_CREATED_AT =
+        "UPDATE scheduler_application.task_entity SET created_at = ? WHERE task_id = ?";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final LocalDateTime base = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+    private String jobKey;
+    private List<Long> expectedTaskIds;
+
+    @BeforeEach
+    void beforeEach() {
+        APIJobDetailsEntity job = jobRepository.saveAndFlush(jobBuilder("TASK_SEARCH_").build());
+        jobKey = job.getKey();
+
+        //Two pairs of tasks share a created at, so the task id decides their order
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (LocalDateTime createdAt : List.of(base.plusSeconds(2), base, base.plusSeconds(1), base,
+            base.plusSeconds(2))) {
+            TaskEntity task = taskRepository.saveAndFlush(TaskEntity.builder()
+                .job(job)
+                .status(Status.SUCCESS)
+                .build());
+            jdbcTemplate.update(UPDATE_CREATED_AT, createdAt, task.getTaskId());
+            task.setCreatedAt(createdAt);
+            tasks.add(task);
+        }
+        expectedTaskIds = tasks.stream()
+            .sorted(Comparator.comparing(TaskEntity::getCreatedAt).thenComparing(TaskEntity::getTaskId))
+            .map(TaskEntity::getTaskId)
+            .toList();
+    }
+
+    @AfterEach
+    void afterEach() {
+        deleteJob(jobKey);
+    }
+
+    private TaskSearchFilter.TaskSearchFilterBuilder filter() {
+        return TaskSearchFilter.builder().jobKey(jobKey).fromDate(base.minusMinutes(1));
+    }
+
+    private List<Long> taskIds(TaskSearchPage page) {
+        return page.getTasks().stream().map(TaskEntity::getTaskId).toList();
+    }
+
+    @Test
+    @DisplayName("Pages are returned in created at then task id order")
+    void positivePagesInOrder() {
+        List<Long> taskIds = new ArrayList<>();
+        int pages = 0;
+        TaskSearchCursor cursor = null;
+        do {
+            TaskSearchPage page = taskService.getTaskPage(filter().cursor(cursor).limit(2).build());
+            taskIds.addAll(taskIds(page));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expectedTaskIds, taskIds, "Every task must be returned once, in order");
+        assertEquals(3, pages, "Page count must match");
+    }
+
+    @Test
+    @DisplayName("A page after the last task is empty")
+    void positiveEmptyLastPage() {
+        TaskSearchPage page = taskService.getTaskPage(filter().limit(5).build());
+        assertEquals(expectedTaskIds, taskIds(page), "Tasks must match");
+        assertNotNull(page.getNextCursor(), "A full page must have a next cursor");
+
+        TaskSearchPage lastPage = taskService.getTaskPage(filter().cursor(page.getNextCursor()).limit(5).build());
+        assertEquals(List.of(), lastPage.getTasks(), "Last page must be empty");
+        assertNull(lastPage.getNextCursor(), "Last page must not have a next cursor");
+    }
+
+    @Test
+    @DisplayName("Later pages keep the window of the first page")
+    void positiveWindowCarriedByCursor() {
+        TaskSearchPage page = taskService.getTaskPage(filter().limit(2).build());
+        assertEquals(expectedTaskIds.subList(0, 2), taskIds(page), "First page must match");
+
+        //A later from date would exclude the task created a second after the first page
+        TaskSearchPage nextPage = taskService.getTaskPage(TaskSearchFilter.builder()
+            .jobKey(jobKey)
+            .fromDate(base.plusSeconds(2))
+            .cursor(page.getNextCursor())
+            .limit(2)
+            .build());
+        assertEquals(expectedTaskIds.subList(2, 4), taskIds(nextPage), "Next page must match");
+    }
+
+    @Test
+    @DisplayName("Status filter")
+    void positiveStatusFilter() {
+        jdbcTemplate.update("UPDATE scheduler_application.task_entity SET status = ? WHERE task_id = ?",
+            Status.FAILED.name(), expectedTaskIds.get(1));
+
+        TaskSearchPage page = taskService.getTaskPage(filter().statuses(Set.of(Status.SUCCESS)).limit(10).build());
+
+        List<Long> expected = new ArrayList<>(expectedTaskIds);
+        expected.remove(1);
+        assertEquals(expected, taskIds(page), "Tasks with other statuses must not be returned");
+        assertNull(page.getNextCursor(), "A short page must not have a next cursor");
+    }
+}
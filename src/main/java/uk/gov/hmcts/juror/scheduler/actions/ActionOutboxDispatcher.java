@@ -0,0 +1,136 @@
+package uk.gov.hmcts.juror.scheduler.actions;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.juror.scheduler.api.APIConstants;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionOutboxEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.ActionOutboxRepository;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.ActionRepository;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.TaskRepository;
+import uk.gov.hmcts.juror.scheduler.service.contracts.ActionService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Drains the action outbox. Each poll claims a batch of due entries by pushing their next attempt past the lease
+ * time, so other nodes skip them, and then runs each entry in its own transaction.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "scheduler.post-actions.outbox.enabled", havingValue = "true")
+@SuppressWarnings("PMD.LawOfDemeter")
+public class ActionOutboxDispatcher {
+    private final ActionOutboxRepository actionOutboxRepository;
+    private final ActionRepository actionRepository;
+    private final TaskRepository taskRepository;
+    private final ActionService actionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long leaseTime;
+    private final int maxAttempts;
+    private final long retryBackoff;
+
+    public ActionOutboxDispatcher(ActionOutboxRepository actionOutboxRepository,
+                                  ActionRepository actionRepository,
+                                  TaskRepository taskRepository,
+                                  ActionService actionService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${scheduler.post-actions.outbox.batch-size:50}") int batchSize,
+                                  @Value("${scheduler.post-actions.outbox.lease-time:60000}") long leaseTime,
+                                  @Value("${scheduler.post-actions.outbox.max-attempts:5}") int maxAttempts,
+                                  @Value("${scheduler.post-actions.outbox.retry-backoff:5000}") long retryBackoff) {
+        this.actionOutboxRepository = actionOutboxRepository;
+        this.actionRepository = actionRepository;
+        this.taskRepository = taskRepository;
+        this.actionService = actionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.leaseTime = leaseTime;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.post-actions.outbox.poll-interval:1000}")
+    public void dispatch() {
+        List<Long> claimedEntryIds;
+        do {
+            claimedEntryIds = claimBatch();
+            claimedEntryIds.forEach(this::dispatchEntry);
+        } while (claimedEntryIds.size() >= batchSize);
+    }
+
+    List<Long> claimBatch() {
+        List<Long> claimedEntryIds = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseExpiresAt = now.plus(leaseTime, ChronoUnit.MILLIS);
+            return actionOutboxRepository.findDueForUpdate(now, batchSize)
+                .stream()
+                .map(entry -> {
+                    entry.setNextAttemptAt(leaseExpiresAt);
+                    return entry.getId();
+                })
+                .toList();
+        });
+        return claimedEntryIds == null ? List.of() : claimedEntryIds;
+    }
+
+    void dispatchEntry(long entryId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> runEntry(entryId));
+        } catch (Exception exception) {
+            log.error("Failed to run post execution action for outbox entry: " + entryId, exception);
+            transactionTemplate.executeWithoutResult(status -> recordFailure(entryId, exception));
+        }
+    }
+
+    private void runEntry(long entryId) {
+        Optional<ActionOutboxEntity> entryOptional = actionOutboxRepository.findById(entryId);
+        if (entryOptional.isEmpty()) {
+            //Removed along with its action
+            return;
+        }
+        ActionOutboxEntity entry = entryOptional.get();
+        Optional<ActionEntity> action = actionRepository.findById(entry.getActionId());
+        Optional<TaskEntity> task = taskRepository.findById(entry.getTaskId());
+        if (action.isPresent() && task.isPresent()) {
+            actionService.runAction(action.get(), task.get());
+        } else {
+            log.info("Discarding outbox entry " + entryId + " as its action or task no longer exists");
+        }
+        actionOutboxRepository.delete(entry);
+    }
+
+    private void recordFailure(long entryId, Exception exception) {
+        actionOutboxRepository.findById(entryId).ifPresent(entry -> {
+            entry.setAttempts(entry.getAttempts() + 1);
+            if (entry.getAttempts() >= maxAttempts) {
+                log.error("Giving up on outbox entry " + entryId + " after " + entry.getAttempts() + " attempts");
+                taskRepository.findById(entry.getTaskId()).ifPresent(task -> {
+                    task.appendPostActionsMessage(ActionService.FAILED_TO_RUN_POST_ACTIONS_MESSAGE);
+                    taskRepository.save(task);
+                });
+                actionOutboxRepository.delete(entry);
+                return;
+            }
+            entry.setLastError(truncate(String.valueOf(exception.getMessage())));
+            entry.setNextAttemptAt(LocalDateTime.now()
+                .plus(retryBackoff << Math.min(entry.getAttempts() - 1, 20), ChronoUnit.MILLIS));
+        });
+    }
+
+    private String truncate(String message) {
+        return message.length() > APIConstants.DEFAULT_MAX_LENGTH_LONG
+            ? message.substring(0, APIConstants.DEFAULT_MAX_LENGTH_LONG)
+            : message;
+    }
+}
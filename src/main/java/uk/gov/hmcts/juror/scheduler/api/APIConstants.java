@@ -7,6 +7,11 @@ public final class APIConstants {
     public static final long TASK_ID_MAX = Long.MAX_VALUE;
     public static final long TASK_ID_MIN = 1;
     public static final String JOB_KEY_REGEX = "[A-Z_0-9]{3,50}";
+    public static final String BULKHEAD_REGEX = "[A-Za-z0-9_.-]{1,50}";
+    public static final int TASK_SEARCH_DEFAULT_LIMIT = 100;
+    public static final int TASK_SEARCH_MAX_LIMIT = 1000;
+    public static final int LAZY_LOAD_BATCH_SIZE = 50;
+    public static final int BULK_MAX_SIZE = 1000;
 
     private APIConstants() {
 
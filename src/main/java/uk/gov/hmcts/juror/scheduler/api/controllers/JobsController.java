@@ -8,8 +8,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,12 +22,16 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.juror.scheduler.api.APIConstants;
 import uk.gov.hmcts.juror.scheduler.api.model.error.KeyAlreadyInUseError;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobOperation;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobResult;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobTarget;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.api.APIJobDetails;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.api.APIJobDetailsResponse;
 import uk.gov.hmcts.juror.scheduler.api.model.task.TaskDetail;
@@ -86,9 +92,160 @@ public class JobsController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    @PostMapping("/api/bulk")
+    @PreAuthorize("hasAuthority('" + PermissionConstants.Job.API_CREATE + "')")
+    @Operation(summary = "Create many API Jobs", description =
+        "Creates each of the provided API Jobs. Jobs whose key is already in use, or repeated within the request, are "
+            + "skipped and the remaining Jobs are still created. The outcome for each Job is returned in request "
+            + "order.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Outcome of each Job",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        array = @ArraySchema(schema = @Schema(implementation = BulkJobResult.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid Payload",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InvalidPayloadError.class))}),
+            @ApiResponse(responseCode = "401", description = "Unauthorised",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = UnauthorisedError.class))}),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InternalServerError.class))})})
+    public ResponseEntity<List<BulkJobResult>> createAPIJobs(
+        @RequestBody @NotEmpty @Size(max = APIConstants.BULK_MAX_SIZE)
+        List<@Valid @NotNull APIJobDetails> apiJobs) {
+        return ResponseEntity.ok(this.jobService.createJobs(apiJobs));
+    }
+
+    @PutMapping("/enable")
+    @PreAuthorize("hasAuthority('" + PermissionConstants.Job.ENABLE + "')")
+    @Operation(summary = "Enable many Jobs", description =
+        "Enables every scheduled Job with one of the provided keys or tags.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Outcome of each Job",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        array = @ArraySchema(schema = @Schema(implementation = BulkJobResult.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid Payload",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InvalidPayloadError.class))}),
+            @ApiResponse(responseCode = "401", description = "Unauthorised",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = UnauthorisedError.class))}),
+            @ApiResponse(responseCode = "404", description = "Not Found",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = NotFoundError.class))}),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InternalServerError.class))})})
+    public ResponseEntity<List<BulkJobResult>> enableJobs(
+        @Valid @NotNull @RequestBody BulkJobTarget target) {
+        return ResponseEntity.ok(jobService.updateJobs(BulkJobOperation.ENABLE, target));
+    }
+
+    @PutMapping("/disable")
+    @PreAuthorize("hasAuthority('" + PermissionConstants.Job.DISABLE + "')")
+    @Operation(summary = "Disable many Jobs", description =
+        "Disables every scheduled Job with one of the provided keys or tags.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Outcome of each Job",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        array = @ArraySchema(schema = @Schema(implementation = BulkJobResult.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid Payload",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InvalidPayloadError.class))}),
+            @ApiResponse(responseCode = "401", description = "Unauthorised",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = UnauthorisedError.class))}),
+            @ApiResponse(responseCode = "404", description = "Not Found",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = NotFoundError.class))}),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InternalServerError.class))})})
+    public ResponseEntity<List<BulkJobResult>> disableJobs(
+        @Valid @NotNull @RequestBody BulkJobTarget target) {
+        return ResponseEntity.ok(jobService.updateJobs(BulkJobOperation.DISABLE, target));
+    }
+
+    @PutMapping("/pause")
+    @PreAuthorize("hasAuthority('" + PermissionConstants.Job.DISABLE + "')")
+    @Operation(summary = "Pause many Jobs", description =
+        "Pauses the triggers of every enabled scheduled Job with one of the provided keys or tags. "
+            + "Paused Jobs stay enabled but do not run until resumed.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Outcome of each Job",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        array = @ArraySchema(schema = @Schema(implementation = BulkJobResult.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid Payload",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InvalidPayloadError.class))}),
+            @ApiResponse(responseCode = "401", description = "Unauthorised",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = UnauthorisedError.class))}),
+            @ApiResponse(responseCode = "404", description = "Not Found",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = NotFoundError.class))}),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InternalServerError.class))})})
+    public ResponseEntity<List<BulkJobResult>> pauseJobs(
+        @Valid @NotNull @RequestBody BulkJobTarget target) {
+        return ResponseEntity.ok(jobService.updateJobs(BulkJobOperation.PAUSE, target));
+    }
+
+    @PutMapping("/resume")
+    @PreAuthorize("hasAuthority('" + PermissionConstants.Job.ENABLE + "')")
+    @Operation(summary = "Resume many Jobs", description =
+        "Resumes the triggers of every enabled scheduled Job with one of the provided keys or tags.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Outcome of each Job",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        array = @ArraySchema(schema = @Schema(implementation = BulkJobResult.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid Payload",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InvalidPayloadError.class))}),
+            @ApiResponse(responseCode = "401", description = "Unauthorised",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = UnauthorisedError.class))}),
+            @ApiResponse(responseCode = "404", description = "Not Found",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = NotFoundError.class))}),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InternalServerError.class))})})
+    public ResponseEntity<List<BulkJobResult>> resumeJobs(
+        @Valid @NotNull @RequestBody BulkJobTarget target) {
+        return ResponseEntity.ok(jobService.updateJobs(BulkJobOperation.RESUME, target));
+    }
+
     @GetMapping("/search")
     @PreAuthorize("hasAuthority('" + PermissionConstants.Job.SEARCH + "')")
-    @Operation(summary = "Searches for a list of tasks", description = "Returns the details of the found tasks",
+    @Operation(summary = "Searches for a list of tasks", description =
+        "Returns the details of the found tasks",
         responses = {
             @ApiResponse(responseCode = "200", description = "List of Tasks.",
                 content = {
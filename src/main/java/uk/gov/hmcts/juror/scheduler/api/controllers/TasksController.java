@@ -1,14 +1,21 @@
 package uk.gov.hmcts.juror.scheduler.api.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -16,14 +23,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.juror.scheduler.api.APIConstants;
 import uk.gov.hmcts.juror.scheduler.api.model.task.TaskDetail;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdateResult;
+import uk.gov.hmcts.juror.scheduler.api.validation.MetaDataFilter;
 import uk.gov.hmcts.juror.scheduler.config.PermissionConstants;
 import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchCursor;
 import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchFilter;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchPage;
 import uk.gov.hmcts.juror.scheduler.mapping.TaskMapper;
 import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
 import uk.gov.hmcts.juror.standard.api.model.error.InternalServerError;
@@ -31,6 +45,9 @@ import uk.gov.hmcts.juror.standard.api.model.error.InvalidPayloadError;
 import uk.gov.hmcts.juror.standard.api.model.error.NotFoundError;
 import uk.gov.hmcts.juror.standard.api.model.error.UnauthorisedError;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -41,13 +58,46 @@ import java.util.Set;
 @RequestMapping(value = "/tasks", produces = MediaType.APPLICATION_JSON_VALUE)
 @Validated
 public class TasksController {
+    public static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+
     private final TaskService taskService;
     private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public TasksController(TaskService taskService, TaskMapper taskMapper) {
+    public TasksController(TaskService taskService, TaskMapper taskMapper, ObjectMapper objectMapper) {
         this.taskService = taskService;
         this.taskMapper = taskMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @PutMapping("/status")
+    @PreAuthorize("hasAuthority('" + PermissionConstants.Task.STATUS_UPDATE + "')")
+    @Operation(summary = "Update many task statuses", description =
+        "Applies many task status updates in one transaction, in the order provided. This is designed to let third "
+            + "party systems report progress on many tasks (or many times on one task) in a single call. The outcome "
+            + "of each update is returned in request order.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Outcome of each update",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        array = @ArraySchema(schema = @Schema(implementation = TaskStatusUpdateResult.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid Payload",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InvalidPayloadError.class))}),
+            @ApiResponse(responseCode = "401", description = "Unauthorised",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = UnauthorisedError.class))}),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InternalServerError.class))})})
+    public ResponseEntity<List<TaskStatusUpdateResult>> updateTaskStatuses(
+        @RequestBody @NotEmpty @Size(max = APIConstants.BULK_MAX_SIZE)
+        List<@Valid @NotNull TaskStatusUpdate> statusUpdates) {
+        return ResponseEntity.ok(taskService.updateStatuses(statusUpdates));
     }
 
     @GetMapping("/search")
@@ -55,6 +105,9 @@ public class TasksController {
     @Operation(summary = "Searches for a list of tasks", description = "Returns the details of the found tasks",
         responses = {
             @ApiResponse(responseCode = "200", description = "List of Tasks.",
+                headers = {
+                    @Header(name = NEXT_CURSOR_HEADER, description = "When paging, the cursor to pass to fetch the "
+                        + "next page. Not returned on the last page.")},
                 content = {
                     @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(
                         schema = @Schema(implementation = TaskDetail.class)))}),
@@ -66,7 +119,7 @@ public class TasksController {
                 content = {
                     @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
                         schema = @Schema(implementation = UnauthorisedError.class))}),
-            @ApiResponse(responseCode = "404", description = "Not Found",
+            @ApiResponse(responseCode = "404", description = "Not Found (only when not paging)",
                 content = {
                     @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
                         schema = @Schema(implementation = NotFoundError.class))}),
@@ -74,6 +127,8 @@ public class TasksController {
                 content = {
                     @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
                         schema = @Schema(implementation = InternalServerError.class))})})
+    @SuppressWarnings("PMD.LawOfDemeter")
+    @MetaDataFilter(keyIndex = 5, valueIndex = 6)
     public ResponseEntity<List<TaskDetail>> getTasks(
         @RequestParam(name = "from_date", required = false) @Schema(name = "from_date", description =
             "The date at which we should "
@@ -83,9 +138,92 @@ public class TasksController {
             + "for. (If none provided all Jobs will be searched)")
         @Pattern(regexp = APIConstants.JOB_KEY_REGEX) @Valid String jobKey,
         @RequestParam(name = "status", required = false) @Schema(name = "status", description = "The statuses to "
-            + "filter by") @Valid Set<@NotNull Status> statuses) {
+            + "filter by") @Valid Set<@NotNull Status> statuses,
+        @RequestParam(name = "cursor", required = false) @Schema(name = "cursor", type = "string", description =
+            "The " + NEXT_CURSOR_HEADER + " header of the previous page, to fetch the next page. The cursor keeps "
+                + "the from date of the first page.")
+        TaskSearchCursor cursor,
+        @RequestParam(name = "limit", required = false) @Schema(name = "limit", description = "The maximum number of "
+            + "tasks to return. When provided (or when cursor is provided) tasks are returned a page at a time in "
+            + "created date then task id order.", defaultValue = "100")
+        @Min(1) @Max(APIConstants.TASK_SEARCH_MAX_LIMIT) @Valid Integer limit,
+        @RequestParam(name = "meta_data_key", required = false) @Schema(name = "meta_data_key", description =
+            "Only return tasks whose meta data holds this key")
+        @Size(max = APIConstants.DEFAULT_MAX_LENGTH_LONG) @Valid String metaDataKey,
+        @RequestParam(name = "meta_data_value", required = false) @Schema(name = "meta_data_value", description =
+            "Only return tasks whose meta data key (required, see meta_data_key) holds this value")
+        @Size(max = APIConstants.DEFAULT_MAX_LENGTH_LONG) @Valid String metaDataValue) {
+
+        final TaskSearchFilter searchFilter = TaskSearchFilter.builder().jobKey(jobKey).fromDate(fromDate)
+            .statuses(statuses).cursor(cursor).limit(limit).metaDataKey(metaDataKey).metaDataValue(metaDataValue)
+            .build();
+        if (cursor == null && limit == null) {
+            return ResponseEntity.ok(taskMapper.toTaskList(taskService.getTasks(searchFilter)));
+        }
+        final TaskSearchPage page = taskService.getTaskPage(searchFilter);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+        }
+        return response.body(taskMapper.toTaskList(page.getTasks()));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('" + PermissionConstants.Task.SEARCH + "')")
+    @Operation(summary = "Exports tasks as newline delimited JSON",
+        description = "Streams the details of every matching task, one JSON document per line, ordered by creation "
+            + "date",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Newline delimited Tasks.",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                        schema = @Schema(implementation = TaskDetail.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid Parameters",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InvalidPayloadError.class))}),
+            @ApiResponse(responseCode = "401", description = "Unauthorised",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = UnauthorisedError.class))}),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                content = {
+                    @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                        schema = @Schema(implementation = InternalServerError.class))})})
+    @MetaDataFilter(keyIndex = 3, valueIndex = 4)
+    public void exportTasks(
+        @RequestParam(name = "from_date", required = false) @Schema(name = "from_date", description =
+            "The date at which we should "
+                + "return any tasks from.", defaultValue = "Today's date minus 7 days")
+        @Valid LocalDateTime fromDate,
+        @RequestParam(name = "job_key", required = false) @Schema(name = "job_key", description = "The job to export "
+            + "tasks for. (If none provided all Jobs will be exported)")
+        @Pattern(regexp = APIConstants.JOB_KEY_REGEX) @Valid String jobKey,
+        @RequestParam(name = "status", required = false) @Schema(name = "status", description = "The statuses to "
+            + "filter by") @Valid Set<@NotNull Status> statuses,
+        @RequestParam(name = "meta_data_key", required = false) @Schema(name = "meta_data_key", description =
+            "Only export tasks whose meta data holds this key")
+        @Size(max = APIConstants.DEFAULT_MAX_LENGTH_LONG) @Valid String metaDataKey,
+        @RequestParam(name = "meta_data_value", required = false) @Schema(name = "meta_data_value", description =
+            "Only export tasks whose meta data key (required, see meta_data_key) holds this value")
+        @Size(max = APIConstants.DEFAULT_MAX_LENGTH_LONG) @Valid String metaDataValue,
+        HttpServletResponse response) throws IOException {
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        final OutputStream outputStream = response.getOutputStream();
+        taskService.exportTasks(
+            TaskSearchFilter.builder().jobKey(jobKey).fromDate(fromDate).statuses(statuses)
+                .metaDataKey(metaDataKey).metaDataValue(metaDataValue).build(),
+            task -> writeLine(outputStream, taskMapper.toTask(task)));
+        outputStream.flush();
+    }
 
-        return ResponseEntity.ok(taskMapper.toTaskList(taskService.getTasks(
-            TaskSearchFilter.builder().jobKey(jobKey).fromDate(fromDate).statuses(statuses).build())));
+    private void writeLine(OutputStream outputStream, TaskDetail taskDetail) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(taskDetail));
+            outputStream.write('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write task: " + taskDetail.getTaskId(), exception);
+        }
     }
 }
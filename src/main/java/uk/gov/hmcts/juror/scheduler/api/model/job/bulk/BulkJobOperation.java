@@ -0,0 +1,8 @@
+package uk.gov.hmcts.juror.scheduler.api.model.job.bulk;
+
+public enum BulkJobOperation {
+    ENABLE,
+    DISABLE,
+    PAUSE,
+    RESUME
+}
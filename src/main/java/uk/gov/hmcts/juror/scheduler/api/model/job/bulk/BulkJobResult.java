@@ -0,0 +1,51 @@
+package uk.gov.hmcts.juror.scheduler.api.model.job.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkJobResult {
+
+    @JsonProperty("job_key")
+    @Schema(description = "The Job this result relates too")
+    private String jobKey;
+
+    @Schema(description = "The outcome for this Job")
+    private Result result;
+
+    @Schema(description = "Why the Job was not processed (only present when it was not)")
+    private String message;
+
+    public enum Result {
+        CREATED,
+        KEY_ALREADY_IN_USE,
+        DUPLICATE_KEY,
+        ENABLED,
+        DISABLED,
+        PAUSED,
+        RESUMED,
+        NOT_FOUND,
+        NOT_A_SCHEDULED_JOB,
+        ALREADY_ENABLED,
+        ALREADY_DISABLED
+    }
+
+    public static BulkJobResult of(String jobKey, Result result) {
+        return new BulkJobResult(jobKey, result, null);
+    }
+
+    public static BulkJobResult of(String jobKey, Result result, String message) {
+        return new BulkJobResult(jobKey, result, message);
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.juror.scheduler.api.model.job.bulk;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.validator.constraints.Length;
+import uk.gov.hmcts.juror.scheduler.api.APIConstants;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobTarget {
+
+    @JsonProperty("job_keys")
+    @Size(max = APIConstants.BULK_MAX_SIZE)
+    @Schema(description = "The keys of the Jobs to update")
+    private Set<@NotNull @Pattern(regexp = APIConstants.JOB_KEY_REGEX) String> jobKeys;
+
+    @Size(max = APIConstants.BULK_MAX_SIZE)
+    @Schema(description = "Jobs with any of these tags are updated")
+    private Set<@Length(max = APIConstants.DEFAULT_MAX_LENGTH_SHORT) @NotBlank String> tags;
+
+    @JsonIgnore
+    @AssertTrue(message = "job_keys or tags must be provided")
+    public boolean isTargetProvided() {
+        return (jobKeys != null && !jobKeys.isEmpty()) || (tags != null && !tags.isEmpty());
+    }
+}
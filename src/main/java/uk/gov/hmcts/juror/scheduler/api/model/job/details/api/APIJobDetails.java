@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -52,6 +53,11 @@ public class APIJobDetails extends JobDetails {
     @Length(min = 1, max = APIConstants.DEFAULT_MAX_LENGTH_LONG)
     private String payload;
 
+    @Schema(description = "The bulkhead that limits how many executions of this and other jobs in the same bulkhead "
+        + "can run at once. If not present the job is limited along with every other job calling the same host.")
+    @Pattern(regexp = APIConstants.BULKHEAD_REGEX)
+    private String bulkhead;
+
     @Schema(description = "A list of validations that should be applied to the response after the API request has "
         + "been made. If any of these fail the task will fail.")
     @NotEmpty
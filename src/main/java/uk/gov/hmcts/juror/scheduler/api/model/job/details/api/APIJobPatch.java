@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -50,6 +51,11 @@ public class APIJobPatch extends JobPatch {
     @Length(min = 1, max = APIConstants.DEFAULT_MAX_LENGTH_LONG)
     private String payload;
 
+    @Schema(description = "The bulkhead that limits how many executions of this and other jobs in the same bulkhead "
+        + "can run at once")
+    @Pattern(regexp = APIConstants.BULKHEAD_REGEX)
+    private String bulkhead;
+
     @Size(min = 1, max = APIConstants.DEFAULT_MAX_LENGTH_SHORT)
     private List<@Valid  ? extends APIValidation> validations;
 
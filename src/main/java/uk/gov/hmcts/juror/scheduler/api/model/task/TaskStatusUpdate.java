@@ -0,0 +1,32 @@
+package uk.gov.hmcts.juror.scheduler.api.model.task;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.juror.scheduler.api.APIConstants;
+import uk.gov.hmcts.juror.scheduler.api.model.job.details.StatusUpdate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskStatusUpdate extends StatusUpdate {
+
+    @NotNull
+    @Pattern(regexp = APIConstants.JOB_KEY_REGEX)
+    @JsonProperty("job_key")
+    @Schema(description = "The Job the task belongs too")
+    private String jobKey;
+
+    @NotNull
+    @Min(APIConstants.TASK_ID_MIN)
+    @Max(APIConstants.TASK_ID_MAX)
+    @JsonProperty("task_id")
+    @Schema(description = "The task to update")
+    private Long taskId;
+}
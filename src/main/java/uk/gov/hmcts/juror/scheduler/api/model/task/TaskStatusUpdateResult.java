@@ -0,0 +1,39 @@
+package uk.gov.hmcts.juror.scheduler.api.model.task;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+public class TaskStatusUpdateResult {
+
+    @JsonProperty("job_key")
+    private String jobKey;
+
+    @JsonProperty("task_id")
+    private Long taskId;
+
+    @Schema(description = "The outcome for this status update")
+    private Result result;
+
+    public enum Result {
+        UPDATED,
+        NOT_FOUND,
+        /**
+         * Only given to buffered updates, which are never returned by the API.
+         */
+        SKIPPED
+    }
+
+    public static TaskStatusUpdateResult of(TaskStatusUpdate statusUpdate, Result result) {
+        return new TaskStatusUpdateResult(statusUpdate.getJobKey(), statusUpdate.getTaskId(), result);
+    }
+}
@@ -4,13 +4,31 @@ import io.restassured.path.json.JsonPath;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class JsonPathValidator
     implements ConstraintValidator<uk.gov.hmcts.juror.scheduler.api.validation.JsonPath, String> {
+    static final int MAX_CACHED_PATHS = 1000;
+    //Jobs are created and updated with the same handful of paths so each is only checked once
+    private static final Map<String, Boolean> VALIDATED_PATHS = new ConcurrentHashMap<>();
+
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
         if (value == null) {
             return true;
         }
+        Boolean valid = VALIDATED_PATHS.get(value);
+        if (valid == null) {
+            valid = isValidPath(value);
+            if (VALIDATED_PATHS.size() < MAX_CACHED_PATHS) {
+                VALIDATED_PATHS.put(value, valid);
+            }
+        }
+        return valid;
+    }
+
+    private boolean isValidPath(String value) {
         try {
             final JsonPath jsonPath = JsonPath.given("{\"test\":true}");
             jsonPath.get(value);
@@ -19,4 +37,8 @@ public class JsonPathValidator
         }
         return true;
     }
-}
\ No newline at end of file
+
+    static int cachedPathCount() {
+        return VALIDATED_PATHS.size();
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.juror.scheduler.api.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Checks a meta data value filter is only given alongside the meta data key it applies to. The indexes are the
+ * positions of the key and value among the annotated method's parameters.
+ */
+@Documented
+@Constraint(validatedBy = MetaDataFilterValidator.class)
+@Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MetaDataFilter {
+    String message() default "meta_data_key must be provided with meta_data_value";
+
+    int keyIndex();
+
+    int valueIndex();
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.juror.scheduler.api.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraintvalidation.SupportedValidationTarget;
+import jakarta.validation.constraintvalidation.ValidationTarget;
+
+@SupportedValidationTarget(ValidationTarget.PARAMETERS)
+public class MetaDataFilterValidator implements
+    ConstraintValidator<MetaDataFilter, Object[]> {
+    private int keyIndex;
+    private int valueIndex;
+
+    @Override
+    public void initialize(MetaDataFilter constraintAnnotation) {
+        this.keyIndex = constraintAnnotation.keyIndex();
+        this.valueIndex = constraintAnnotation.valueIndex();
+    }
+
+    @Override
+    public boolean isValid(Object[] value, ConstraintValidatorContext context) {
+        return value[valueIndex] == null || value[keyIndex] != null;
+    }
+}
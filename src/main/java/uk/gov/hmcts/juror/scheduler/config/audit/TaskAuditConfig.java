@@ -0,0 +1,41 @@
+package uk.gov.hmcts.juror.scheduler.config.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.envers.boot.internal.EnversIntegrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Applies the configured {@link TaskAuditMode}. In FULL mode Envers is left to register its own listeners, otherwise
+ * its auto registration is turned off and {@link TaskAuditIntegrator} registers listeners that bypass Envers for tasks.
+ *
+ * <p>The writer is looked up lazily as it depends on the transaction manager, which in turn needs the entity manager
+ * factory being configured here.
+ */
+@Configuration
+@Slf4j
+public class TaskAuditConfig {
+    static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    @Bean
+    public HibernatePropertiesCustomizer taskAuditHibernatePropertiesCustomizer(
+        @Value("${scheduler.task-audit.mode:FULL}") TaskAuditMode taskAuditMode,
+        ObjectProvider<TaskAuditWriter> taskAuditWriter) {
+        return properties -> {
+            if (taskAuditMode == TaskAuditMode.FULL) {
+                return;
+            }
+            log.info("Task auditing mode: " + taskAuditMode);
+            properties.put(EnversIntegrator.AUTO_REGISTER, "false");
+            properties.put(INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new TaskAuditIntegrator(taskAuditMode,
+                    taskAuditRecord -> taskAuditWriter.getObject().enqueue(taskAuditRecord))));
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package uk.gov.hmcts.juror.scheduler.config.audit;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.event.spi.EnversListenerDuplicationStrategy;
+import org.hibernate.envers.event.spi.EnversPostCollectionRecreateEventListenerImpl;
+import org.hibernate.envers.event.spi.EnversPostDeleteEventListenerImpl;
+import org.hibernate.envers.event.spi.EnversPostInsertEventListenerImpl;
+import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
+import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
+import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
+import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PreCollectionRemoveEvent;
+import org.hibernate.event.spi.PreCollectionUpdateEvent;
+import org.hibernate.event.spi.PreUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+
+import java.util.function.Consumer;
+
+/**
+ * Registers the Envers listeners in place of Envers' own auto registration (disabled by {@link TaskAuditConfig}) so
+ * changes to {@link TaskEntity} can bypass Envers. Every other audited entity is passed straight through to Envers.
+ *
+ * <p>In {@link TaskAuditMode#ASYNC} task changes are handed to the audit sink (the {@link TaskAuditWriter}) once their
+ * transaction commits, in {@link TaskAuditMode#NONE} they are ignored.
+ */
+@SuppressWarnings("PMD.LawOfDemeter")
+public class TaskAuditIntegrator implements Integrator {
+    private final TaskAuditMode taskAuditMode;
+    private final Consumer<TaskAuditRecord> taskAuditSink;
+
+    public TaskAuditIntegrator(TaskAuditMode taskAuditMode, Consumer<TaskAuditRecord> taskAuditSink) {
+        this.taskAuditMode = taskAuditMode;
+        this.taskAuditSink = taskAuditSink;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        final ServiceRegistry serviceRegistry = sessionFactory.getServiceRegistry();
+        final EnversService enversService = serviceRegistry.getService(EnversService.class);
+        if (enversService == null || !enversService.isEnabled()
+            || !enversService.getEntitiesConfigurations().hasAuditedEntities()) {
+            return;
+        }
+        final EventListenerRegistry listenerRegistry = serviceRegistry.getService(EventListenerRegistry.class);
+        listenerRegistry.addDuplicationStrategy(EnversListenerDuplicationStrategy.INSTANCE);
+        listenerRegistry.appendListeners(EventType.POST_DELETE, new PostDeleteListener(enversService));
+        listenerRegistry.appendListeners(EventType.POST_INSERT, new PostInsertListener(enversService));
+        listenerRegistry.appendListeners(EventType.PRE_UPDATE, new PreUpdateListener(enversService));
+        listenerRegistry.appendListeners(EventType.POST_UPDATE, new PostUpdateListener(enversService));
+        listenerRegistry.appendListeners(EventType.POST_COLLECTION_RECREATE,
+            new PostCollectionRecreateListener(enversService));
+        listenerRegistry.appendListeners(EventType.PRE_COLLECTION_REMOVE,
+            new PreCollectionRemoveListener(enversService));
+        listenerRegistry.appendListeners(EventType.PRE_COLLECTION_UPDATE,
+            new PreCollectionUpdateListener(enversService));
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory,
+                             SessionFactoryServiceRegistry serviceRegistry) {
+        //Nothing to release
+    }
+
+    void record(EventSource session, TaskEntity task, RevisionType revisionType) {
+        if (taskAuditMode != TaskAuditMode.ASYNC) {
+            return;
+        }
+        final TaskAuditRecord taskAuditRecord = TaskAuditRecord.of(task, revisionType);
+        session.getActionQueue().registerProcess((success, completedSession) -> {
+            if (success) {
+                taskAuditSink.accept(taskAuditRecord);
+            }
+        });
+    }
+
+    private class PostInsertListener extends EnversPostInsertEventListenerImpl {
+        PostInsertListener(EnversService enversService) {
+            super(enversService);
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            if (event.getEntity() instanceof TaskEntity task) {
+                record(event.getSession(), task, RevisionType.ADD);
+            } else {
+                super.onPostInsert(event);
+            }
+        }
+    }
+
+    private class PreUpdateListener extends EnversPreUpdateEventListenerImpl {
+        PreUpdateListener(EnversService enversService) {
+            super(enversService);
+        }
+
+        @Override
+        public boolean onPreUpdate(PreUpdateEvent event) {
+            return !(event.getEntity() instanceof TaskEntity) && super.onPreUpdate(event);
+        }
+    }
+
+    private class PostUpdateListener extends EnversPostUpdateEventListenerImpl {
+        PostUpdateListener(EnversService enversService) {
+            super(enversService);
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            if (event.getEntity() instanceof TaskEntity task) {
+                record(event.getSession(), task, RevisionType.MOD);
+            } else {
+                super.onPostUpdate(event);
+            }
+        }
+    }
+
+    private class PostDeleteListener extends EnversPostDeleteEventListenerImpl {
+        PostDeleteListener(EnversService enversService) {
+            super(enversService);
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            if (event.getEntity() instanceof TaskEntity task) {
+                record(event.getSession(), task, RevisionType.DEL);
+            } else {
+                super.onPostDelete(event);
+            }
+        }
+    }
+
+    private static class PostCollectionRecreateListener extends EnversPostCollectionRecreateEventListenerImpl {
+        PostCollectionRecreateListener(EnversService enversService) {
+            super(enversService);
+        }
+
+        @Override
+        public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+            if (!(event.getAffectedOwnerOrNull() instanceof TaskEntity)) {
+                super.onPostRecreateCollection(event);
+            }
+        }
+    }
+
+    private static class PreCollectionRemoveListener extends EnversPreCollectionRemoveEventListenerImpl {
+        PreCollectionRemoveListener(EnversService enversService) {
+            super(enversService);
+        }
+
+        @Override
+        public void onPreRemoveCollection(PreCollectionRemoveEvent event) {
+            if (!(event.getAffectedOwnerOrNull() instanceof TaskEntity)) {
+                super.onPreRemoveCollection(event);
+            }
+        }
+    }
+
+    private static class PreCollectionUpdateListener extends EnversPreCollectionUpdateEventListenerImpl {
+        PreCollectionUpdateListener(EnversService enversService) {
+            super(enversService);
+        }
+
+        @Override
+        public void onPreUpdateCollection(PreCollectionUpdateEvent event) {
+            if (!(event.getAffectedOwnerOrNull() instanceof TaskEntity)) {
+                super.onPreUpdateCollection(event);
+            }
+        }
+    }
+}
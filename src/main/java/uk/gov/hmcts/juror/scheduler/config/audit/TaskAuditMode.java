@@ -0,0 +1,21 @@
+package uk.gov.hmcts.juror.scheduler.config.audit;
+
+/**
+ * How changes to {@link uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity} are audited. Other audited entities
+ * always use Envers.
+ */
+public enum TaskAuditMode {
+    /**
+     * Envers writes a revision (including the meta data) in the same transaction as every task change.
+     */
+    FULL,
+    /**
+     * Task revisions are buffered once the transaction commits and written in JDBC batches by {@link TaskAuditWriter}.
+     * Meta data changes are not audited.
+     */
+    ASYNC,
+    /**
+     * Task changes are not audited.
+     */
+    NONE
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.juror.scheduler.config.audit;
+
+import org.hibernate.envers.RevisionType;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of a task change waiting to be written to task_entity_aud.
+ */
+public record TaskAuditRecord(long taskId, RevisionType revisionType, Status status, LocalDateTime createdAt,
+                              LocalDateTime lastUpdatedAt, String jobKey, String message, String postActionsMessage) {
+
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public static TaskAuditRecord of(TaskEntity task, RevisionType revisionType) {
+        if (revisionType == RevisionType.DEL) {
+            //Matches Envers, which does not store the data of deleted entities
+            return new TaskAuditRecord(task.getTaskId(), revisionType, null, null, null, null, null, null);
+        }
+        return new TaskAuditRecord(task.getTaskId(), revisionType, task.getStatus(), task.getCreatedAt(),
+            task.getLastUpdatedAt(), task.getJob() == null ? null : task.getJob().getKey(), task.getMessage(),
+            task.getPostActionsMessage());
+    }
+}
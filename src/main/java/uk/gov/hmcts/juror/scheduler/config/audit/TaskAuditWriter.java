@@ -0,0 +1,149 @@
+package uk.gov.hmcts.juror.scheduler.config.audit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers task revisions when the task audit mode is {@link TaskAuditMode#ASYNC} and writes them to task_entity_aud
+ * in JDBC batches, off the thread that changed the task. Each flush creates one revision per round of changes, a task
+ * changed several times between flushes gets a revision per change so its status history is kept.
+ *
+ * <p>The buffer is bounded, if it fills (e.g. the database is unavailable) further revisions are discarded and
+ * counted, as task history is informational only.
+ */
+@Component
+@Slf4j
+@SuppressWarnings("PMD.LawOfDemeter")
+public class TaskAuditWriter {
+    static final int AUDIT_MESSAGE_MAX_LENGTH = 255;
+    private static final String INSERT_REVISION = "INSERT INTO revinfo (rev, revtstmp) VALUES (?, ?)";
+    private static final String INSERT_TASK_REVISION = "INSERT INTO task_entity_aud (rev, revtype, status, created_at, "
+        + "last_updated_at, task_id, job_key, message, post_actions_message) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<TaskAuditRecord> buffer;
+    private final int batchSize;
+    private final AtomicLong discarded = new AtomicLong();
+
+    @Autowired
+    public TaskAuditWriter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${scheduler.task-audit.buffer-capacity:10000}") int bufferCapacity,
+                           @Value("${scheduler.task-audit.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new LinkedBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    public void enqueue(TaskAuditRecord taskAuditRecord) {
+        if (!buffer.offer(taskAuditRecord)) {
+            long total = discarded.incrementAndGet();
+            if (total == 1 || total % 1000 == 0) {
+                log.warn("Task audit buffer is full, " + total + " task revisions have been discarded");
+            }
+        }
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    public long getDiscardedCount() {
+        return discarded.get();
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.task-audit.flush-interval:1000}")
+    public void flush() {
+        List<TaskAuditRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                write(batch);
+            } catch (Exception exception) {
+                log.error("Failed to write " + batch.size() + " task revisions", exception);
+            }
+            batch.clear();
+        }
+    }
+
+    void write(List<TaskAuditRecord> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (List<TaskAuditRecord> round : splitIntoRounds(batch)) {
+                Integer revision = jdbcTemplate.queryForObject("SELECT nextval('revinfo_seq')", Integer.class);
+                jdbcTemplate.update(INSERT_REVISION, revision, System.currentTimeMillis());
+                jdbcTemplate.batchUpdate(INSERT_TASK_REVISION, round.stream()
+                    .map(taskAuditRecord -> toParameters(revision, taskAuditRecord))
+                    .toList());
+            }
+        });
+    }
+
+    /**
+     * task_entity_aud is keyed on (rev, task_id) so a revision can only hold one change per task. Changes are
+     * allocated, in order, to the first round that does not already hold a change to the same task.
+     */
+    static List<List<TaskAuditRecord>> splitIntoRounds(List<TaskAuditRecord> batch) {
+        List<List<TaskAuditRecord>> rounds = new ArrayList<>();
+        List<Set<Long>> roundTaskIds = new ArrayList<>();
+        for (TaskAuditRecord taskAuditRecord : batch) {
+            int index = 0;
+            while (index < rounds.size() && roundTaskIds.get(index).contains(taskAuditRecord.taskId())) {
+                index++;
+            }
+            if (index == rounds.size()) {
+                rounds.add(new ArrayList<>());
+                roundTaskIds.add(new HashSet<>());
+            }
+            rounds.get(index).add(taskAuditRecord);
+            roundTaskIds.get(index).add(taskAuditRecord.taskId());
+        }
+        return rounds;
+    }
+
+    private Object[] toParameters(Integer revision, TaskAuditRecord taskAuditRecord) {
+        return new Object[]{
+            revision,
+            taskAuditRecord.revisionType().getRepresentation(),
+            taskAuditRecord.status() == null ? null : taskAuditRecord.status().name(),
+            toTimestamp(taskAuditRecord.createdAt()),
+            toTimestamp(taskAuditRecord.lastUpdatedAt()),
+            taskAuditRecord.taskId(),
+            taskAuditRecord.jobKey(),
+            truncate(taskAuditRecord.message()),
+            truncate(taskAuditRecord.postActionsMessage())
+        };
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+    private String truncate(String message) {
+        return message == null || message.length() <= AUDIT_MESSAGE_MAX_LENGTH
+            ? message
+            : message.substring(0, AUDIT_MESSAGE_MAX_LENGTH);
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        flush();
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.juror.scheduler.config.http;
+
+import org.apache.http.conn.DnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches successful lookups for a fixed time so opening a new pooled connection to a known host does not wait on
+ * DNS. Failed lookups are not cached.
+ */
+public class CachingDnsResolver implements DnsResolver {
+    private final DnsResolver delegate;
+    private final long timeToLive;
+    private final LongSupplier clock;
+    private final Map<String, CachedAddresses> cache = new ConcurrentHashMap<>();
+
+    public CachingDnsResolver(DnsResolver delegate, long timeToLive) {
+        this(delegate, timeToLive, System::currentTimeMillis);
+    }
+
+    CachingDnsResolver(DnsResolver delegate, long timeToLive, LongSupplier clock) {
+        this.delegate = delegate;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        final long now = clock.getAsLong();
+        CachedAddresses cachedAddresses = cache.get(host);
+        if (cachedAddresses == null || cachedAddresses.expiresAt() <= now) {
+            cachedAddresses = new CachedAddresses(delegate.resolve(host), now + timeToLive);
+            cache.put(host, cachedAddresses);
+        }
+        return cachedAddresses.addresses().clone();
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private record CachedAddresses(InetAddress[] addresses, long expiresAt) {
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.juror.scheduler.config.http;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared connection pool used for all outbound job calls. Connections are pooled and kept alive between executions so
+ * jobs that repeatedly call the same host reuse an open (and already TLS negotiated) connection instead of paying for
+ * a new handshake each time.
+ *
+ * <p>Each request gets its own client over the pool, as RestAssured changes the client's interceptors and parameters
+ * on every request so a client shared between concurrent executions is not safe.
+ */
+@Component
+@Slf4j
+@SuppressWarnings("deprecation")//RestAssured only supports the HttpClient 4 classic client API
+public class OutboundHttpClient {
+    private final PoolingClientConnectionManager connectionManager;
+    private final long keepAlive;
+    @Getter
+    private final RestAssuredConfig restAssuredConfig;
+
+    @Autowired
+    public OutboundHttpClient(
+        @Value("${scheduler.execution.http-client.max-connections:50}") int maxConnections,
+        @Value("${scheduler.execution.http-client.max-connections-per-host:10}") int maxConnectionsPerHost,
+        @Value("${scheduler.execution.http-client.keep-alive:60000}") long keepAlive,
+        @Value("${scheduler.execution.http-client.connection-time-to-live:300000}") long connectionTimeToLive,
+        @Value("${scheduler.execution.http-client.dns-cache-ttl:60000}") long dnsCacheTimeToLive) {
+        this(new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault(),
+            connectionTimeToLive, TimeUnit.MILLISECONDS,
+            new CachingDnsResolver(SystemDefaultDnsResolver.INSTANCE, dnsCacheTimeToLive)),
+            maxConnections, maxConnectionsPerHost, keepAlive);
+    }
+
+    OutboundHttpClient(PoolingClientConnectionManager connectionManager, int maxConnections,
+                       int maxConnectionsPerHost, long keepAlive) {
+        this.connectionManager = connectionManager;
+        this.keepAlive = keepAlive;
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+        this.restAssuredConfig = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(this::createHttpClient));
+        log.info("Outbound HTTP client pool created with a limit of " + maxConnections + " connections ("
+            + maxConnectionsPerHost + " per host)");
+    }
+
+    DefaultHttpClient createHttpClient() {
+        final DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+        });
+        return httpClient;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.execution.http-client.keep-alive:60000}")
+    public void evictIdleConnections() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(keepAlive, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        connectionManager.shutdown();
+    }
+}
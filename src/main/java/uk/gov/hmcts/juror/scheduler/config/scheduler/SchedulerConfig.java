@@ -1,5 +1,6 @@
 package uk.gov.hmcts.juror.scheduler.config.scheduler;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -15,16 +16,26 @@ import javax.sql.DataSource;
  */
 @Configuration
 public class SchedulerConfig {
+    static final String THREAD_COUNT = "org.quartz.threadPool.threadCount";
+    static final String BATCH_MAX_COUNT = "org.quartz.scheduler.batchTriggerAcquisitionMaxCount";
+    static final String BATCH_FIRE_AHEAD_WINDOW = "org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow";
+    static final String ACQUIRE_TRIGGERS_WITHIN_LOCK = "org.quartz.jobStore.acquireTriggersWithinLock";
+    private static final int DEFAULT_THREAD_COUNT = 10;
+
     @Bean
-    public SchedulerFactoryBean schedulerFactoryBean(DataSource dataSource,
-                                                     ApplicationContext applicationContext,
-                                                     QuartzProperties quartzProperties) {
+    public SchedulerFactoryBean schedulerFactoryBean(
+        DataSource dataSource,
+        ApplicationContext applicationContext,
+        QuartzProperties quartzProperties,
+        @Value("${scheduler.trigger-acquisition.max-batch-size:0}") int maxBatchSize,
+        @Value("${scheduler.trigger-acquisition.fire-ahead-window:0}") long fireAheadWindow) {
         SpringBeanJobFactory jobFactory = new SpringBeanJobFactory();
         jobFactory.setApplicationContext(applicationContext);
 
         Properties properties = new Properties();
         properties.putAll(quartzProperties.getProperties());
         properties.put("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.PostgreSQLDelegate");
+        properties.putAll(triggerAcquisitionProperties(properties, maxBatchSize, fireAheadWindow));
 
         SchedulerFactoryBean factory = new SchedulerFactoryBean();
         factory.setOverwriteExistingJobs(true);
@@ -33,4 +44,28 @@ public class SchedulerConfig {
         factory.setJobFactory(jobFactory);
         return factory;
     }
+
+    /**
+     * Lets the scheduler acquire up to a batch of due triggers per QRTZ_LOCKS row lock instead of one, so triggers due
+     * at the same time (e.g. midnight) are not acquired one lock round trip at a time. Triggers due within the fire
+     * ahead window of the first are acquired (and fired) with it.
+     *
+     * <p>A batch can never fire more jobs than there are free threads, so the batch size is capped at (and by default
+     * matches) the thread count.
+     */
+    public static Properties triggerAcquisitionProperties(Properties quartzProperties, int maxBatchSize,
+                                                          long fireAheadWindow) {
+        final int threadCount = Integer.parseInt(
+            quartzProperties.getProperty(THREAD_COUNT, String.valueOf(DEFAULT_THREAD_COUNT)));
+        final int batchSize = maxBatchSize > 0 ? Math.min(maxBatchSize, threadCount) : threadCount;
+
+        Properties properties = new Properties();
+        properties.put(BATCH_MAX_COUNT, String.valueOf(batchSize));
+        properties.put(BATCH_FIRE_AHEAD_WINDOW, String.valueOf(fireAheadWindow));
+        if (batchSize > 1) {
+            //Required with batches larger than one so clustered nodes do not acquire the same trigger
+            properties.put(ACQUIRE_TRIGGERS_WITHIN_LOCK, "true");
+        }
+        return properties;
+    }
 }
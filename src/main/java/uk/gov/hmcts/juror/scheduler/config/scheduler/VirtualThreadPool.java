@@ -0,0 +1,168 @@
+package uk.gov.hmcts.juror.scheduler.config.scheduler;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Quartz {@link ThreadPool} that runs each job on its own virtual thread. The number of jobs running at once is
+ * capped by {@code threadCount}, so this can be swapped in for {@link org.quartz.simpl.SimpleThreadPool} via
+ * {@code spring.quartz.properties.org.quartz.threadPool.class} without changing any other pool property.
+ */
+@Slf4j
+public class VirtualThreadPool implements ThreadPool {
+    private final ReentrantLock availabilityLock = new ReentrantLock();
+    private final Condition permitReleased = availabilityLock.newCondition();
+
+    @Getter
+    @Setter
+    private int threadCount = -1;
+    @Getter
+    @Setter
+    private String threadNamePrefix;
+    @Getter
+    @Setter
+    private boolean threadsInheritContextClassLoaderOfInitializingThread;
+
+    private String schedulerInstanceName;
+    private Semaphore permits;
+    private ExecutorService executorService;
+    private ClassLoader initializingClassLoader;
+    private volatile boolean shutdown;
+
+    /**
+     * Accepted so the pool can be configured with the same properties as SimpleThreadPool, virtual threads always
+     * run at normal priority.
+     */
+    public void setThreadPriority(int threadPriority) {
+        log.debug("Ignoring thread priority " + threadPriority + " for virtual thread pool");
+    }
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (threadCount <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+        if (threadNamePrefix == null) {
+            threadNamePrefix = (schedulerInstanceName == null ? "QuartzScheduler" : schedulerInstanceName)
+                + "_VirtualWorker-";
+        }
+        if (threadsInheritContextClassLoaderOfInitializingThread) {
+            initializingClassLoader = Thread.currentThread().getContextClassLoader();
+        }
+        permits = new Semaphore(threadCount);
+        executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+        log.info("Initialized virtual thread pool with a limit of " + threadCount + " concurrent jobs");
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null) {
+            return false;
+        }
+        if (shutdown) {
+            //Same as SimpleThreadPool, work handed over during shutdown still runs so its triggers complete normally
+            Thread.ofVirtual().name(threadNamePrefix + "shutdown").start(runnable);
+            return true;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            executorService.execute(() -> runWithPermit(runnable));
+        } catch (RejectedExecutionException exception) {
+            releasePermit();
+            Thread.ofVirtual().name(threadNamePrefix + "shutdown").start(runnable);
+        }
+        return true;
+    }
+
+    private void runWithPermit(Runnable runnable) {
+        try {
+            if (initializingClassLoader != null) {
+                Thread.currentThread().setContextClassLoader(initializingClassLoader);
+            }
+            runnable.run();
+        } finally {
+            releasePermit();
+        }
+    }
+
+    private void releasePermit() {
+        permits.release();
+        availabilityLock.lock();
+        try {
+            permitReleased.signalAll();
+        } finally {
+            availabilityLock.unlock();
+        }
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        availabilityLock.lock();
+        try {
+            while (permits.availablePermits() < 1 && !shutdown) {
+                permitReleased.await(500, TimeUnit.MILLISECONDS);
+            }
+            return permits.availablePermits();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return permits.availablePermits();
+        } finally {
+            availabilityLock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        shutdown = true;
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        if (waitForJobsToComplete) {
+            try {
+                while (!executorService.awaitTermination(1, TimeUnit.SECONDS)) {
+                    log.debug("Waiting for " + (threadCount - permits.availablePermits()) + " jobs to complete");
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        availabilityLock.lock();
+        try {
+            permitReleased.signalAll();
+        } finally {
+            availabilityLock.unlock();
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return threadCount;
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        //Not required, thread names are derived from the instance name
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.schedulerInstanceName = schedName;
+    }
+}
@@ -0,0 +1,40 @@
+package uk.gov.hmcts.juror.scheduler.datastore;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the jsonb functions used by task searches. Criteria queries cannot express the PostgreSQL jsonb operators
+ * directly, and only the operator forms (not the equivalent functions) can use a GIN index.
+ *
+ * <p>Registered through META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class JsonbFunctionContributor implements FunctionContributor {
+    /**
+     * (jsonb column, key, value) - true if the column contains the key with the value.
+     */
+    public static final String JSONB_CONTAINS_ENTRY = "jsonb_contains_entry";
+    /**
+     * (jsonb column, key) - true if the column holds the key.
+     */
+    public static final String JSONB_HAS_KEY = "jsonb_has_key";
+
+    @Override
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry()
+            .patternDescriptorBuilder(JSONB_CONTAINS_ENTRY, "(?1 @> jsonb_build_object(?2, ?3))")
+            .setExactArgumentCount(3)
+            .setInvariantType(booleanType)
+            .register();
+        functionContributions.getFunctionRegistry()
+            .patternDescriptorBuilder(JSONB_HAS_KEY, "jsonb_exists(?1, ?2)")
+            .setExactArgumentCount(2)
+            .setInvariantType(booleanType)
+            .register();
+    }
+}
@@ -1,6 +1,6 @@
 package uk.gov.hmcts.juror.scheduler.datastore.entity;
 
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -18,8 +18,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.logging.log4j.util.Strings;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.envers.Audited;
+import org.hibernate.type.SqlTypes;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.util.CollectionUtils;
 import uk.gov.hmcts.juror.scheduler.api.APIConstants;
@@ -41,12 +43,12 @@ import java.util.Map;
 public class TaskEntity {
     @Id
     @SequenceGenerator(name = "task_entity_task_id_seq_gen",
-        sequenceName = "task_entity_task_id_seq", allocationSize = 1)
+        sequenceName = "task_entity_task_id_seq", allocationSize = 50)
     @GeneratedValue(generator = "task_entity_task_id_seq_gen",
         strategy = GenerationType.SEQUENCE)
     private long taskId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @NotNull
     @Setter
     protected APIJobDetailsEntity job;
@@ -57,7 +59,13 @@ public class TaskEntity {
     @Length(min = 1, max = APIConstants.DEFAULT_MAX_LENGTH_LONG)
     private String postActionsMessage;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    /**
+     * Stored as jsonb and never written by entity updates, changes are merged in the database through
+     * {@link uk.gov.hmcts.juror.scheduler.datastore.repository.TaskRepository#mergeMetaData(long, LocalDateTime,
+     * Map)} so concurrent updates do not overwrite each other's keys.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb", updatable = false)
     private Map<@Length(min = 1, max = APIConstants.DEFAULT_MAX_LENGTH_LONG) String,
         @Length(min = 1, max = APIConstants.DEFAULT_MAX_LENGTH_LONG) String> metaData;
 
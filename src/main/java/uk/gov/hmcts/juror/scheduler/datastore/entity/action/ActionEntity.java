@@ -30,7 +30,7 @@ import uk.gov.hmcts.juror.scheduler.datastore.model.ConditionType;
 public abstract class ActionEntity {
 
     @Id
-    @SequenceGenerator(name = "action_entity_id_seq_gen", sequenceName = "action_entity_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "action_entity_id_seq_gen", sequenceName = "action_entity_id_seq", allocationSize = 50)
     @GeneratedValue(generator = "action_entity_id_seq_gen", strategy = GenerationType.SEQUENCE)
     private long id;
 
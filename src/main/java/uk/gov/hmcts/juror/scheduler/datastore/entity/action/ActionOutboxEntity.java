@@ -0,0 +1,53 @@
+package uk.gov.hmcts.juror.scheduler.datastore.entity.action;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import uk.gov.hmcts.juror.scheduler.api.APIConstants;
+
+import java.time.LocalDateTime;
+
+/**
+ * A post execution action that has been triggered by a task update and is waiting to be run.
+ */
+@Entity
+@Table(name = "action_outbox")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionOutboxEntity {
+    @Id
+    @SequenceGenerator(name = "action_outbox_id_seq_gen", sequenceName = "action_outbox_id_seq", allocationSize = 50)
+    @GeneratedValue(generator = "action_outbox_id_seq_gen", strategy = GenerationType.SEQUENCE)
+    private long id;
+
+    @NotNull
+    private Long actionId;
+
+    @NotNull
+    private Long taskId;
+
+    private int attempts;
+
+    @Column(length = APIConstants.DEFAULT_MAX_LENGTH_LONG)
+    private String lastError;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @NotNull
+    private LocalDateTime nextAttemptAt;
+}
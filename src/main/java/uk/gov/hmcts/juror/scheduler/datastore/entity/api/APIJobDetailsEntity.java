@@ -11,6 +11,8 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
@@ -20,6 +22,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.envers.Audited;
@@ -45,7 +48,21 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@NamedEntityGraph(name = APIJobDetailsEntity.GRAPH_EXECUTION,
+    attributeNodes = @NamedAttributeNode("validations"))
+@NamedEntityGraph(name = APIJobDetailsEntity.GRAPH_DETAILS,
+    attributeNodes = @NamedAttributeNode("tags"))
 public class APIJobDetailsEntity {
+    /**
+     * Fetch joins the validations run against every response. Each graph fetch joins a single collection, joining a
+     * second one (e.g. headers) repeats every validation once per header row, the other collections are batch loaded.
+     */
+    public static final String GRAPH_EXECUTION = "APIJobDetailsEntity.execution";
+    /**
+     * Fetch joins the tags a job search filters and returns, the other collections are batch loaded.
+     */
+    public static final String GRAPH_DETAILS = "APIJobDetailsEntity.details";
+
 
     @Id
     @NotNull
@@ -65,7 +82,8 @@ public class APIJobDetailsEntity {
     @Column(length = APIConstants.DEFAULT_MAX_LENGTH_LONG)
     private String description;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = APIConstants.LAZY_LOAD_BATCH_SIZE)
     private Set<@Length(max = APIConstants.DEFAULT_MAX_LENGTH_SHORT) @NotBlank String> tags;
 
     @NotNull
@@ -78,6 +96,10 @@ public class APIJobDetailsEntity {
     @Nullable
     private AuthenticationDefaults authenticationDefault;
 
+    @Nullable
+    @Column(length = 50)
+    private String bulkhead;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -85,7 +107,8 @@ public class APIJobDetailsEntity {
     private LocalDateTime lastUpdatedAt;
 
     @Nullable
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = APIConstants.LAZY_LOAD_BATCH_SIZE)
     @CollectionTable(name = "apijob_headers",
                      joinColumns = {@JoinColumn(name = "job_key", referencedColumnName = "key")})
     @MapKeyColumn(name = "key", length = APIConstants.DEFAULT_MAX_LENGTH_LONG)
@@ -93,15 +116,17 @@ public class APIJobDetailsEntity {
     private Map<@NotNull String, String> headers;
 
 
-    @OneToMany(fetch = FetchType.EAGER,
+    @OneToMany(fetch = FetchType.LAZY,
                cascade = CascadeType.ALL,
                orphanRemoval = true)
+    @BatchSize(size = APIConstants.LAZY_LOAD_BATCH_SIZE)
     private List<APIValidationEntity> validations;
 
 
-    @OneToMany(fetch = FetchType.EAGER,
+    @OneToMany(fetch = FetchType.LAZY,
                cascade = CascadeType.ALL,
                orphanRemoval = true)
+    @BatchSize(size = APIConstants.LAZY_LOAD_BATCH_SIZE)
     private List<ActionEntity> postExecutionActions;
 
 
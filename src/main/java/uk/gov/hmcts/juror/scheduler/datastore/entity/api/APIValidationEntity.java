@@ -18,6 +18,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.hibernate.envers.Audited;
+import uk.gov.hmcts.juror.scheduler.datastore.model.ResponseEvaluationContext;
 import uk.gov.hmcts.juror.scheduler.datastore.model.ValidationType;
 
 
@@ -31,7 +32,7 @@ public abstract class APIValidationEntity {
 
     @Id
     @SequenceGenerator(name = "apivalidation_entity_id_seqgen",
-        sequenceName = "apivalidation_entity_id_seq", allocationSize = 1)
+        sequenceName = "apivalidation_entity_id_seq", allocationSize = 50)
     @GeneratedValue(generator = "apivalidation_entity_id_seqgen",
         strategy = GenerationType.SEQUENCE)
     private long id;
@@ -44,6 +45,14 @@ public abstract class APIValidationEntity {
 
     public abstract Result validate(Response response, APIJobDetailsEntity jobData);
 
+    /**
+     * Validate against a response shared with the job's other validations. Validations that read the body should
+     * override this so the body is only parsed once per execution.
+     */
+    public Result validate(ResponseEvaluationContext context, APIJobDetailsEntity jobData) {
+        return validate(context.getResponse(), jobData);
+    }
+
     public abstract ValidationType getType();
 
     @Getter
@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.envers.Audited;
+import uk.gov.hmcts.juror.scheduler.datastore.model.ResponseEvaluationContext;
 import uk.gov.hmcts.juror.scheduler.datastore.model.ValidationType;
 
 @Entity
@@ -32,7 +33,12 @@ public class JsonPathAPIValidationEntity extends APIValidationEntity {
 
     @Override
     public Result validate(Response response, APIJobDetailsEntity jobData) {
-        String returnedString = response.jsonPath().getString(path);
+        return validate(new ResponseEvaluationContext(response), jobData);
+    }
+
+    @Override
+    public Result validate(ResponseEvaluationContext context, APIJobDetailsEntity jobData) {
+        String returnedString = context.getJsonPathString(path);
         boolean passed = returnedString != null && returnedString.equals(expectedResponse);
 
         String message = passed ? null :
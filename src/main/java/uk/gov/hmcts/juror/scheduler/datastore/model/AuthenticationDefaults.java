@@ -20,7 +20,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 public enum AuthenticationDefaults {
     NONE,
@@ -83,6 +87,9 @@ public enum AuthenticationDefaults {
         @Value("${scheduler.security.api-job-execution-service-authentication.secret}")
         private String apiJobExecutionServiceJwtSecret;
 
+        @Value("${scheduler.security.token-refresh-margin:60000}")
+        private long tokenRefreshMargin;
+
         @Autowired
         public AuthenticationDefaultsInjector(JwtService jwtService) {
             this.jwtService = jwtService;
@@ -105,42 +112,109 @@ public enum AuthenticationDefaults {
 
         private BiConsumer<APIJobDetailsEntity, RequestSpecification>
             getApiJobExecutionServiceAuthenticationProvider() {
-            return (apiJobDetailsEntity, requestSpecification) -> {
-                final Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(apiJobExecutionServiceJwtSecret));
-
-                final String token = jwtService.generateJwtToken(null, apiJobExecutionServiceJwtIssuer,
+            final Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(apiJobExecutionServiceJwtSecret));
+            final Map<String, Object> claims = Map.of("permissions", new String[]{"job::trigger"});
+            final CachedToken cachedToken = new CachedToken(
+                () -> jwtService.generateJwtToken(null, apiJobExecutionServiceJwtIssuer,
                     apiJobExecutionServiceJwtSubject,
-                    apiJobExecutionServiceJwtTokenValidity, key,
-                    Map.of("permissions", new String[]{"job::trigger"})
-                );
-                requestSpecification.header("Authorization", "Bearer " + token);
-            };
+                    apiJobExecutionServiceJwtTokenValidity, key, claims),
+                apiJobExecutionServiceJwtTokenValidity, tokenRefreshMargin);
+
+            return (apiJobDetailsEntity, requestSpecification) ->
+                requestSpecification.header("Authorization", "Bearer " + cachedToken.get());
         }
 
         private BiConsumer<APIJobDetailsEntity, RequestSpecification> getJurorApiServiceAuthenticationProvider() {
-            return (apiJobDetailsEntity, requestSpecification) -> {
-                final Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jurorApiServiceJwtSecret));
-                final Map<String, Object> claims = new ConcurrentHashMap<>();
-                claims.put("login", "AUTO");   //cronuser
-                claims.put("userLevel", "1");
-                claims.put("userType", "SYSTEM");
-                claims.put("daysToExpire", 6);
-                claims.put("passwordWarning", true);
-
-                final Map<String, Object> staff = new ConcurrentHashMap<>();
-                staff.put("name", "AUTO"); //cron user
-                staff.put("rank", -1);
-                staff.put("active", 1);
-                staff.put("courts", Collections.emptyList());
-
-                claims.put("staff", staff);
-
-                final String token = jwtService.generateJwtToken(jurorApiServiceJwtId, jurorApiServiceJwtIssuer,
+            final Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jurorApiServiceJwtSecret));
+            final Map<String, Object> claims = new ConcurrentHashMap<>();
+            claims.put("login", "AUTO");   //cronuser
+            claims.put("userLevel", "1");
+            claims.put("userType", "SYSTEM");
+            claims.put("daysToExpire", 6);
+            claims.put("passwordWarning", true);
+
+            final Map<String, Object> staff = new ConcurrentHashMap<>();
+            staff.put("name", "AUTO"); //cron user
+            staff.put("rank", -1);
+            staff.put("active", 1);
+            staff.put("courts", Collections.emptyList());
+
+            claims.put("staff", staff);
+
+            final CachedToken cachedToken = new CachedToken(
+                () -> jwtService.generateJwtToken(jurorApiServiceJwtId, jurorApiServiceJwtIssuer,
                     jurorApiServiceJwtSubject,
-                    jurorApiServiceJwtTokenValidity, key, claims);
-                requestSpecification.header("Authorization", token);
-            };
+                    jurorApiServiceJwtTokenValidity, key, claims),
+                jurorApiServiceJwtTokenValidity, tokenRefreshMargin);
+
+            return (apiJobDetailsEntity, requestSpecification) ->
+                requestSpecification.header("Authorization", cachedToken.get());
         }
     }
 
+    /**
+     * Holds a signed token and hands it out until it is within the refresh margin of expiring. Once inside the
+     * margin a single caller re-signs the token while everyone else carries on using the current one, callers only
+     * wait if there is no token yet or the current one has fully expired.
+     */
+    static class CachedToken {
+        private final Supplier<String> tokenGenerator;
+        private final long tokenValidity;
+        private final long refreshAfter;
+        private final LongSupplier currentTimeMillis;
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private final AtomicReference<SignedToken> signedToken = new AtomicReference<>();
+
+        CachedToken(Supplier<String> tokenGenerator, long tokenValidity, long refreshMargin) {
+            this(tokenGenerator, tokenValidity, refreshMargin, System::currentTimeMillis);
+        }
+
+        CachedToken(Supplier<String> tokenGenerator, long tokenValidity, long refreshMargin,
+                    LongSupplier currentTimeMillis) {
+            this.tokenGenerator = tokenGenerator;
+            this.tokenValidity = tokenValidity;
+            this.refreshAfter = Math.max(0, tokenValidity - refreshMargin);
+            this.currentTimeMillis = currentTimeMillis;
+        }
+
+        String get() {
+            final SignedToken current = signedToken.get();
+            final long now = currentTimeMillis.getAsLong();
+            if (current != null && now < current.refreshAt()) {
+                return current.token();
+            }
+            if (current != null && now < current.expiresAt()) {
+                if (refreshLock.tryLock()) {
+                    try {
+                        return refreshIfStale().token();
+                    } finally {
+                        refreshLock.unlock();
+                    }
+                }
+                return current.token();
+            }
+            refreshLock.lock();
+            try {
+                return refreshIfStale().token();
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        private SignedToken refreshIfStale() {
+            final SignedToken current = signedToken.get();
+            final long issuedAt = currentTimeMillis.getAsLong();
+            if (current != null && issuedAt < current.refreshAt()) {
+                //Another caller refreshed the token while we were waiting for the lock
+                return current;
+            }
+            final SignedToken refreshed =
+                new SignedToken(tokenGenerator.get(), issuedAt + refreshAfter, issuedAt + tokenValidity);
+            signedToken.set(refreshed);
+            return refreshed;
+        }
+
+        private record SignedToken(String token, long refreshAt, long expiresAt) {
+        }
+    }
 }
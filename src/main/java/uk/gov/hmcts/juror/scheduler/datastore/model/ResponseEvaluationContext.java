@@ -0,0 +1,42 @@
+package uk.gov.hmcts.juror.scheduler.datastore.model;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A job's response as seen by its validations during a single execution. The body is only parsed the first time a
+ * body based validation needs it, so jobs that only check the status code or response time never parse it, and each
+ * json path is only evaluated once however many validations use it.
+ *
+ * <p>Not thread safe, a job's validations are run one after another.
+ */
+public class ResponseEvaluationContext {
+    @Getter
+    private final Response response;
+    private final Map<String, String> jsonPathValues = new HashMap<>();
+    private JsonPath jsonPath;
+
+    public ResponseEvaluationContext(Response response) {
+        this.response = response;
+    }
+
+    public String getJsonPathString(String path) {
+        if (jsonPathValues.containsKey(path)) {
+            return jsonPathValues.get(path);
+        }
+        String value = getJsonPath().getString(path);
+        jsonPathValues.put(path, value);
+        return value;
+    }
+
+    private JsonPath getJsonPath() {
+        if (jsonPath == null) {
+            jsonPath = response.jsonPath();
+        }
+        return jsonPath;
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.juror.scheduler.datastore.model.filter;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last task returned by a task search page. Pages are ordered by (created_at, task_id), so the next
+ * page starts after this task. The search window's from date is fixed by the first page and carried along, so the
+ * window does not move while a client is paging.
+ */
+@Getter
+@EqualsAndHashCode
+public class TaskSearchCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime fromDate;
+    private final LocalDateTime createdAt;
+    private final long taskId;
+
+    public TaskSearchCursor(LocalDateTime fromDate, LocalDateTime createdAt, long taskId) {
+        this.fromDate = fromDate;
+        this.createdAt = createdAt;
+        this.taskId = taskId;
+    }
+
+    /**
+     * Parses a cursor created by {@link #toString()}. Used by Spring to bind the cursor request parameter, so an
+     * invalid cursor is rejected as a bad request.
+     */
+    public static TaskSearchCursor valueOf(String value) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8)
+                .split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid task search cursor");
+            }
+            return new TaskSearchCursor(LocalDateTime.parse(parts[0]), LocalDateTime.parse(parts[1]),
+                Long.parseLong(parts[2]));
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("Invalid task search cursor", exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+            (fromDate + SEPARATOR + createdAt + SEPARATOR + taskId).getBytes(StandardCharsets.UTF_8));
+    }
+}
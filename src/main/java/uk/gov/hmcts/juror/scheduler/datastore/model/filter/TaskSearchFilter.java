@@ -14,4 +14,8 @@ public class TaskSearchFilter {
     private String jobKey;
     private Set<Status> statuses;
     private LocalDateTime fromDate;
+    private TaskSearchCursor cursor;
+    private Integer limit;
+    private String metaDataKey;
+    private String metaDataValue;
 }
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.juror.scheduler.datastore.model.filter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TaskSearchPage {
+    private final List<TaskEntity> tasks;
+    /**
+     * Where the next page starts, null if this is the last page.
+     */
+    private final TaskSearchCursor nextCursor;
+}
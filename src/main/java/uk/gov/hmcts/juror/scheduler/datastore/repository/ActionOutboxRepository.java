@@ -0,0 +1,25 @@
+package uk.gov.hmcts.juror.scheduler.datastore.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionOutboxEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ActionOutboxRepository extends JpaRepository<ActionOutboxEntity, Long> {
+
+    /**
+     * Locks the next batch of due entries, entries already locked by another node are skipped rather than waited on.
+     */
+    @Query(value = "SELECT * FROM scheduler_application.action_outbox "
+        + "WHERE next_attempt_at <= :now "
+        + "ORDER BY id "
+        + "LIMIT :limit "
+        + "FOR UPDATE SKIP LOCKED",
+        nativeQuery = true)
+    List<ActionOutboxEntity> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
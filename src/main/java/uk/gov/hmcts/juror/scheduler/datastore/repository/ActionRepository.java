@@ -0,0 +1,9 @@
+package uk.gov.hmcts.juror.scheduler.datastore.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionEntity;
+
+@Repository
+public interface ActionRepository extends JpaRepository<ActionEntity, Long> {
+}
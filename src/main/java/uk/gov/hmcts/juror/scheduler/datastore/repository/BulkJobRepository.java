@@ -0,0 +1,14 @@
+package uk.gov.hmcts.juror.scheduler.datastore.repository;
+
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+
+import java.util.Collection;
+
+public interface BulkJobRepository {
+
+    /**
+     * Persists jobs known to be new. Unlike save, which merges (and so selects) any entity with an assigned key, this
+     * leaves every insert queued until flush so they are sent in JDBC batches.
+     */
+    void persistAll(Collection<APIJobDetailsEntity> jobs);
+}
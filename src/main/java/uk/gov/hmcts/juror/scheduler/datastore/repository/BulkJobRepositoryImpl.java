@@ -0,0 +1,18 @@
+package uk.gov.hmcts.juror.scheduler.datastore.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+
+import java.util.Collection;
+
+public class BulkJobRepositoryImpl implements BulkJobRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void persistAll(Collection<APIJobDetailsEntity> jobs) {
+        jobs.forEach(entityManager::persist);
+    }
+}
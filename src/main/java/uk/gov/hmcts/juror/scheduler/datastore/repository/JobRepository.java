@@ -1,18 +1,40 @@
 package uk.gov.hmcts.juror.scheduler.datastore.repository;
 
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Repository
 public interface JobRepository extends JpaRepository<APIJobDetailsEntity, String>,
-    JpaSpecificationExecutor<APIJobDetailsEntity> {
+    JpaSpecificationExecutor<APIJobDetailsEntity>, BulkJobRepository {
+
+    @Override
+    @EntityGraph(APIJobDetailsEntity.GRAPH_DETAILS)
+    Optional<APIJobDetailsEntity> findById(String key);
+
+    @Override
+    @EntityGraph(APIJobDetailsEntity.GRAPH_DETAILS)
+    List<APIJobDetailsEntity> findAll(Specification<APIJobDetailsEntity> specification);
+
+    @EntityGraph(APIJobDetailsEntity.GRAPH_EXECUTION)
+    Optional<APIJobDetailsEntity> findForExecutionByKey(String key);
+
+    @Query("SELECT j.key FROM APIJobDetailsEntity j WHERE j.key IN :keys")
+    Set<String> findExistingKeys(@Param("keys") Collection<String> keys);
 
     interface Specs {
 
@@ -21,10 +43,40 @@ public interface JobRepository extends JpaRepository<APIJobDetailsEntity, String
                 builder.equal(root.get("key"), jobKey);
         }
 
+        static Specification<APIJobDetailsEntity> byJobKeyIn(Collection<String> jobKeys) {
+            return (root, query, builder) -> jobKeys.isEmpty()
+                ? builder.disjunction()
+                : root.get("key").in(jobKeys);
+        }
+
+        static Specification<APIJobDetailsEntity> byJobKeyNotIn(Collection<String> jobKeys) {
+            return (root, query, builder) -> jobKeys.isEmpty()
+                ? builder.conjunction()
+                : builder.not(root.get("key").in(jobKeys));
+        }
+
         static Specification<APIJobDetailsEntity> byTags(Set<String> tags) {
             return (root, query, builder) -> builder.in(root.join("tags", JoinType.INNER)).value(tags);
         }
 
+        /**
+         * Jobs whose key is one of the given keys or that have any of the given tags.
+         */
+        static Specification<APIJobDetailsEntity> byJobKeyInOrTags(Collection<String> jobKeys,
+                                                                   Collection<String> tags) {
+            return (root, query, builder) -> {
+                List<Predicate> predicates = new ArrayList<>();
+                if (!jobKeys.isEmpty()) {
+                    predicates.add(root.get("key").in(jobKeys));
+                }
+                if (!tags.isEmpty()) {
+                    query.distinct(true);
+                    predicates.add(root.join("tags", JoinType.LEFT).in(tags));
+                }
+                return builder.or(predicates.toArray(new Predicate[0]));
+            };
+        }
+
         static Specification<APIJobDetailsEntity> byCreateDateGreaterThan(LocalDateTime fromDate) {
             return (root, query, builder) ->
                 builder.greaterThanOrEqualTo(root.get("createdAt"), fromDate);
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.juror.scheduler.datastore.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Manages the monthly range partitions of task_entity. Partition names are always supplied by
+ * {@link #findPartitionNames()} or generated by the caller, never taken from user input, and are still quoted as
+ * identifiers in the DDL.
+ */
+public interface TaskPartitionRepository {
+
+    /**
+     * Takes a transaction scoped advisory lock so only one node maintains partitions at a time. Returns false if
+     * another node already holds it. Must be called within a transaction.
+     */
+    boolean tryLock();
+
+    List<String> findPartitionNames();
+
+    /**
+     * Creates the partition, moving any tasks the default partition holds for its range into it. Returns the number of
+     * tasks moved, does nothing if the partition already exists.
+     */
+    int createPartition(String partitionName, LocalDate from, LocalDate to);
+
+    /**
+     * Removes the audit history and pending outbox entries of every task held in the partition, before it is dropped.
+     */
+    void deleteDependents(String partitionName);
+
+    void detachPartition(String partitionName);
+
+    void dropPartition(String partitionName);
+}
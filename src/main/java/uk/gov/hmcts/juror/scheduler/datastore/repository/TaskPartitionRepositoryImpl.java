@@ -0,0 +1,72 @@
+package uk.gov.hmcts.juror.scheduler.datastore.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@SuppressWarnings("PMD.LawOfDemeter")
+public class TaskPartitionRepositoryImpl implements TaskPartitionRepository {
+    private static final long LOCK_KEY = 7_361_284_015L;
+    private static final String TASK_IDS_IN_PARTITION = " IN (SELECT task_id FROM ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean tryLock() {
+        return (Boolean) entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+            .setParameter("key", LOCK_KEY)
+            .getSingleResult();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findPartitionNames() {
+        return entityManager.createNativeQuery("SELECT child.relname FROM pg_inherits "
+                + "JOIN pg_class parent ON pg_inherits.inhparent = parent.oid "
+                + "JOIN pg_class child ON pg_inherits.inhrelid = child.oid "
+                + "JOIN pg_namespace ns ON parent.relnamespace = ns.oid "
+                + "WHERE parent.relname = 'task_entity' AND ns.nspname = current_schema()")
+            .getResultList();
+    }
+
+    @Override
+    public int createPartition(String partitionName, LocalDate from, LocalDate to) {
+        //See scheduler-V11__Create_task_partition_function.sql
+        return ((Number) entityManager.createNativeQuery("SELECT create_task_entity_partition(:name, :from, :to)")
+            .setParameter("name", partitionName)
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .getSingleResult()).intValue();
+    }
+
+    @Override
+    public void deleteDependents(String partitionName) {
+        String taskIds = TASK_IDS_IN_PARTITION + quoteIdentifier(partitionName) + ")";
+        execute("DELETE FROM task_entity_meta_data_aud WHERE task_entity_task_id" + taskIds);
+        execute("DELETE FROM task_entity_aud WHERE task_id" + taskIds);
+        execute("DELETE FROM action_outbox WHERE task_id" + taskIds);
+    }
+
+    @Override
+    public void detachPartition(String partitionName) {
+        execute("ALTER TABLE task_entity DETACH PARTITION " + quoteIdentifier(partitionName));
+    }
+
+    @Override
+    public void dropPartition(String partitionName) {
+        execute("DROP TABLE " + quoteIdentifier(partitionName));
+    }
+
+    static String quoteIdentifier(String name) {
+        return '"' + name.replace("\"", "\"\"") + '"';
+    }
+
+    private void execute(String sql) {
+        entityManager.createNativeQuery(sql).executeUpdate();
+    }
+}
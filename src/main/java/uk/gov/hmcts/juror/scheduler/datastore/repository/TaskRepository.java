@@ -1,19 +1,28 @@
 package uk.gov.hmcts.juror.scheduler.datastore.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.juror.scheduler.datastore.JsonbFunctionContributor;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity> {
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity>,
+    TaskStreamRepository {
 
 
     void deleteAllByJobKey(String jobKey);
@@ -24,6 +33,46 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpec
 
     Optional<TaskEntity> findByJobKeyAndTaskId(String jobKey, long taskId);
 
+    @Query("SELECT t FROM TaskEntity t JOIN FETCH t.job WHERE t.taskId IN :taskIds")
+    List<TaskEntity> findAllWithJobByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Loads the task locked for update, so a status written to it is not lost to a concurrent update. The task's
+     * created at (the partition key) limits the lookup to the task's partition.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TaskEntity t WHERE t.taskId = :taskId AND t.createdAt = :createdAt")
+    Optional<TaskEntity> findForUpdate(@Param("taskId") long taskId, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Loads the task locked for update only if it has not been modified since {@code lastUpdatedAt}, so callers can
+     * tell if another update won. The timestamps are compared in the database, at the precision they are stored.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TaskEntity t WHERE t.taskId = :taskId AND t.createdAt = :createdAt "
+        + "AND t.lastUpdatedAt = :lastUpdatedAt")
+    Optional<TaskEntity> findForUpdateIfNotModified(@Param("taskId") long taskId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt);
+
+    /**
+     * Merges the meta data into the task's stored meta data, existing keys are overwritten. The task's created at (the
+     * partition key) limits the update to the task's partition.
+     */
+    default int mergeMetaData(long taskId, LocalDateTime createdAt, Map<String, String> metaData) {
+        List<Map.Entry<String, String>> entries = List.copyOf(metaData.entrySet());
+        return mergeMetaData(taskId, createdAt,
+            entries.stream().map(Map.Entry::getKey).toArray(String[]::new),
+            entries.stream().map(Map.Entry::getValue).toArray(String[]::new));
+    }
+
+    @Modifying
+    @Query(value = "UPDATE task_entity SET meta_data = coalesce(meta_data, cast('{}' AS jsonb)) "
+        + "|| jsonb_object(cast(:keys AS text[]), cast(:values AS text[])) "
+        + "WHERE task_id = :taskId AND created_at = :createdAt", nativeQuery = true)
+    int mergeMetaData(@Param("taskId") long taskId, @Param("createdAt") LocalDateTime createdAt,
+                      @Param("keys") String[] keys, @Param("values") String[] values);
+
     interface Specs {
 
         static Specification<TaskEntity> byJobKey(String jobKey) {
@@ -41,6 +90,35 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpec
                 builder.greaterThanOrEqualTo(root.get("createdAt"), fromDate);
         }
 
+        /**
+         * Matches tasks whose meta data holds the key with the given value, this uses the meta data GIN index. If no
+         * value is given tasks holding the key with any value are matched, which the index cannot help with.
+         */
+        static Specification<TaskEntity> byMetaData(String key, String value) {
+            return (root, query, builder) -> {
+                if (value == null) {
+                    return builder.isTrue(builder.function(JsonbFunctionContributor.JSONB_HAS_KEY, Boolean.class,
+                        root.get("metaData"), builder.literal(key)));
+                }
+                return builder.isTrue(builder.function(JsonbFunctionContributor.JSONB_CONTAINS_ENTRY, Boolean.class,
+                    root.get("metaData"), builder.literal(key), builder.literal(value)));
+            };
+        }
+
+        /**
+         * Matches tasks after the given task in (created_at, task_id) order. The created_at lower bound is repeated on
+         * its own so the created_at indexes can start their scan at the cursor.
+         */
+        static Specification<TaskEntity> byCreatedAtAndTaskIdAfter(LocalDateTime createdAt, long taskId) {
+            return (root, query, builder) -> builder.and(
+                builder.greaterThanOrEqualTo(root.get("createdAt"), createdAt),
+                builder.or(
+                    builder.greaterThan(root.get("createdAt"), createdAt),
+                    builder.and(
+                        builder.equal(root.get("createdAt"), createdAt),
+                        builder.greaterThan(root.get("taskId"), taskId))));
+        }
+
         static Specification<TaskEntity> orderByCreatedOn(
             Specification<TaskEntity> spec) {
             return (root, query, builder) -> {
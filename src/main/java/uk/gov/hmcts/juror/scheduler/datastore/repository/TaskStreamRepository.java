@@ -0,0 +1,15 @@
+package uk.gov.hmcts.juror.scheduler.datastore.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+
+import java.util.function.Consumer;
+
+public interface TaskStreamRepository {
+
+    /**
+     * Streams the matching tasks through the consumer one at a time. Each task is detached once the consumer returns
+     * so memory use does not grow with the number of results. Must be called within a transaction.
+     */
+    void forEachTask(Specification<TaskEntity> specification, Consumer<TaskEntity> consumer);
+}
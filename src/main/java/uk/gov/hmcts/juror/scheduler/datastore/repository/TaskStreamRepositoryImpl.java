@@ -0,0 +1,47 @@
+package uk.gov.hmcts.juror.scheduler.datastore.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class TaskStreamRepositoryImpl implements TaskStreamRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${scheduler.task-export.fetch-size:500}")
+    private int fetchSize;
+
+    @Override
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public void forEachTask(Specification<TaskEntity> specification, Consumer<TaskEntity> consumer) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskEntity> query = builder.createQuery(TaskEntity.class);
+        Root<TaskEntity> root = query.from(TaskEntity.class);
+        query.select(root);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        try (Stream<TaskEntity> tasks = entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()) {
+            tasks.forEach(task -> {
+                consumer.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+}
@@ -1,7 +1,16 @@
 package uk.gov.hmcts.juror.scheduler.service.contracts;
 
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionEntity;
 
 public interface ActionService {
+    String FAILED_TO_RUN_POST_ACTIONS_MESSAGE = "Failed to run post actions. Unexpected exception";
+
     TaskEntity taskUpdated(TaskEntity taskEntity);
+
+    void taskSaved(TaskEntity taskEntity);
+
+    boolean hasTriggeredActions(TaskEntity taskEntity);
+
+    void runAction(ActionEntity action, TaskEntity taskEntity);
 }
@@ -1,9 +1,13 @@
 package uk.gov.hmcts.juror.scheduler.service.contracts;
 
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobOperation;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobResult;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobTarget;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.api.APIJobDetails;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.api.APIJobPatch;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.filter.JobSearchFilter;
+import uk.gov.hmcts.juror.scheduler.service.jobs.JobDefinition;
 
 import java.util.List;
 
@@ -14,16 +18,24 @@ public interface JobService {
 
     void enable(String jobKey);
 
+    List<BulkJobResult> updateJobs(BulkJobOperation operation, BulkJobTarget target);
+
     void executeJob(String jobKey);
 
     boolean doesJobExist(String jobKey);
 
     APIJobDetailsEntity getJob(String key);
 
+    APIJobDetailsEntity getJobForExecution(String key);
+
+    JobDefinition getJobDefinition(String key, String revision);
+
     APIJobDetailsEntity updateJob(String jobKey, APIJobPatch jobPatch);
 
     void createJob(APIJobDetails jobDetails);
 
+    List<BulkJobResult> createJobs(List<APIJobDetails> jobDetails);
+
     APIJobDetailsEntity save(APIJobDetailsEntity jobDetailsEntity);
 
     List<APIJobDetailsEntity> getJobs(JobSearchFilter filter);
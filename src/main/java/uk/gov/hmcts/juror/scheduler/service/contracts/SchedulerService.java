@@ -2,16 +2,33 @@ package uk.gov.hmcts.juror.scheduler.service.contracts;
 
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface SchedulerService {
     void register(APIJobDetailsEntity jobDetails);
 
+    void registerAll(Collection<APIJobDetailsEntity> jobDetails);
+
     void unregister(String jobKey);
 
+    void unregisterAll(Collection<String> jobKeys);
+
+    void pauseAll(Collection<String> jobKeys);
+
+    void resumeAll(Collection<String> jobKeys);
+
     void executeJob(String jobKey);
 
+    void deferJob(String jobKey, long delay);
+
     boolean isScheduled(String jobKey);
 
     boolean isEnabled(String jobKey);
 
     boolean isDisabled(String jobKey);
+
+    Set<String> getEnabledJobKeys();
+
+    void updateJobRevision(String jobKey);
 }
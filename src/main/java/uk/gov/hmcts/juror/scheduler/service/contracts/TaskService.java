@@ -1,27 +1,50 @@
 package uk.gov.hmcts.juror.scheduler.service.contracts;
 
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.StatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdateResult;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchFilter;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchPage;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface TaskService {
     TaskEntity createTask(APIJobDetailsEntity apiJobDetailsEntity);
 
     TaskEntity saveTask(TaskEntity task);
 
+    boolean completeTask(TaskEntity task, LocalDateTime lastUpdatedAt);
+
     List<TaskEntity> getTasks(String jobKey);
 
     List<TaskEntity> getTasks(TaskSearchFilter searchFilter);
 
+    TaskSearchPage getTaskPage(TaskSearchFilter searchFilter);
+
+    void exportTasks(TaskSearchFilter searchFilter, Consumer<TaskEntity> consumer);
+
     TaskEntity getLatestTask(String jobKey);
 
     TaskEntity getLatestTask(String jobKey, long taskId);
 
     void updateStatus(String jobKey, long taskId, StatusUpdate statusUpdate);
 
+    List<TaskStatusUpdateResult> updateStatuses(List<TaskStatusUpdate> statusUpdates);
+
+    /**
+     * Applies updates flushed from the task status update buffer, at most one per task. An update is skipped if its
+     * task already has a terminal status or was last updated after the update was buffered.
+     *
+     * @param bufferedAt when each task's update was last buffered, by task id
+     */
+    List<TaskStatusUpdateResult> updateBufferedStatuses(List<TaskStatusUpdate> statusUpdates,
+                                                        Map<Long, LocalDateTime> bufferedAt);
+
 
     void deleteAllByJobKey(String jobKey);
 }
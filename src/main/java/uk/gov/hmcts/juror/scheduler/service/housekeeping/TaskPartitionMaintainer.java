@@ -0,0 +1,162 @@
+package uk.gov.hmcts.juror.scheduler.service.housekeeping;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.TaskPartitionRepository;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the monthly task_entity partitions in step with the calendar. Partitions are created a configured number of
+ * months ahead so new tasks never land in the default partition, and once a month falls outside the retention period
+ * its partition is dropped along with the audit history of its tasks, or detached for archiving. If maintenance has
+ * fallen behind, tasks already in the default partition for a month are moved into its partition when it is created.
+ *
+ * <p>The retention counts the current month, a retention of zero months keeps every partition.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "scheduler.task-partitions.enabled", havingValue = "true", matchIfMissing = true)
+@SuppressWarnings("PMD.LawOfDemeter")
+public class TaskPartitionMaintainer {
+    static final String PARTITION_PREFIX = "task_entity_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'uuuu'm'MM");
+
+    public enum RetentionMode {
+        /**
+         * The expired partition is removed from task_entity but kept as a standalone table, to be archived externally.
+         * The audit history of its tasks is kept.
+         */
+        DETACH,
+        /**
+         * The expired partition and its tasks are deleted, along with their audit history and pending outbox entries.
+         */
+        DROP
+    }
+
+    private final TaskPartitionRepository taskPartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final RetentionMode retentionMode;
+    private final Clock clock;
+
+    @Autowired
+    public TaskPartitionMaintainer(
+        TaskPartitionRepository taskPartitionRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${scheduler.task-partitions.months-ahead:3}") int monthsAhead,
+        @Value("${scheduler.task-partitions.retention-months:0}") int retentionMonths,
+        @Value("${scheduler.task-partitions.retention-mode:DETACH}") RetentionMode retentionMode) {
+        this(taskPartitionRepository, transactionManager, monthsAhead, retentionMonths, retentionMode,
+            Clock.systemDefaultZone());
+    }
+
+    TaskPartitionMaintainer(TaskPartitionRepository taskPartitionRepository,
+                            PlatformTransactionManager transactionManager,
+                            int monthsAhead, int retentionMonths, RetentionMode retentionMode, Clock clock) {
+        this.taskPartitionRepository = taskPartitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.retentionMode = retentionMode;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.task-partitions.interval:21600000}",
+        initialDelayString = "${scheduler.task-partitions.initial-delay:60000}")
+    public void maintainPartitions() {
+        YearMonth currentMonth = YearMonth.now(clock);
+        List<String> partitionNames =
+            transactionTemplate.execute(status -> taskPartitionRepository.findPartitionNames());
+        if (partitionNames == null) {
+            return;
+        }
+        createPartitions(currentMonth, partitionNames);
+        if (retentionMonths > 0) {
+            removeExpiredPartitions(currentMonth.minusMonths(retentionMonths - 1L), partitionNames);
+        }
+    }
+
+    void createPartitions(YearMonth currentMonth, List<String> partitionNames) {
+        for (int offset = 0; offset <= monthsAhead; offset++) {
+            YearMonth month = currentMonth.plusMonths(offset);
+            String partitionName = getPartitionName(month);
+            if (!partitionNames.contains(partitionName)) {
+                runLocked("create partition " + partitionName, repository -> {
+                    int moved = repository.createPartition(partitionName, month.atDay(1), month.plusMonths(1).atDay(1));
+                    if (moved > 0) {
+                        log.warn("Moved " + moved + " tasks from the default task partition into " + partitionName
+                            + ", partitions are not being created far enough ahead");
+                    }
+                });
+            }
+        }
+    }
+
+    void removeExpiredPartitions(YearMonth oldestRetainedMonth, List<String> partitionNames) {
+        for (String partitionName : partitionNames) {
+            Optional<YearMonth> month = getPartitionMonth(partitionName);
+            if (month.isPresent() && month.get().isBefore(oldestRetainedMonth)) {
+                String description = retentionMode.name().toLowerCase(Locale.ROOT)
+                    + " expired partition " + partitionName;
+                runLocked(description, repository -> {
+                    if (retentionMode == RetentionMode.DROP) {
+                        repository.deleteDependents(partitionName);
+                        repository.dropPartition(partitionName);
+                    } else {
+                        repository.detachPartition(partitionName);
+                    }
+                });
+            }
+        }
+    }
+
+    private void runLocked(String description, Consumer<TaskPartitionRepository> operation) {
+        try {
+            Boolean ran = transactionTemplate.execute(status -> {
+                if (!taskPartitionRepository.tryLock()) {
+                    return false;
+                }
+                operation.accept(taskPartitionRepository);
+                return true;
+            });
+            if (Boolean.TRUE.equals(ran)) {
+                log.info("Task partition maintenance: " + description);
+            } else {
+                log.debug("Skipped task partition maintenance as it is running on another node: " + description);
+            }
+        } catch (Exception exception) {
+            log.error("Task partition maintenance failed to " + description, exception);
+        }
+    }
+
+    static String getPartitionName(YearMonth month) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(month);
+    }
+
+    static Optional<YearMonth> getPartitionMonth(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        } catch (DateTimeParseException exception) {
+            //Not a monthly partition (e.g. the default partition)
+            return Optional.empty();
+        }
+    }
+}
@@ -1,27 +1,38 @@
 package uk.gov.hmcts.juror.scheduler.service.impl;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import uk.gov.hmcts.juror.scheduler.actions.ActionRunner;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionOutboxEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.ActionType;
 import uk.gov.hmcts.juror.scheduler.datastore.model.ConditionType;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.ActionOutboxRepository;
 import uk.gov.hmcts.juror.scheduler.service.contracts.ActionService;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 public class ActionServiceImpl implements ActionService {
     private final Map<ActionType, List<ActionRunner>> actionRunners;
+    private final ActionOutboxRepository actionOutboxRepository;
 
-    public ActionServiceImpl(List<ActionRunner> actionRunners) {
+    @Value("${scheduler.post-actions.outbox.enabled:false}")
+    boolean outboxEnabled;
+
+    public ActionServiceImpl(List<ActionRunner> actionRunners, ActionOutboxRepository actionOutboxRepository) {
+        this.actionOutboxRepository = actionOutboxRepository;
         this.actionRunners = new EnumMap<>(ActionType.class);
         actionRunners.forEach(actionRunner ->
             actionRunner.supports().forEach(
@@ -32,22 +43,19 @@ public class ActionServiceImpl implements ActionService {
 
     @Override
     public TaskEntity taskUpdated(TaskEntity taskEntity) {
-        if (!hasActions(taskEntity.getJob())) {
+        if (outboxEnabled || !hasActions(taskEntity.getJob())) {
+            //When the outbox is enabled actions are enqueued once the task has been saved
             return taskEntity;
         }
         AtomicReference<String> postActionsMessage = new AtomicReference<>("");
 
-        taskEntity.getJob().getPostExecutionActions()
-            .stream()
-            .filter(action -> action.getCondition()
-                .isMet(ConditionType.TaskEntityChangedListener.class, taskEntity))
+        getTriggeredActions(taskEntity)
             .forEach(action -> {
                 try {
-                    this.actionRunners.get(action.getType())
-                        .forEach(actionRunner -> actionRunner.trigger(action, taskEntity));
+                    runAction(action, taskEntity);
                 } catch (Exception e) {
                     log.error("Unexpected exception when running RunJobAction", e);
-                    postActionsMessage.set("Failed to run post actions. Unexpected exception");
+                    postActionsMessage.set(FAILED_TO_RUN_POST_ACTIONS_MESSAGE);
                 }
             });
         if (!postActionsMessage.get().isBlank()) {
@@ -56,6 +64,45 @@ public class ActionServiceImpl implements ActionService {
         return taskEntity;
     }
 
+    @Override
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public void taskSaved(TaskEntity taskEntity) {
+        if (!outboxEnabled || !hasActions(taskEntity.getJob())) {
+            return;
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        List<ActionOutboxEntity> outboxEntries = getTriggeredActions(taskEntity)
+            .map(action -> ActionOutboxEntity.builder()
+                .actionId(action.getId())
+                .taskId(taskEntity.getTaskId())
+                .nextAttemptAt(now)
+                .build())
+            .toList();
+        if (!outboxEntries.isEmpty()) {
+            log.debug("Enqueuing " + outboxEntries.size() + " post execution actions for task: "
+                + taskEntity.getTaskId());
+            actionOutboxRepository.saveAll(outboxEntries);
+        }
+    }
+
+    @Override
+    public boolean hasTriggeredActions(TaskEntity taskEntity) {
+        return hasActions(taskEntity.getJob()) && getTriggeredActions(taskEntity).findAny().isPresent();
+    }
+
+    @Override
+    public void runAction(ActionEntity action, TaskEntity taskEntity) {
+        this.actionRunners.get(action.getType())
+            .forEach(actionRunner -> actionRunner.trigger(action, taskEntity));
+    }
+
+    private Stream<ActionEntity> getTriggeredActions(TaskEntity taskEntity) {
+        return taskEntity.getJob().getPostExecutionActions()
+            .stream()
+            .filter(action -> action.getCondition()
+                .isMet(ConditionType.TaskEntityChangedListener.class, taskEntity));
+    }
+
     static boolean hasActions(APIJobDetailsEntity job) {
         return !CollectionUtils.isEmpty(job.getPostExecutionActions());
     }
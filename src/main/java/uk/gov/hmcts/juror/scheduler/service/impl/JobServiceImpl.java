@@ -1,8 +1,10 @@
 package uk.gov.hmcts.juror.scheduler.service.impl;
 
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,6 +12,9 @@ import uk.gov.hmcts.juror.scheduler.api.model.error.KeyAlreadyInUseError;
 import uk.gov.hmcts.juror.scheduler.api.model.error.bvr.JobAlreadyDisabledError;
 import uk.gov.hmcts.juror.scheduler.api.model.error.bvr.JobAlreadyEnabledError;
 import uk.gov.hmcts.juror.scheduler.api.model.error.bvr.NotAScheduledJobError;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobOperation;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobResult;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobTarget;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.api.APIJobDetails;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.api.APIJobPatch;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
@@ -19,14 +24,19 @@ import uk.gov.hmcts.juror.scheduler.mapping.JobDetailsMapper;
 import uk.gov.hmcts.juror.scheduler.service.contracts.JobService;
 import uk.gov.hmcts.juror.scheduler.service.contracts.SchedulerService;
 import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
+import uk.gov.hmcts.juror.scheduler.service.jobs.JobDefinition;
+import uk.gov.hmcts.juror.scheduler.service.jobs.JobDefinitionCache;
 import uk.gov.hmcts.juror.standard.service.exceptions.APIHandleableException;
 import uk.gov.hmcts.juror.standard.service.exceptions.BusinessRuleValidationException;
 import uk.gov.hmcts.juror.standard.service.exceptions.GenericErrorHandlerException;
 import uk.gov.hmcts.juror.standard.service.exceptions.NotFoundException;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
@@ -38,16 +48,19 @@ public class JobServiceImpl implements JobService {
     private final JobRepository jobRepository;
     private final JobDetailsMapper jobDetailsMapper;
     private final TaskService taskService;
+    private final JobDefinitionCache jobDefinitionCache;
 
     @Autowired
     public JobServiceImpl(SchedulerService schedulerService,
                           JobRepository jobRepository,
                           JobDetailsMapper jobDetailsMapper,
-                          TaskService taskService) {
+                          TaskService taskService,
+                          JobDefinitionCache jobDefinitionCache) {
         this.schedulerService = schedulerService;
         this.jobRepository = jobRepository;
         this.jobDetailsMapper = jobDetailsMapper;
         this.taskService = taskService;
+        this.jobDefinitionCache = jobDefinitionCache;
     }
 
     @Override
@@ -57,6 +70,7 @@ public class JobServiceImpl implements JobService {
         schedulerService.unregister(jobKey);
         taskService.deleteAllByJobKey(jobKey);
         jobRepository.deleteById(jobKey);
+        jobDefinitionCache.invalidate(jobKey);
     }
 
     private void throwErrorIfJobDoesNotExist(String jobKey) {
@@ -96,6 +110,75 @@ public class JobServiceImpl implements JobService {
         schedulerService.register(jobDetails);
     }
 
+    /**
+     * Applies the operation to every job targeted by key or tag. The jobs are resolved in one query (without their
+     * details graph, only the key and cron expression are needed) and the scheduler changes are made in the one
+     * transaction. Jobs the operation does not apply to are reported and skipped.
+     */
+    @Override
+    @Transactional
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public List<BulkJobResult> updateJobs(BulkJobOperation operation, BulkJobTarget target) {
+        final Set<String> requestedKeys = target.getJobKeys() == null ? Collections.emptySet() : target.getJobKeys();
+        final List<APIJobDetailsEntity> jobs = jobRepository.findBy(
+            JobRepository.Specs.orderByCreatedOn(JobRepository.Specs.byJobKeyInOrTags(requestedKeys,
+                target.getTags() == null ? Collections.emptySet() : target.getTags())),
+            FluentQuery.FetchableFluentQuery::all);
+        final Set<String> enabledJobKeys = schedulerService.getEnabledJobKeys();
+
+        final List<BulkJobResult> results = new ArrayList<>();
+        final List<APIJobDetailsEntity> applicableJobs = new ArrayList<>();
+        final Set<String> foundKeys = new HashSet<>();
+        for (APIJobDetailsEntity job : jobs) {
+            foundKeys.add(job.getKey());
+            BulkJobResult.Result skipReason = getSkipReason(operation, job, enabledJobKeys.contains(job.getKey()));
+            if (skipReason == null) {
+                applicableJobs.add(job);
+            } else {
+                results.add(BulkJobResult.of(job.getKey(), skipReason));
+            }
+        }
+        requestedKeys.stream()
+            .filter(jobKey -> !foundKeys.contains(jobKey))
+            .forEach(jobKey -> results.add(BulkJobResult.of(jobKey, BulkJobResult.Result.NOT_FOUND)));
+        if (results.isEmpty() && applicableJobs.isEmpty()) {
+            throw new NotFoundException("No Jobs found for the provided target");
+        }
+
+        final List<String> applicableKeys = applicableJobs.stream().map(APIJobDetailsEntity::getKey).toList();
+        final BulkJobResult.Result appliedResult = switch (operation) {
+            case ENABLE -> {
+                schedulerService.registerAll(applicableJobs);
+                yield BulkJobResult.Result.ENABLED;
+            }
+            case DISABLE -> {
+                schedulerService.unregisterAll(applicableKeys);
+                yield BulkJobResult.Result.DISABLED;
+            }
+            case PAUSE -> {
+                schedulerService.pauseAll(applicableKeys);
+                yield BulkJobResult.Result.PAUSED;
+            }
+            case RESUME -> {
+                schedulerService.resumeAll(applicableKeys);
+                yield BulkJobResult.Result.RESUMED;
+            }
+        };
+        applicableKeys.forEach(jobKey -> results.add(BulkJobResult.of(jobKey, appliedResult)));
+        return results;
+    }
+
+    private BulkJobResult.Result getSkipReason(BulkJobOperation operation, APIJobDetailsEntity job, boolean enabled) {
+        if (job.getCronExpression() == null) {
+            return BulkJobResult.Result.NOT_A_SCHEDULED_JOB;
+        }
+        if (operation == BulkJobOperation.ENABLE) {
+            return enabled ? BulkJobResult.Result.ALREADY_ENABLED : null;
+        }
+        //Disabled jobs have no triggers to pause or resume
+        return enabled ? null : BulkJobResult.Result.ALREADY_DISABLED;
+    }
+
     @Override
     public void executeJob(String jobKey) {
         throwErrorIfJobDoesNotExist(jobKey);
@@ -111,6 +194,30 @@ public class JobServiceImpl implements JobService {
         throw new NotFoundException("Job not found for key: " + key);
     }
 
+    @Override
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public APIJobDetailsEntity getJobForExecution(String key) {
+        Optional<APIJobDetailsEntity> jobDetailsEntity = this.jobRepository.findForExecutionByKey(key);
+        if (jobDetailsEntity.isEmpty()) {
+            throw new NotFoundException("Job not found for key: " + key);
+        }
+        //Only validations are fetch joined, initialise headers and post execution actions now as the job is still
+        //used once the transaction it was loaded in has completed
+        Hibernate.initialize(jobDetailsEntity.get().getHeaders());
+        jobDetailsEntity.get().getPostExecutionActions().size();
+        return jobDetailsEntity.get();
+    }
+
+    @Override
+    public JobDefinition getJobDefinition(String key, String revision) {
+        JobDefinition jobDefinition = jobDefinitionCache.get(key, revision);
+        if (jobDefinition == null) {
+            jobDefinition = JobDefinition.of(getJobForExecution(key), revision);
+            jobDefinitionCache.put(jobDefinition);
+        }
+        return jobDefinition;
+    }
+
 
     @Override
     @Transactional
@@ -123,11 +230,53 @@ public class JobServiceImpl implements JobService {
         APIJobDetailsEntity jobDetailsEntity = jobDetailsMapper.toAPIJobDetailsEntity(jobDetails);
         jobDetailsMapper.assignJobs(jobDetailsEntity);
         jobDetailsEntity = this.save(jobDetailsEntity);
+        jobDefinitionCache.invalidate(jobDetailsEntity.getKey());
         if (jobDetailsEntity.getCronExpression() != null) {
             schedulerService.register(jobDetailsEntity);
         }
     }
 
+    /**
+     * Creates many jobs with one query to find keys already in use, one batched insert of the new jobs and one
+     * scheduler call to register those with a cron expression. Jobs whose key is in use (or repeated in the request)
+     * are reported and skipped, the rest are still created.
+     */
+    @Override
+    @Transactional
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public List<BulkJobResult> createJobs(List<APIJobDetails> jobDetails) {
+        final Set<String> existingKeys = jobRepository.findExistingKeys(
+            jobDetails.stream().map(APIJobDetails::getKey).toList());
+        final Set<String> requestedKeys = new HashSet<>();
+        final List<BulkJobResult> results = new ArrayList<>(jobDetails.size());
+        final List<APIJobDetailsEntity> newJobs = new ArrayList<>(jobDetails.size());
+
+        for (APIJobDetails job : jobDetails) {
+            if (existingKeys.contains(job.getKey())) {
+                results.add(BulkJobResult.of(job.getKey(), BulkJobResult.Result.KEY_ALREADY_IN_USE,
+                    "A Job with this key already exists"));
+            } else if (!requestedKeys.add(job.getKey())) {
+                results.add(BulkJobResult.of(job.getKey(), BulkJobResult.Result.DUPLICATE_KEY,
+                    "This key is used by an earlier Job in the request"));
+            } else {
+                APIJobDetailsEntity jobDetailsEntity = jobDetailsMapper.toAPIJobDetailsEntity(job);
+                jobDetailsMapper.assignJobs(jobDetailsEntity);
+                newJobs.add(jobDetailsEntity);
+                results.add(BulkJobResult.of(job.getKey(), BulkJobResult.Result.CREATED));
+            }
+        }
+        if (newJobs.isEmpty()) {
+            return results;
+        }
+        log.debug("Saving " + newJobs.size() + " Jobs");
+        jobRepository.persistAll(newJobs);
+        newJobs.forEach(job -> jobDefinitionCache.invalidate(job.getKey()));
+        schedulerService.registerAll(newJobs.stream()
+            .filter(job -> job.getCronExpression() != null)
+            .toList());
+        return results;
+    }
+
     @Override
     public APIJobDetailsEntity save(APIJobDetailsEntity jobDetailsEntity) {
         log.debug("Saving Job: " + jobDetailsEntity.getKey());
@@ -146,16 +295,19 @@ public class JobServiceImpl implements JobService {
         if (searchFilter.getTags() != null) {
             specifications.add(JobRepository.Specs.byTags(searchFilter.getTags()));
         }
+        //Resolve the enabled state of every job in one scheduler query rather than one per job
+        final Set<String> enabledJobKeys = schedulerService.getEnabledJobKeys();
+        if (searchFilter.getEnabled() != null) {
+            specifications.add(searchFilter.getEnabled()
+                ? JobRepository.Specs.byJobKeyIn(enabledJobKeys)
+                : JobRepository.Specs.byJobKeyNotIn(enabledJobKeys));
+        }
         List<APIJobDetailsEntity> foundJobs =
             jobRepository.findAll(JobRepository.Specs.orderByCreatedOn(Specification.allOf(
                 specifications
             )));
 
-        foundJobs.forEach(this::addEnableDisableProperty);
-
-        if (searchFilter.getEnabled() != null) {
-            foundJobs.removeIf(job -> !searchFilter.getEnabled().equals(job.getEnabled()));
-        }
+        foundJobs.forEach(job -> job.setEnabled(enabledJobKeys.contains(job.getKey())));
 
         if (foundJobs.isEmpty()) {
             throw new NotFoundException("No Jobs found for the provided filter");
@@ -185,6 +337,7 @@ public class JobServiceImpl implements JobService {
         Optional.ofNullable(jobPatch.getHeaders()).ifPresent(jobDetailsEntity::setHeaders);
         Optional.ofNullable(jobPatch.getAuthenticationDefault()).ifPresent(jobDetailsEntity::setAuthenticationDefault);
         Optional.ofNullable(jobPatch.getPayload()).ifPresent(jobDetailsEntity::setPayload);
+        Optional.ofNullable(jobPatch.getBulkhead()).ifPresent(jobDetailsEntity::setBulkhead);
 
         Optional.ofNullable(jobPatch.getValidations()).ifPresent(
             validations -> jobDetailsEntity.setValidations(jobDetailsMapper.apiValidationEntityList(validations)));
@@ -193,9 +346,13 @@ public class JobServiceImpl implements JobService {
             postActions -> jobDetailsEntity.setPostExecutionActions(jobDetailsMapper.actionEntityList(postActions)));
 
         APIJobDetailsEntity updatedJobDetailsEntity = save(jobDetailsEntity);
+        jobDefinitionCache.invalidate(jobKey);
         if (requiresReschedule.get()) {
             schedulerService.unregister(jobKey);
             schedulerService.register(updatedJobDetailsEntity);
+        } else {
+            //Lets other nodes know their cached definition of this job is stale
+            schedulerService.updateJobRevision(jobKey);
         }
         return updatedJobDetailsEntity;
     }
@@ -10,26 +10,39 @@ import org.quartz.JobBuilder;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
 import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.JobType;
 import uk.gov.hmcts.juror.scheduler.service.contracts.SchedulerService;
+import uk.gov.hmcts.juror.scheduler.service.jobs.JobDefinition;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 import uk.gov.hmcts.juror.standard.service.exceptions.NotFoundException;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.UUID;
 
 @Service
 @Slf4j
 @SuppressWarnings("PMD.TooManyMethods")
 public class SchedulerServiceImpl implements SchedulerService {
+    static final String DEFERRED_GROUP = "deferred";
     private final Scheduler scheduler;
 
     @Autowired
@@ -40,6 +53,7 @@ public class SchedulerServiceImpl implements SchedulerService {
 
     @PostConstruct
     public void postConstruct() {
+        backfillJobRevisions();
         try {
             scheduler.start();
         } catch (Exception exception) {
@@ -48,6 +62,29 @@ public class SchedulerServiceImpl implements SchedulerService {
         }
     }
 
+    /**
+     * Gives a revision to jobs stored before revisions were added to the job data, so their definitions can be
+     * cached. Failures are logged rather than stopping startup, those jobs simply load their definition on each run.
+     */
+    @SuppressWarnings("PMD.LawOfDemeter")
+    void backfillJobRevisions() {
+        try {
+            int backfilled = 0;
+            for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP))) {
+                final JobDetail jobDetail = scheduler.getJobDetail(jobKey);
+                if (jobDetail != null && !jobDetail.getJobDataMap().containsKey(JobDefinition.JOB_DATA_REVISION_KEY)) {
+                    scheduler.addJob(buildJobDetails(jobKey.getName()), true, true);
+                    backfilled++;
+                }
+            }
+            if (backfilled > 0) {
+                log.info("Backfilled revisions for " + backfilled + " Jobs");
+            }
+        } catch (Exception exception) {
+            log.error("Failed to backfill Job revisions", exception);
+        }
+    }
+
     @PreDestroy
     public void preDestroy() {
         try {
@@ -68,6 +105,24 @@ public class SchedulerServiceImpl implements SchedulerService {
         }
     }
 
+    @Override
+    @Transactional
+    public void registerAll(Collection<APIJobDetailsEntity> jobDetails) {
+        if (jobDetails.isEmpty()) {
+            return;
+        }
+        final Map<JobDetail, Set<? extends Trigger>> triggersAndJobs = new LinkedHashMap<>();
+        jobDetails.forEach(job -> triggersAndJobs.put(buildJobDetails(job.getKey()), Set.of(
+            job.getCronExpression() != null ? cronTriggerBuilder(job) : simpleTrigger(job.getKey()))));
+        try {
+            //Stores every job and trigger in one job store transaction rather than one per job
+            scheduler.scheduleJobs(triggersAndJobs, false);
+        } catch (Exception exception) {
+            log.error("Failed to schedule Jobs", exception);
+            throw new InternalServerException("Failed to register Jobs", exception);
+        }
+    }
+
     private void scheduleCronJob(APIJobDetailsEntity jobDetails) {
         final JobDetail jobDetail = buildJobDetails(jobDetails.getKey());
         final Trigger trigger = cronTriggerBuilder(jobDetails);
@@ -103,6 +158,37 @@ public class SchedulerServiceImpl implements SchedulerService {
         }
     }
 
+    /**
+     * Runs the job once after the delay using a trigger in the {@link #DEFERRED_GROUP}, leaving its own trigger
+     * untouched. A job has at most one deferred run, deferring it again moves that run. If the job's own trigger is
+     * paused the deferred run is paused with it, resuming the job resumes both.
+     */
+    @Override
+    public void deferJob(String jobKey, long delay) {
+        final Trigger trigger = TriggerBuilder
+            .newTrigger()
+            .withIdentity(jobKey, DEFERRED_GROUP)
+            .forJob(createJobKey(jobKey))
+            .startAt(new Date(System.currentTimeMillis() + delay))
+            .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+            .build();
+        try {
+            if (scheduler.checkExists(trigger.getKey())) {
+                scheduler.rescheduleJob(trigger.getKey(), trigger);
+            } else {
+                scheduler.scheduleJob(trigger);
+            }
+            if (scheduler.getTriggerState(TriggerKey.triggerKey(jobKey)) == Trigger.TriggerState.PAUSED) {
+                scheduler.pauseTrigger(trigger.getKey());
+            }
+        } catch (ObjectAlreadyExistsException exception) {
+            log.debug("Job: " + jobKey + " has already been deferred");
+        } catch (Exception exception) {
+            log.error("Failed to defer Job", exception);
+            throw new InternalServerException("Failed to defer Job", exception);
+        }
+    }
+
     @Override
     @SneakyThrows
     public boolean isScheduled(String jobKey) {
@@ -133,6 +219,35 @@ public class SchedulerServiceImpl implements SchedulerService {
         }
     }
 
+    @Override
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public Set<String> getEnabledJobKeys() {
+        try {
+            Set<String> enabledJobKeys = new HashSet<>();
+            scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP))
+                .forEach(jobKey -> enabledJobKeys.add(jobKey.getName()));
+            return enabledJobKeys;
+        } catch (Exception e) {
+            log.error("Failed to get registered job keys", e);
+            throw new InternalServerException("Failed to get registered job keys", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updateJobRevision(String jobKey) {
+        try {
+            if (scheduler.getJobDetail(createJobKey(jobKey)) == null) {
+                //Not registered, a new revision is assigned when it is
+                return;
+            }
+            scheduler.addJob(buildJobDetails(jobKey), true, true);
+        } catch (Exception exception) {
+            log.error("Failed to update Job revision", exception);
+            throw new InternalServerException("Failed to update Job revision", exception);
+        }
+    }
+
     @Override
     @Transactional
     public void unregister(String jobKey) {
@@ -144,6 +259,71 @@ public class SchedulerServiceImpl implements SchedulerService {
         }
     }
 
+    @Override
+    @Transactional
+    public void unregisterAll(Collection<String> jobKeys) {
+        if (jobKeys.isEmpty()) {
+            return;
+        }
+        try {
+            scheduler.deleteJobs(createJobKeys(jobKeys));
+        } catch (Exception exception) {
+            log.error("Failed to unregister Jobs", exception);
+            throw new InternalServerException("Failed to unregister Jobs", exception);
+        }
+    }
+
+    /**
+     * Pauses the triggers of the given jobs. When every registered job is targeted they are paused with a single
+     * group matcher call, otherwise job by job within the one transaction.
+     */
+    @Override
+    @Transactional
+    public void pauseAll(Collection<String> jobKeys) {
+        if (jobKeys.isEmpty()) {
+            return;
+        }
+        try {
+            if (jobKeys.containsAll(getEnabledJobKeys())) {
+                scheduler.pauseJobs(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP));
+            } else {
+                for (JobKey jobKey : createJobKeys(jobKeys)) {
+                    scheduler.pauseJob(jobKey);
+                }
+            }
+        } catch (Exception exception) {
+            log.error("Failed to pause Jobs", exception);
+            throw new InternalServerException("Failed to pause Jobs", exception);
+        }
+    }
+
+    /**
+     * Resumes the triggers of the given jobs, see {@link #pauseAll(Collection)}.
+     */
+    @Override
+    @Transactional
+    public void resumeAll(Collection<String> jobKeys) {
+        if (jobKeys.isEmpty()) {
+            return;
+        }
+        try {
+            if (jobKeys.containsAll(getEnabledJobKeys())) {
+                scheduler.resumeJobs(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP));
+            } else {
+                for (JobKey jobKey : createJobKeys(jobKeys)) {
+                    scheduler.resumeJob(jobKey);
+                }
+            }
+        } catch (Exception exception) {
+            log.error("Failed to resume Jobs", exception);
+            throw new InternalServerException("Failed to resume Jobs", exception);
+        }
+    }
+
+    private List<JobKey> createJobKeys(Collection<String> jobKeys) {
+        return jobKeys.stream().map(this::createJobKey).toList();
+    }
+
     JobKey createJobKey(String jobKey) {
         return JobKey.jobKey(jobKey);
     }
@@ -153,6 +333,7 @@ public class SchedulerServiceImpl implements SchedulerService {
     private JobDetail buildJobDetails(String jobKey) {
         final JobDataMap jobDataMap = new JobDataMap();
         jobDataMap.put("key", jobKey);
+        jobDataMap.put(JobDefinition.JOB_DATA_REVISION_KEY, UUID.randomUUID().toString());
         return JobBuilder
             .newJob(JobType.API.getJobProcessingClass())
             .withIdentity(jobKey)
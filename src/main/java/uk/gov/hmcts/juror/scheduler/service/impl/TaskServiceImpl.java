@@ -1,16 +1,26 @@
 package uk.gov.hmcts.juror.scheduler.service.impl;
 
 import io.jsonwebtoken.lang.Collections;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.juror.scheduler.api.APIConstants;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.StatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdateResult;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchCursor;
 import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchFilter;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchPage;
 import uk.gov.hmcts.juror.scheduler.datastore.repository.TaskRepository;
 import uk.gov.hmcts.juror.scheduler.service.contracts.ActionService;
 import uk.gov.hmcts.juror.scheduler.service.contracts.JobService;
@@ -19,8 +29,13 @@ import uk.gov.hmcts.juror.standard.service.exceptions.NotFoundException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Service
 public class TaskServiceImpl implements TaskService {
@@ -31,13 +46,21 @@ public class TaskServiceImpl implements TaskService {
 
     private final ActionService actionService;
 
+    private final ObjectProvider<TaskStatusUpdateBuffer> taskStatusUpdateBuffer;
+
+    private final TransactionTemplate transactionTemplate;
+
 
     @Autowired
     public TaskServiceImpl(@Lazy JobService jobService, TaskRepository taskRepository,
-                           @Lazy ActionService actionService) {
+                           @Lazy ActionService actionService,
+                           ObjectProvider<TaskStatusUpdateBuffer> taskStatusUpdateBuffer,
+                           PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
         this.jobService = jobService;
         this.actionService = actionService;
+        this.taskStatusUpdateBuffer = taskStatusUpdateBuffer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
 
@@ -50,9 +73,34 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional
     public TaskEntity saveTask(TaskEntity task) {
         TaskEntity actionTaskEntity = this.actionService.taskUpdated(task);
-        return taskRepository.saveAndFlush(actionTaskEntity);
+        TaskEntity savedTaskEntity = taskRepository.saveAndFlush(actionTaskEntity);
+        this.actionService.taskSaved(savedTaskEntity);
+        return savedTaskEntity;
+    }
+
+    /**
+     * Writes the completion through the entity, under a row lock, so it is audited and stamped like any other task
+     * update.
+     */
+    @Override
+    @Transactional
+    public boolean completeTask(TaskEntity task, LocalDateTime lastUpdatedAt) {
+        Optional<TaskEntity> persistedTask = lastUpdatedAt == null
+            ? taskRepository.findForUpdate(task.getTaskId(), task.getCreatedAt())
+            : taskRepository.findForUpdateIfNotModified(task.getTaskId(), task.getCreatedAt(), lastUpdatedAt);
+        if (persistedTask.isEmpty()) {
+            return false;
+        }
+        TaskEntity taskEntity = persistedTask.get();
+        //The job is already loaded with its post execution actions, reuse it rather than loading it again
+        taskEntity.setJob(task.getJob());
+        taskEntity.setStatus(task.getStatus());
+        taskEntity.setMessage(task.getMessage());
+        task.setLastUpdatedAt(saveTask(taskEntity).getLastUpdatedAt());
+        return true;
     }
 
     @Override
@@ -75,19 +123,124 @@ public class TaskServiceImpl implements TaskService {
         throw new NotFoundException("Task not found for JobKey: " + jobKey + " and taskId " + taskId);
     }
 
+    /**
+     * Not transactional itself, anything buffered for the task is drained before the update's transaction opens so
+     * waiting on a flush of the task does not hold a connection. An update that is buffered only loads the task once,
+     * one that cannot be (e.g. it triggers an action) loads it again after the drain so it sees anything flushed.
+     */
     @Override
     public void updateStatus(String jobKey, long taskId, StatusUpdate statusUpdate) {
+        TaskStatusUpdateBuffer buffer = taskStatusUpdateBuffer.getIfAvailable();
+        if (buffer != null && buffer.isBuffered(statusUpdate.getStatus())
+            && offer(buffer, jobKey, taskId, statusUpdate)) {
+            return;
+        }
+        final StatusUpdate update = buffer == null ? statusUpdate : buffer.drain(taskId, statusUpdate);
+        transactionTemplate.executeWithoutResult(status -> applyStatusUpdate(jobKey, taskId, update));
+    }
+
+    private boolean offer(TaskStatusUpdateBuffer buffer, String jobKey, long taskId, StatusUpdate statusUpdate) {
+        //Checked in a transaction as the job's post execution actions are loaded lazily
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+            !triggersActions(getLatestTask(jobKey, taskId), statusUpdate.getStatus())
+                && buffer.offer(jobKey, taskId, statusUpdate)));
+    }
+
+    private void applyStatusUpdate(String jobKey, long taskId, StatusUpdate update) {
         TaskEntity taskEntity = getLatestTask(jobKey, taskId);
-        taskEntity.setStatus(statusUpdate.getStatus());
-        if (statusUpdate.getMessage() != null) {
-            taskEntity.setMessage(statusUpdate.getMessage());
+        taskEntity.setStatus(update.getStatus());
+        if (update.getMessage() != null) {
+            taskEntity.setMessage(update.getMessage());
         }
-        if (!Collections.isEmpty(statusUpdate.getMetaData())) {
-            taskEntity.addMetaData(statusUpdate.getMetaData());
+        if (!Collections.isEmpty(update.getMetaData())) {
+            //Merged in the database so concurrent updates do not overwrite each other's keys
+            taskRepository.mergeMetaData(taskEntity.getTaskId(), taskEntity.getCreatedAt(), update.getMetaData());
+            taskEntity.addMetaData(update.getMetaData());
         }
         saveTask(taskEntity);
     }
 
+    private boolean triggersActions(TaskEntity taskEntity, Status status) {
+        //Checked against a detached copy so the loaded task is left unchanged when the update is buffered
+        return actionService.hasTriggeredActions(TaskEntity.builder()
+            .taskId(taskEntity.getTaskId())
+            .job(taskEntity.getJob())
+            .status(status)
+            .build());
+    }
+
+    /**
+     * Applies many status updates in one transaction. The tasks (with their jobs) are loaded in one query, each task's
+     * meta data is merged once with every update to it combined, and the task changes are written in a single flush
+     * so they are sent as JDBC batches. Updates are applied in order, so post execution actions still see each status.
+     * Anything buffered for the tasks is drained first, before the transaction opens, and applied with them, so it is
+     * never flushed over them later.
+     */
+    @Override
+    public List<TaskStatusUpdateResult> updateStatuses(List<TaskStatusUpdate> statusUpdates) {
+        TaskStatusUpdateBuffer buffer = taskStatusUpdateBuffer.getIfAvailable();
+        final List<TaskStatusUpdate> updates = buffer == null ? statusUpdates : buffer.drain(statusUpdates);
+        return transactionTemplate.execute(status -> applyStatusUpdates(updates, task -> false));
+    }
+
+    /**
+     * The status (and meta data) of another replica or a completed execution may have been written since the update
+     * was buffered, so the buffered update is only applied while the task is not terminal and has not been updated
+     * since. Replicas' clocks are assumed to be in step.
+     */
+    @Override
+    @Transactional
+    public List<TaskStatusUpdateResult> updateBufferedStatuses(List<TaskStatusUpdate> statusUpdates,
+                                                               Map<Long, LocalDateTime> bufferedAt) {
+        return applyStatusUpdates(statusUpdates, task -> isUpdatedSince(task, bufferedAt.get(task.getTaskId())));
+    }
+
+    private boolean isUpdatedSince(TaskEntity task, LocalDateTime bufferedAt) {
+        if (!TaskStatusUpdateBuffer.BUFFERED_STATUSES.contains(task.getStatus())) {
+            return true;
+        }
+        return bufferedAt != null && task.getLastUpdatedAt() != null && task.getLastUpdatedAt().isAfter(bufferedAt);
+    }
+
+    @SuppressWarnings("PMD.LawOfDemeter")
+    private List<TaskStatusUpdateResult> applyStatusUpdates(List<TaskStatusUpdate> statusUpdates,
+                                                            Predicate<TaskEntity> skip) {
+        final Map<Long, TaskEntity> tasks = new HashMap<>();
+        taskRepository.findAllWithJobByTaskIdIn(statusUpdates.stream().map(TaskStatusUpdate::getTaskId)
+                .distinct().toList())
+            .forEach(task -> tasks.put(task.getTaskId(), task));
+
+        final List<TaskStatusUpdateResult> results = new ArrayList<>(statusUpdates.size());
+        final Map<Long, Map<String, String>> metaData = new LinkedHashMap<>();
+        for (TaskStatusUpdate statusUpdate : statusUpdates) {
+            TaskEntity task = tasks.get(statusUpdate.getTaskId());
+            if (task == null || !task.getJob().getKey().equals(statusUpdate.getJobKey())) {
+                results.add(TaskStatusUpdateResult.of(statusUpdate, TaskStatusUpdateResult.Result.NOT_FOUND));
+                continue;
+            }
+            if (skip.test(task)) {
+                results.add(TaskStatusUpdateResult.of(statusUpdate, TaskStatusUpdateResult.Result.SKIPPED));
+                continue;
+            }
+            if (!Collections.isEmpty(statusUpdate.getMetaData())) {
+                metaData.computeIfAbsent(task.getTaskId(), taskId -> new HashMap<>())
+                    .putAll(statusUpdate.getMetaData());
+                task.addMetaData(statusUpdate.getMetaData());
+            }
+            task.setStatus(statusUpdate.getStatus());
+            if (statusUpdate.getMessage() != null) {
+                task.setMessage(statusUpdate.getMessage());
+            }
+            actionService.taskSaved(actionService.taskUpdated(task));
+            results.add(TaskStatusUpdateResult.of(statusUpdate, TaskStatusUpdateResult.Result.UPDATED));
+        }
+        //Merged in the database so concurrent updates do not overwrite each other's keys
+        metaData.forEach((taskId, values) ->
+            taskRepository.mergeMetaData(taskId, tasks.get(taskId).getCreatedAt(), values));
+        taskRepository.flush();
+        return results;
+    }
+
     @Override
     @Transactional
     public void deleteAllByJobKey(String jobKey) {
@@ -97,10 +250,62 @@ public class TaskServiceImpl implements TaskService {
     @Override
     @SuppressWarnings("PMD.LawOfDemeter")
     public List<TaskEntity> getTasks(TaskSearchFilter searchFilter) {
-        List<Specification<TaskEntity>> specifications = new ArrayList<>();
+        List<TaskEntity> taskEntities =
+            taskRepository.findAll(TaskRepository.Specs.orderByCreatedOn(Specification.allOf(
+                getSpecifications(searchFilter, getFromDate(searchFilter))
+            )));
+        if (taskEntities.isEmpty()) {
+            throw new NotFoundException("No tasks found for the provided filter");
+        }
+        return taskEntities;
+    }
 
-        LocalDateTime fromDate = Optional.ofNullable(searchFilter.getFromDate())
+    /**
+     * Keyset pagination. Pages are ordered by (created_at, task_id), which the task_entity created_at indexes return
+     * in order, so each page only reads the tasks it returns. An empty page is returned rather than not found, as
+     * the previous page may have ended exactly on the last task.
+     */
+    @Override
+    @SuppressWarnings("PMD.LawOfDemeter")
+    public TaskSearchPage getTaskPage(TaskSearchFilter searchFilter) {
+        final TaskSearchCursor cursor = searchFilter.getCursor();
+        //The window is fixed by the first page, later pages take it from the cursor so it does not move
+        final LocalDateTime fromDate = cursor == null ? getFromDate(searchFilter) : cursor.getFromDate();
+        final List<Specification<TaskEntity>> specifications = getSpecifications(searchFilter, fromDate);
+        if (cursor != null) {
+            specifications.add(TaskRepository.Specs.byCreatedAtAndTaskIdAfter(cursor.getCreatedAt(),
+                cursor.getTaskId()));
+        }
+        final int limit = Optional.ofNullable(searchFilter.getLimit())
+            .orElse(APIConstants.TASK_SEARCH_DEFAULT_LIMIT);
+        final List<TaskEntity> taskEntities = taskRepository.findBy(Specification.allOf(specifications),
+            (FluentQuery.FetchableFluentQuery<TaskEntity> query) ->
+                query.sortBy(Sort.by(Sort.Direction.ASC, "createdAt", "taskId")).limit(limit).all());
+
+        if (taskEntities.size() < limit) {
+            return new TaskSearchPage(taskEntities, null);
+        }
+        final TaskEntity last = taskEntities.get(taskEntities.size() - 1);
+        return new TaskSearchPage(taskEntities,
+            new TaskSearchCursor(fromDate, last.getCreatedAt(), last.getTaskId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskSearchFilter searchFilter, Consumer<TaskEntity> consumer) {
+        taskRepository.forEachTask(TaskRepository.Specs.orderByCreatedOn(Specification.allOf(
+            getSpecifications(searchFilter, getFromDate(searchFilter)))), consumer);
+    }
+
+    private LocalDateTime getFromDate(TaskSearchFilter searchFilter) {
+        return Optional.ofNullable(searchFilter.getFromDate())
             .orElseGet(() -> LocalDateTime.now().minusDays(7));
+    }
+
+    @SuppressWarnings("PMD.LawOfDemeter")
+    private List<Specification<TaskEntity>> getSpecifications(TaskSearchFilter searchFilter,
+                                                              LocalDateTime fromDate) {
+        List<Specification<TaskEntity>> specifications = new ArrayList<>();
 
         specifications.add(TaskRepository.Specs.byCreateDateGreaterThan(fromDate));
 
@@ -110,14 +315,11 @@ public class TaskServiceImpl implements TaskService {
         if (searchFilter.getStatuses() != null) {
             specifications.add(TaskRepository.Specs.byStatus(searchFilter.getStatuses()));
         }
-        List<TaskEntity> taskEntities =
-            taskRepository.findAll(TaskRepository.Specs.orderByCreatedOn(Specification.allOf(
-                specifications
-            )));
-        if (taskEntities.isEmpty()) {
-            throw new NotFoundException("No tasks found for the provided filter");
+        if (searchFilter.getMetaDataKey() != null) {
+            specifications.add(TaskRepository.Specs.byMetaData(searchFilter.getMetaDataKey(),
+                searchFilter.getMetaDataValue()));
         }
-        return taskEntities;
+        return specifications;
     }
 
     @Override
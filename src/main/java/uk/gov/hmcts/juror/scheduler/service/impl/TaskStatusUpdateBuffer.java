@@ -0,0 +1,277 @@
+package uk.gov.hmcts.juror.scheduler.service.impl;
+
+import io.jsonwebtoken.lang.Collections;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.scheduler.api.model.job.details.StatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdateResult;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for task status updates, enabled with scheduler.task-status-buffer.enabled. A burst of
+ * non-terminal updates to the same task is coalesced into one pending update (the latest status and message, with the
+ * meta data merged) and the pending updates are applied together on the flush interval, in batches.
+ *
+ * <p>Terminal statuses, and updates that trigger a post execution action, are never buffered. They are applied
+ * straight away along with anything pending for the task (see {@link #drain(long, StatusUpdate)}), as are the updates
+ * of the batch status endpoint (see {@link #drain(List)}). Draining waits for any flush in progress for the task, so a
+ * buffered update is never applied after a later immediate one. Callers drain before opening their transaction, so a
+ * waiting request does not hold a connection the flush needs.
+ *
+ * <p>Pending updates are split by task id into stripes, each flushed under its own lock, so draining a task only waits
+ * on a flush of its own stripe. A batch that fails to apply is put back, coalesced with anything buffered for its tasks
+ * since, and retried on the next flush.
+ *
+ * <p>Each pending update remembers when it was last buffered. A flushed update is skipped if its task has since been
+ * given a terminal status or updated elsewhere (e.g. by another replica or a completed execution), see
+ * {@link TaskService#updateBufferedStatuses(List, Map)}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "scheduler.task-status-buffer.enabled", havingValue = "true")
+@SuppressWarnings("PMD.LawOfDemeter")
+public class TaskStatusUpdateBuffer {
+    static final Set<Status> BUFFERED_STATUSES =
+        EnumSet.of(Status.PENDING, Status.PROCESSING, Status.VALIDATION_PASSED, Status.PROGRESSING);
+    static final int STRIPES = 16;
+
+    private final TaskService taskService;
+    private final List<Stripe> stripes = new ArrayList<>(STRIPES);
+    private final int capacity;
+    private final int batchSize;
+
+    @Autowired
+    public TaskStatusUpdateBuffer(TaskService taskService,
+                                  @Value("${scheduler.task-status-buffer.capacity:10000}") int capacity,
+                                  @Value("${scheduler.task-status-buffer.batch-size:500}") int batchSize) {
+        this.taskService = taskService;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        for (int index = 0; index < STRIPES; index++) {
+            stripes.add(new Stripe());
+        }
+    }
+
+    public boolean isBuffered(Status status) {
+        return BUFFERED_STATUSES.contains(status);
+    }
+
+    /**
+     * Buffers the update, coalescing it with any update already pending for the task. Returns false, leaving the
+     * caller to apply the update, if the status is terminal or the buffer is full.
+     */
+    public boolean offer(String jobKey, long taskId, StatusUpdate statusUpdate) {
+        if (!isBuffered(statusUpdate.getStatus())) {
+            return false;
+        }
+        final Map<Long, PendingUpdate> pending = stripe(taskId).pending;
+        if (getPendingCount() >= capacity && !pending.containsKey(taskId)) {
+            log.debug("Task status update buffer is full, applying update for task " + taskId + " immediately");
+            return false;
+        }
+        pending.merge(taskId, new PendingUpdate(copy(jobKey, taskId, statusUpdate), LocalDateTime.now()),
+            (earlier, later) -> new PendingUpdate(coalesce(earlier.statusUpdate(), later.statusUpdate()),
+                later.bufferedAt()));
+        return true;
+    }
+
+    /**
+     * Removes any update pending for the task and returns it coalesced with the given (later) update, or the given
+     * update if nothing is pending.
+     */
+    public StatusUpdate drain(long taskId, StatusUpdate statusUpdate) {
+        final Stripe stripe = stripe(taskId);
+        stripe.lock.lock();
+        try {
+            PendingUpdate pendingUpdate = stripe.pending.remove(taskId);
+            return pendingUpdate == null
+                ? statusUpdate
+                : coalesce(pendingUpdate.statusUpdate(),
+                    copy(pendingUpdate.statusUpdate().getJobKey(), taskId, statusUpdate));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes any updates pending for the tasks and coalesces each into the first of the given (later) updates to
+     * its task, so nothing pending is flushed over them afterwards.
+     */
+    public List<TaskStatusUpdate> drain(List<TaskStatusUpdate> statusUpdates) {
+        //Locked in index order so concurrent batches cannot deadlock
+        final Set<Integer> stripeIndexes = new TreeSet<>();
+        statusUpdates.forEach(statusUpdate -> stripeIndexes.add(stripeIndex(statusUpdate.getTaskId())));
+        final List<ReentrantLock> locked = new ArrayList<>(stripeIndexes.size());
+        try {
+            for (int stripeIndex : stripeIndexes) {
+                ReentrantLock lock = stripes.get(stripeIndex).lock;
+                lock.lock();
+                locked.add(lock);
+            }
+            List<TaskStatusUpdate> drained = new ArrayList<>(statusUpdates.size());
+            for (TaskStatusUpdate statusUpdate : statusUpdates) {
+                PendingUpdate pendingUpdate = stripe(statusUpdate.getTaskId()).pending.remove(statusUpdate.getTaskId());
+                drained.add(pendingUpdate == null
+                    ? statusUpdate
+                    : coalesce(pendingUpdate.statusUpdate(), statusUpdate));
+            }
+            return drained;
+        } finally {
+            locked.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    public int getPendingCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            count += stripe.pending.size();
+        }
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.task-status-buffer.flush-interval:1000}")
+    public void flush() {
+        stripes.forEach(this::flush);
+    }
+
+    private void flush(Stripe stripe) {
+        //Bounded by what is pending now so a steady stream of updates cannot keep the flush running
+        int remaining = stripe.pending.size();
+        while (remaining > 0) {
+            stripe.lock.lock();
+            try {
+                List<PendingUpdate> batch = take(stripe, Math.min(remaining, batchSize));
+                if (batch.isEmpty()) {
+                    return;
+                }
+                remaining -= batch.size();
+                if (!apply(batch)) {
+                    restore(stripe, batch);
+                    return;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private List<PendingUpdate> take(Stripe stripe, int count) {
+        List<PendingUpdate> batch = new ArrayList<>(count);
+        Iterator<Long> taskIds = stripe.pending.keySet().iterator();
+        while (batch.size() < count && taskIds.hasNext()) {
+            PendingUpdate pendingUpdate = stripe.pending.remove(taskIds.next());
+            if (pendingUpdate != null) {
+                batch.add(pendingUpdate);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Puts a batch that failed to apply back, under anything buffered for its tasks since it was taken.
+     */
+    private void restore(Stripe stripe, List<PendingUpdate> batch) {
+        batch.forEach(failed -> stripe.pending.merge(failed.statusUpdate().getTaskId(), failed,
+            (later, earlier) -> new PendingUpdate(coalesce(earlier.statusUpdate(), later.statusUpdate()),
+                later.bufferedAt())));
+    }
+
+    private boolean apply(List<PendingUpdate> batch) {
+        try {
+            List<TaskStatusUpdate> statusUpdates = new ArrayList<>(batch.size());
+            Map<Long, LocalDateTime> bufferedAt = new HashMap<>();
+            batch.forEach(pendingUpdate -> {
+                statusUpdates.add(pendingUpdate.statusUpdate());
+                bufferedAt.put(pendingUpdate.statusUpdate().getTaskId(), pendingUpdate.bufferedAt());
+            });
+            List<TaskStatusUpdateResult> results = taskService.updateBufferedStatuses(statusUpdates, bufferedAt);
+            long notFound = count(results, TaskStatusUpdateResult.Result.NOT_FOUND);
+            if (notFound > 0) {
+                log.warn(notFound + " buffered task status updates were discarded as their tasks no longer exist");
+            }
+            long skipped = count(results, TaskStatusUpdateResult.Result.SKIPPED);
+            if (skipped > 0) {
+                log.debug(skipped + " buffered task status updates were skipped as their tasks have since been "
+                    + "updated");
+            }
+            return true;
+        } catch (Exception exception) {
+            log.error("Failed to apply " + batch.size() + " buffered task status updates, they will be retried on the "
+                + "next flush", exception);
+            return false;
+        }
+    }
+
+    private Stripe stripe(long taskId) {
+        return stripes.get(stripeIndex(taskId));
+    }
+
+    static int stripeIndex(long taskId) {
+        return Math.floorMod(Long.hashCode(taskId), STRIPES);
+    }
+
+    private static long count(List<TaskStatusUpdateResult> results, TaskStatusUpdateResult.Result result) {
+        return results.stream().filter(statusUpdateResult -> statusUpdateResult.getResult() == result).count();
+    }
+
+    static TaskStatusUpdate coalesce(TaskStatusUpdate earlier, TaskStatusUpdate later) {
+        TaskStatusUpdate coalesced = new TaskStatusUpdate();
+        coalesced.setJobKey(later.getJobKey());
+        coalesced.setTaskId(later.getTaskId());
+        coalesced.setStatus(later.getStatus());
+        coalesced.setMessage(later.getMessage() == null ? earlier.getMessage() : later.getMessage());
+        if (!Collections.isEmpty(earlier.getMetaData()) || !Collections.isEmpty(later.getMetaData())) {
+            Map<String, String> metaData = new HashMap<>();
+            if (!Collections.isEmpty(earlier.getMetaData())) {
+                metaData.putAll(earlier.getMetaData());
+            }
+            if (!Collections.isEmpty(later.getMetaData())) {
+                metaData.putAll(later.getMetaData());
+            }
+            coalesced.setMetaData(metaData);
+        }
+        return coalesced;
+    }
+
+    private static TaskStatusUpdate copy(String jobKey, long taskId, StatusUpdate statusUpdate) {
+        TaskStatusUpdate taskStatusUpdate = new TaskStatusUpdate();
+        taskStatusUpdate.setJobKey(jobKey);
+        taskStatusUpdate.setTaskId(taskId);
+        taskStatusUpdate.setStatus(statusUpdate.getStatus());
+        taskStatusUpdate.setMessage(statusUpdate.getMessage());
+        taskStatusUpdate.setMetaData(statusUpdate.getMetaData());
+        return taskStatusUpdate;
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        flush();
+    }
+
+    private record PendingUpdate(TaskStatusUpdate statusUpdate, LocalDateTime bufferedAt) {
+    }
+
+    private static final class Stripe {
+        private final Map<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+    }
+}
@@ -4,26 +4,27 @@ import io.restassured.RestAssured;
 import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.util.CollectionUtils;
+import uk.gov.hmcts.juror.scheduler.config.http.OutboundHttpClient;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
-import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIValidationEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.JobResult;
+import uk.gov.hmcts.juror.scheduler.datastore.model.ResponseEvaluationContext;
 import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
 import uk.gov.hmcts.juror.scheduler.service.contracts.JobService;
+import uk.gov.hmcts.juror.scheduler.service.contracts.SchedulerService;
 import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 
@@ -38,14 +39,33 @@ public class APIJob implements Job {
     final TaskService taskService;
     final PlatformTransactionManager transactionManager;
     final DefaultTransactionDefinition transactionDefinition;
-    @PersistenceContext
-    EntityManager entityManager;
+    final APIJobDispatcher apiJobDispatcher;
+    final APIJobMetrics apiJobMetrics;
+    final OutboundHttpClient outboundHttpClient;
+    final APIJobRequestLogger apiJobRequestLogger;
+    final APIJobBulkheads apiJobBulkheads;
+    final SchedulerService schedulerService;
+    final APIJobAdaptiveLimiter apiJobAdaptiveLimiter;
+
+    @Value("${scheduler.execution.async-dispatch.enabled:false}")
+    boolean asyncDispatch;
 
     @Autowired
-    public APIJob(JobService jobService, TaskService taskService, PlatformTransactionManager transactionManager) {
+    public APIJob(JobService jobService, TaskService taskService, PlatformTransactionManager transactionManager,
+                  APIJobDispatcher apiJobDispatcher, APIJobMetrics apiJobMetrics,
+                  OutboundHttpClient outboundHttpClient, APIJobRequestLogger apiJobRequestLogger,
+                  APIJobBulkheads apiJobBulkheads, SchedulerService schedulerService,
+                  APIJobAdaptiveLimiter apiJobAdaptiveLimiter) {
         this.jobService = jobService;
         this.taskService = taskService;
         this.transactionManager = transactionManager;
+        this.apiJobDispatcher = apiJobDispatcher;
+        this.apiJobMetrics = apiJobMetrics;
+        this.outboundHttpClient = outboundHttpClient;
+        this.apiJobRequestLogger = apiJobRequestLogger;
+        this.apiJobBulkheads = apiJobBulkheads;
+        this.schedulerService = schedulerService;
+        this.apiJobAdaptiveLimiter = apiJobAdaptiveLimiter;
         transactionDefinition = new DefaultTransactionDefinition();
         transactionDefinition.setIsolationLevel(TransactionDefinition.ISOLATION_DEFAULT);
         transactionDefinition.setTimeout(-1);
@@ -57,59 +77,182 @@ public class APIJob implements Job {
         "PMD.AvoidInstanceofChecksInCatchClause"
     })
     public void execute(JobExecutionContext context) {
+        final long executionStart = System.nanoTime();
         String jobKey = null;
+        JobDefinition jobDefinition = null;
+        Response response = null;
         TaskEntity task = null;
+        String bulkhead = null;
+        String host = null;
+        boolean reserved = false;
+        boolean dispatched = false;
+        boolean notExecuted = false;
 
         TransactionStatus status = transactionManager.getTransaction(transactionDefinition);
         try {
 
             jobKey = getJobKeyFromContext(context);
-            final APIJobDetailsEntity apiJobDetailsEntity = jobService.getJob(jobKey);
-            task = taskService.createTask(apiJobDetailsEntity);
+            apiJobMetrics.recordSchedulingDelay(jobKey, context);
+            if (asyncDispatch) {
+                reserved = apiJobDispatcher.reserve(jobKey);
+                if (!reserved) {
+                    log.warn("Previous execution of Job: " + jobKey + " is still in progress, skipping execution");
+                    context.setResult(failedResult("Previous execution is still in progress", null));
+                    apiJobMetrics.recordSkip(jobKey, APIJobMetrics.REASON_IN_PROGRESS);
+                    notExecuted = true;//Counted as a skip rather than an execution
+                    return;
+                }
+            }
+            jobDefinition = jobService.getJobDefinition(jobKey, getRevisionFromContext(context));
+            final String jobBulkhead = apiJobBulkheads.getBulkhead(jobDefinition);
+            if (!apiJobBulkheads.tryAcquire(jobBulkhead)) {
+                defer(context, jobKey, apiJobBulkheads.nextDeferDelay(), "bulkhead " + jobBulkhead + " is full",
+                    APIJobMetrics.REASON_BULKHEAD);
+                notExecuted = true;//Counted as a deferral rather than an execution
+                return;
+            }
+            bulkhead = jobBulkhead;
+            final String jobHost = apiJobAdaptiveLimiter.getHost(jobDefinition);
+            if (!apiJobAdaptiveLimiter.tryAcquire(jobHost)) {
+                defer(context, jobKey, apiJobAdaptiveLimiter.nextDeferDelay(jobHost),
+                    "host " + jobHost + " is at its adaptive limit", APIJobMetrics.REASON_ADAPTIVE_LIMIT);
+                notExecuted = true;//Counted as a deferral rather than an execution
+                return;
+            }
+            host = jobHost;
+            task = taskService.createTask(jobDefinition.getJobDetails());
 
             final LocalDateTime lastUpdated = task.getLastUpdatedAt();
             transactionManager.commit(status);
+            apiJobMetrics.recordSetup(jobKey, System.nanoTime() - executionStart);
 
-            final RequestSpecification requestSpecification = setupRequest(apiJobDetailsEntity, task);
-            final Response response = triggerRequest(requestSpecification, apiJobDetailsEntity);
+            final RequestSpecification requestSpecification = setupRequest(jobDefinition, task);
+
+            if (asyncDispatch) {
+                final String dispatchedJobKey = jobKey;
+                final JobDefinition dispatchedJobDefinition = jobDefinition;
+                final TaskEntity dispatchedTask = task;
+                final String dispatchedBulkhead = bulkhead;
+                final String dispatchedHost = host;
+                apiJobDispatcher.dispatch(jobKey,
+                    () -> triggerRequest(requestSpecification, dispatchedJobDefinition, dispatchedHost),
+                    (dispatchedResponse, throwable) -> {
+                        try {
+                            completeDispatchedTask(dispatchedJobKey, dispatchedJobDefinition, dispatchedTask,
+                                lastUpdated, dispatchedResponse, throwable, executionStart);
+                        } finally {
+                            apiJobBulkheads.release(dispatchedBulkhead);
+                            apiJobAdaptiveLimiter.release(dispatchedHost);
+                        }
+                    });
+                reserved = false;//Released by the dispatcher once the request completes
+                bulkhead = null;//Released once the dispatched request completes
+                host = null;//Released once the dispatched request completes
+                dispatched = true;//Recorded by the dispatcher once the request completes
+                log.info("Dispatched task for Job: " + jobKey);
+                return;
+            }
+            response = triggerRequest(requestSpecification, jobDefinition, host);
 
             status = transactionManager.getTransaction(transactionDefinition);
-            task = taskService.getLatestTask(jobKey, task.getTaskId());
+            completeTask(jobDefinition, task, lastUpdated, response);
+            log.info("Complete task for Job: " + jobKey);
+        } catch (Exception exception) {
+            failTask(jobKey, task, exception);
+            context.setResult(failedResult(exception.getMessage(), exception));
+        } finally {
+            if (reserved) {
+                apiJobDispatcher.release(jobKey);
+            }
+            if (bulkhead != null) {
+                apiJobBulkheads.release(bulkhead);
+            }
+            if (host != null) {
+                apiJobAdaptiveLimiter.release(host);
+            }
+            if (!status.isCompleted()) {
+                transactionManager.commit(status);
+            }
+            if (!dispatched && !notExecuted) {
+                recordExecution(jobKey, jobDefinition, response, task, executionStart);
+            }
+        }
+    }
 
-            boolean hasTaskBeenUpdated = lastUpdated != null && lastUpdated.isBefore(task.getLastUpdatedAt());
+    /**
+     * Reschedules the job to run again shortly rather than waiting on this thread for a permit to be released.
+     */
+    private void defer(JobExecutionContext context, String jobKey, long deferDelay, String reason,
+                       String metricReason) {
+        log.info("Deferring Job: " + jobKey + " by " + deferDelay + "ms as " + reason);
+        schedulerService.deferJob(jobKey, deferDelay);
+        apiJobMetrics.recordDeferral(jobKey, metricReason);
+        context.setResult(failedResult("Deferred as " + reason, null));
+    }
 
-            //This method will automatically update the task with  the updated status / message
-            validateResponse(response, apiJobDetailsEntity, task);
+    private void completeTask(JobDefinition jobDefinition, TaskEntity task,
+                              LocalDateTime lastUpdated, Response response) {
+        final long validationStart = System.nanoTime();
+        //This method will automatically update the task with  the updated status / message
+        validateResponse(response, jobDefinition, task);
+        apiJobMetrics.recordValidation(jobDefinition.getKey(), System.nanoTime() - validationStart);
+        apiJobRequestLogger.logExchange(jobDefinition, task, response);
 
+        final long completionStart = System.nanoTime();
+        //A failed validation always overwrites the task, a pass only applies if the task has not been updated since
+        //it was created (e.g. by the job reporting its own status)
+        if (!taskService.completeTask(task, task.getStatus() == Status.VALIDATION_PASSED ? lastUpdated : null)) {
+            log.info("Task was updated while processing, not updating the task");
+        }
+        apiJobMetrics.recordCompletion(jobDefinition.getKey(), System.nanoTime() - completionStart);
+    }
 
-            //If the task has not been updated OR task has been updated but validation has failed, then save the task
-            if (!hasTaskBeenUpdated || task.getStatus() != Status.VALIDATION_PASSED) {
-                task = taskService.saveTask(task);
+    @SuppressWarnings("PMD.LawOfDemeter")
+    private void completeDispatchedTask(String jobKey, JobDefinition jobDefinition, TaskEntity task,
+                                        LocalDateTime lastUpdated, Response response, Throwable throwable,
+                                        long executionStart) {
+        TransactionStatus status = transactionManager.getTransaction(transactionDefinition);
+        try {
+            if (throwable == null) {
+                completeTask(jobDefinition, task, lastUpdated, response);
+                log.info("Complete task for Job: " + jobKey);
             } else {
-                entityManager.detach(task);//Detach so it does not get updated
-                log.info("Task was updated while processing, not updating the task");
+                failTask(jobKey, task, throwable);
             }
-            log.info("Complete task for Job: " + jobKey);
         } catch (Exception exception) {
-            log.error("Failed to run Job" + (jobKey == null ? "" : " with Job key: " + jobKey), exception);
-            if (task != null) {
-                task.setStatus(Status.FAILED_UNEXPECTED_EXCEPTION);
-                taskService.saveTask(task);
-            }
-            context.setResult(
-                JobResult.builder()
-                    .passed(false)
-                    .error(JobResult.ErrorDetails.builder()
-                        .message(exception.getMessage())
-                        .throwable(exception)
-                        .build())
-                    .build()
-            );
+            failTask(jobKey, task, exception);
         } finally {
-            transactionManager.commit(status);
+            if (!status.isCompleted()) {
+                transactionManager.commit(status);
+            }
+            recordExecution(jobKey, jobDefinition, response, task, executionStart);
         }
     }
 
+    private void recordExecution(String jobKey, JobDefinition jobDefinition, Response response, TaskEntity task,
+                                 long executionStart) {
+        apiJobMetrics.recordExecution(jobKey, jobDefinition == null ? null : jobDefinition.getMethod(), response,
+            task, System.nanoTime() - executionStart);
+    }
+
+    private void failTask(String jobKey, TaskEntity task, Throwable throwable) {
+        log.error("Failed to run Job" + (jobKey == null ? "" : " with Job key: " + jobKey), throwable);
+        if (task != null) {
+            task.setStatus(Status.FAILED_UNEXPECTED_EXCEPTION);
+            taskService.completeTask(task, null);
+        }
+    }
+
+    private JobResult failedResult(String message, Throwable throwable) {
+        return JobResult.builder()
+            .passed(false)
+            .error(JobResult.ErrorDetails.builder()
+                .message(message)
+                .throwable(throwable)
+                .build())
+            .build();
+    }
+
     private String getJobKeyFromContext(JobExecutionContext context) {
         JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
         if (!jobDataMap.containsKey("key")) {
@@ -118,32 +261,46 @@ public class APIJob implements Job {
         return jobDataMap.getString("key");
     }
 
+    private String getRevisionFromContext(JobExecutionContext context) {
+        JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
+        if (!jobDataMap.containsKey(JobDefinition.JOB_DATA_REVISION_KEY)) {
+            //Registered before revisions were introduced, always load the latest definition
+            return null;
+        }
+        return jobDataMap.getString(JobDefinition.JOB_DATA_REVISION_KEY);
+    }
+
 
-    private RequestSpecification setupRequest(APIJobDetailsEntity apiJobDetailsEntity, TaskEntity task) {
-        RequestSpecification requestSpecification = RestAssured.given().log().all();
-        if (apiJobDetailsEntity.getPayload() != null) {
-            requestSpecification.body(apiJobDetailsEntity.getPayload());
+    private RequestSpecification setupRequest(JobDefinition jobDefinition, TaskEntity task) {
+        RequestSpecification requestSpecification = RestAssured.given()
+            .config(outboundHttpClient.getRestAssuredConfig());
+        if (apiJobRequestLogger.isFullLogging()) {
+            requestSpecification.log().all();
+        }
+        if (jobDefinition.getPayload() != null) {
+            requestSpecification.body(jobDefinition.getPayload());
         }
 
-        if (!CollectionUtils.isEmpty(apiJobDetailsEntity.getHeaders())) {
-            apiJobDetailsEntity.getHeaders().forEach(requestSpecification::header);
+        if (!CollectionUtils.isEmpty(jobDefinition.getHeaders())) {
+            jobDefinition.getHeaders().forEach(requestSpecification::header);
         }
-        requestSpecification.header("job_key", apiJobDetailsEntity.getKey());
+        requestSpecification.header("job_key", jobDefinition.getKey());
         requestSpecification.header("task_id", task.getTaskId());
 
-        if (apiJobDetailsEntity.getAuthenticationDefault() != null) {
-            apiJobDetailsEntity.getAuthenticationDefault().addAuthentication(apiJobDetailsEntity,
+        if (jobDefinition.getAuthenticationDefault() != null) {
+            jobDefinition.getAuthenticationDefault().addAuthentication(jobDefinition.getJobDetails(),
                 requestSpecification);
         }
         return requestSpecification;
     }
 
     @SuppressWarnings("PMD.LawOfDemeter")
-    private void validateResponse(Response response, APIJobDetailsEntity apiJobDetailsEntity, TaskEntity task) {
+    private void validateResponse(Response response, JobDefinition jobDefinition, TaskEntity task) {
         StringBuilder messageBuilder = new StringBuilder();
         AtomicReference<Boolean> passed = new AtomicReference<>(true);
-        apiJobDetailsEntity.getValidations().forEach(validation -> {
-            APIValidationEntity.Result result = validation.validate(response, apiJobDetailsEntity);
+        final ResponseEvaluationContext evaluationContext = new ResponseEvaluationContext(response);
+        jobDefinition.getValidations().forEach(validation -> {
+            APIValidationEntity.Result result = validation.validate(evaluationContext, jobDefinition.getJobDetails());
             log.trace("Validating: " + validation.getType() + " Result: " + result.isPassed() + " - "
                 + result.getMessage());
             if (result.isPassed()) {
@@ -159,10 +316,22 @@ public class APIJob implements Job {
         }
     }
 
-    private Response triggerRequest(RequestSpecification requestSpecification,
-                                    APIJobDetailsEntity apiJobDetailsEntity) {
-        return requestSpecification.request(
-            Method.valueOf(apiJobDetailsEntity.getMethod().name()),
-            apiJobDetailsEntity.getUrl());
+    private Response triggerRequest(RequestSpecification requestSpecification, JobDefinition jobDefinition,
+                                    String host) {
+        final long requestStart = System.nanoTime();
+        final Response response;
+        try {
+            response = requestSpecification.request(
+                Method.valueOf(jobDefinition.getMethod().name()),
+                jobDefinition.getUrl());
+        } catch (RuntimeException exception) {
+            apiJobAdaptiveLimiter.onFailure(host, requestStart);
+            throw exception;
+        }
+        final long duration = System.nanoTime() - requestStart;
+        apiJobAdaptiveLimiter.onResponse(host, jobDefinition.getKey(), requestStart, duration,
+            response.getStatusCode());
+        apiJobMetrics.recordResponse(jobDefinition.getKey(), jobDefinition.getMethod(), response, duration);
+        return response;
     }
 }
@@ -0,0 +1,201 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adaptive (AIMD) concurrency limit on the API job executions in flight against each target host, enabled with
+ * scheduler.execution.adaptive-limit.enabled. Every response that comes back in time raises the host's limit by one
+ * over the current limit, so roughly one per limit's worth of calls. A timeout or connection failure, a 5xx or 429
+ * response, or a response slower than the latency tolerance times its job's baseline (a slow moving average of that
+ * job's response times) cuts the limit by the backoff ratio. The limit is cut at most once per round trip: only calls
+ * started after the last cut can cut it again.
+ *
+ * <p>Baselines are kept per job rather than per host, so a job that is always slow (e.g. a long report) is not judged
+ * against the quick jobs sharing its host.
+ *
+ * <p>Executions over the limit are deferred, for longer the further the limit has been cut, so a degraded host sees its
+ * queued executions spread out rather than all retrying together. Limits apply per node.
+ */
+@Component
+@Slf4j
+@SuppressWarnings("PMD.LawOfDemeter")
+public class APIJobAdaptiveLimiter {
+    public static final String LIMIT = "scheduler.job.host.limit";
+    static final String TAG_HOST = "host";
+    static final int WARM_UP_SAMPLES = 10;
+    static final double BASELINE_WEIGHT = 0.05;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double initialLimit;
+    private final double minLimit;
+    private final double maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long deferDelay;
+    private final long maxDeferDelay;
+    private final Map<String, HostLimit> hostLimits = new ConcurrentHashMap<>();
+    private final Map<String, LatencyBaseline> baselines = new ConcurrentHashMap<>();
+
+    @Autowired
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public APIJobAdaptiveLimiter(
+        MeterRegistry meterRegistry,
+        @Value("${scheduler.execution.adaptive-limit.enabled:false}") boolean enabled,
+        @Value("${scheduler.execution.adaptive-limit.initial-limit:10}") int initialLimit,
+        @Value("${scheduler.execution.adaptive-limit.min-limit:1}") int minLimit,
+        @Value("${scheduler.execution.adaptive-limit.max-limit:50}") int maxLimit,
+        @Value("${scheduler.execution.adaptive-limit.backoff-ratio:0.5}") double backoffRatio,
+        @Value("${scheduler.execution.adaptive-limit.latency-tolerance:2.0}") double latencyTolerance,
+        @Value("${scheduler.execution.adaptive-limit.defer-delay:5000}") long deferDelay,
+        @Value("${scheduler.execution.adaptive-limit.max-defer-delay:60000}") long maxDeferDelay) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.initialLimit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.deferDelay = deferDelay;
+        this.maxDeferDelay = maxDeferDelay;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getHost(JobDefinition jobDefinition) {
+        return APIJobBulkheads.getHost(jobDefinition.getUrl());
+    }
+
+    /**
+     * Counts an execution as in flight against the host if the host is under its limit. Always succeeds when disabled.
+     */
+    public boolean tryAcquire(String host) {
+        return !enabled || getHostLimit(host).tryAcquire();
+    }
+
+    public void release(String host) {
+        if (enabled) {
+            getHostLimit(host).release();
+        }
+    }
+
+    /**
+     * Feeds a response from the host into its limit, judging its latency against the job's own baseline.
+     *
+     * @param requestStart the {@link System#nanoTime()} the request was sent
+     * @param latency      how long the host took to respond, in nanoseconds
+     */
+    public void onResponse(String host, String jobKey, long requestStart, long latency, int statusCode) {
+        if (enabled) {
+            final boolean slow = baselines.computeIfAbsent(jobKey, key -> new LatencyBaseline()).isSlow(latency);
+            getHostLimit(host).onResponse(requestStart, statusCode >= 500 || statusCode == 429 || slow);
+        }
+    }
+
+    /**
+     * Feeds a request that got no response (e.g. it timed out or could not connect) into the host's limit.
+     */
+    public void onFailure(String host, long requestStart) {
+        if (enabled) {
+            getHostLimit(host).onOverload(requestStart);
+        }
+    }
+
+    public double getLimit(String host) {
+        HostLimit hostLimit = hostLimits.get(host);
+        return hostLimit == null ? initialLimit : hostLimit.getLimit();
+    }
+
+    /**
+     * The delay before an execution rejected by the host's limit runs again. It grows as the limit is cut and has up to
+     * the same again added as jitter, so deferred executions return spread out. Capped at the max defer delay.
+     */
+    public long nextDeferDelay(String host) {
+        final long delay = (long) (deferDelay * Math.max(1, initialLimit / getLimit(host)));
+        return Math.min(maxDeferDelay, delay + ThreadLocalRandom.current().nextLong(delay + 1));
+    }
+
+    private HostLimit getHostLimit(String host) {
+        return hostLimits.computeIfAbsent(host, key -> {
+            HostLimit hostLimit = new HostLimit(key);
+            Gauge.builder(LIMIT, hostLimit, HostLimit::getLimit)
+                .description("Adaptive limit on the API job executions in flight against a host")
+                .tag(TAG_HOST, key)
+                .register(meterRegistry);
+            return hostLimit;
+        });
+    }
+
+    private final class HostLimit {
+        private final String host;
+        private double limit = initialLimit;
+        private int inFlight;
+        private boolean cut;
+        private long lastCut;
+
+        HostLimit(String host) {
+            this.host = host;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        synchronized void release() {
+            inFlight = Math.max(0, inFlight - 1);
+        }
+
+        synchronized double getLimit() {
+            return limit;
+        }
+
+        synchronized void onResponse(long requestStart, boolean overloaded) {
+            if (overloaded) {
+                onOverload(requestStart);
+            } else {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+
+        synchronized void onOverload(long requestStart) {
+            //Calls already in flight when the limit was cut reflect the old limit, so do not cut it again
+            if (cut && requestStart - lastCut < 0) {
+                return;
+            }
+            final double previousLimit = limit;
+            limit = Math.max(minLimit, limit * backoffRatio);
+            cut = true;
+            lastCut = System.nanoTime();
+            log.info("Host " + host + " is degraded, adaptive limit cut from " + (int) previousLimit + " to "
+                + (int) limit);
+        }
+    }
+
+    private final class LatencyBaseline {
+        private double baseline;
+        private long samples;
+
+        synchronized boolean isSlow(long latency) {
+            final boolean slow = samples >= WARM_UP_SAMPLES && latency > baseline * latencyTolerance;
+            //The baseline follows every response so a lasting change in the job's response time is accepted over time
+            baseline = samples == 0 ? latency : baseline + BASELINE_WEIGHT * (latency - baseline);
+            samples++;
+            return slow;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Limits how many API job executions run at once against the same downstream, so jobs due together cannot all call
+ * one host at the same instant. A job runs under its named bulkhead if it has one, otherwise under the longest
+ * configured URL prefix its url starts with, otherwise under its target host (scheme, host and port).
+ *
+ * <p>Permits are taken without waiting, a job that cannot get one is deferred rather than holding a scheduler thread.
+ * Limits apply per node.
+ */
+@Component
+@Slf4j
+public class APIJobBulkheads {
+    private final int defaultMaxConcurrent;
+    private final Map<String, Integer> limits;
+    private final List<String> urlPrefixes;
+    private final long deferDelay;
+    private final long deferJitter;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    @Autowired
+    public APIJobBulkheads(
+        @Value("${scheduler.execution.bulkheads.default-max-concurrent:0}") int defaultMaxConcurrent,
+        @Value("${scheduler.execution.bulkheads.limits:}") String limits,
+        @Value("${scheduler.execution.bulkheads.defer-delay:5000}") long deferDelay,
+        @Value("${scheduler.execution.bulkheads.defer-jitter:5000}") long deferJitter) {
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.limits = parseLimits(limits);
+        this.urlPrefixes = this.limits.keySet().stream()
+            .filter(key -> key.contains("://"))
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .toList();
+        this.deferDelay = deferDelay;
+        this.deferJitter = deferJitter;
+    }
+
+    public String getBulkhead(JobDefinition jobDefinition) {
+        if (jobDefinition.getBulkhead() != null) {
+            return jobDefinition.getBulkhead();
+        }
+        final String url = jobDefinition.getUrl();
+        for (String urlPrefix : urlPrefixes) {
+            if (url.startsWith(urlPrefix)) {
+                return urlPrefix;
+            }
+        }
+        return getHost(url);
+    }
+
+    /**
+     * Takes a permit from the bulkhead if one is free. A bulkhead with a limit of zero or less is unlimited.
+     */
+    public boolean tryAcquire(String bulkhead) {
+        final int limit = getLimit(bulkhead);
+        if (limit <= 0) {
+            return true;
+        }
+        return permits.computeIfAbsent(bulkhead, key -> new Semaphore(limit)).tryAcquire();
+    }
+
+    public void release(String bulkhead) {
+        Semaphore semaphore = permits.get(bulkhead);
+        if (semaphore != null) {
+            semaphore.release();
+        }
+    }
+
+    public int getAvailablePermits(String bulkhead) {
+        Semaphore semaphore = permits.get(bulkhead);
+        return semaphore == null ? getLimit(bulkhead) : semaphore.availablePermits();
+    }
+
+    /**
+     * The delay before a job that could not get a permit runs again. Jittered so jobs deferred together do not all
+     * retry at the same instant.
+     */
+    public long nextDeferDelay() {
+        return deferDelay + (deferJitter > 0 ? ThreadLocalRandom.current().nextLong(deferJitter + 1) : 0);
+    }
+
+    int getLimit(String bulkhead) {
+        return limits.getOrDefault(bulkhead, defaultMaxConcurrent);
+    }
+
+    static String getHost(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getAuthority() == null) {
+                return url;
+            }
+            return uri.getScheme() + "://" + uri.getAuthority();
+        } catch (IllegalArgumentException exception) {
+            return url;
+        }
+    }
+
+    /**
+     * Parses comma separated bulkhead=limit pairs, where bulkhead is a bulkhead name or a URL prefix.
+     */
+    static Map<String, Integer> parseLimits(String limits) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (limits == null || limits.isBlank()) {
+            return parsed;
+        }
+        for (String entry : limits.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid bulkhead limit '" + entry.trim()
+                    + "', expected bulkhead=limit");
+            }
+            parsed.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+        log.info("Bulkhead limits: " + parsed);
+        return parsed;
+    }
+}
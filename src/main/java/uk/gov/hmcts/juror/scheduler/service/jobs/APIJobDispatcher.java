@@ -0,0 +1,110 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import io.restassured.response.Response;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs outbound API job requests off the Quartz worker threads so a slow endpoint only holds a (virtual) dispatch
+ * thread rather than one of the scheduler's pool threads.
+ *
+ * <p>Once the Quartz job returns early only this node's reservations stop the job running twice at once, so async
+ * dispatch cannot be enabled on a clustered scheduler.
+ */
+@Component
+@Slf4j
+public class APIJobDispatcher {
+    private final ExecutorService executorService;
+    private final long shutdownTimeout;
+    private final Set<String> inFlightJobKeys = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public APIJobDispatcher(
+        @Value("${scheduler.execution.async-dispatch.enabled:false}") boolean enabled,
+        @Value("${spring.quartz.properties.org.quartz.jobStore.isClustered:false}") boolean clustered,
+        @Value("${scheduler.execution.async-dispatch.shutdown-timeout:30000}") long shutdownTimeout) {
+        this(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-job-dispatch-", 0).factory()),
+            shutdownTimeout);
+        checkNotClustered(enabled, clustered);
+    }
+
+    APIJobDispatcher(ExecutorService executorService, long shutdownTimeout) {
+        this.executorService = executorService;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    static void checkNotClustered(boolean enabled, boolean clustered) {
+        if (enabled && clustered) {
+            throw new IllegalStateException("Async dispatch cannot be enabled on a clustered scheduler "
+                + "(QUARTZ_CLUSTERED), another node could run a job while its request is still in flight");
+        }
+    }
+
+    /**
+     * Reserve the job key for a dispatch. Returns false if a previous dispatch for the same job has not yet completed,
+     * this keeps the {@link org.quartz.DisallowConcurrentExecution} guarantee once the Quartz job returns early.
+     */
+    public boolean reserve(String jobKey) {
+        return inFlightJobKeys.add(jobKey);
+    }
+
+    public void release(String jobKey) {
+        inFlightJobKeys.remove(jobKey);
+    }
+
+    public int getInFlightCount() {
+        return inFlightJobKeys.size();
+    }
+
+    /**
+     * Send the request on a dispatch thread and hand the outcome to the completion callback. The job key reservation
+     * is released once the callback has finished.
+     */
+    public void dispatch(String jobKey, Supplier<Response> request, BiConsumer<Response, Throwable> onComplete) {
+        CompletableFuture.supplyAsync(request, executorService)
+            .whenComplete((response, throwable) -> {
+                try {
+                    onComplete.accept(response, unwrap(throwable));
+                } catch (Exception exception) {
+                    log.error("Failed to complete dispatched request for Job: " + jobKey, exception);
+                } finally {
+                    release(jobKey);
+                }
+            });
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                log.warn("Dispatched requests did not complete within " + shutdownTimeout + "ms, "
+                    + inFlightJobKeys.size() + " still in flight");
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.restassured.response.Response;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.APIMethod;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records where the wall-clock time of each API job execution goes. All meters are tagged with the job key, the
+ * execution meter is also tagged with the HTTP method, response status code and final task status.
+ *
+ * <p>Per job meters are plain timers, a histogram per job, status code and task status would publish tens of buckets
+ * for every combination. Response and execution times are also recorded to distribution meters tagged only with the
+ * HTTP method and status class, which publish percentile histograms for latency quantiles across jobs.
+ *
+ * <p>Executions deferred by a bulkhead or adaptive limit, or skipped as the previous execution is still in progress,
+ * are not executions, they are counted separately by reason.
+ */
+@Component
+@SuppressWarnings("PMD.LawOfDemeter")
+public class APIJobMetrics {
+    public static final String SCHEDULING_DELAY = "scheduler.job.scheduling.delay";
+    public static final String SETUP = "scheduler.job.setup";
+    public static final String RESPONSE = "scheduler.job.response";
+    public static final String VALIDATION = "scheduler.job.validation";
+    public static final String COMPLETION = "scheduler.job.completion";
+    public static final String EXECUTION = "scheduler.job.execution";
+    public static final String RESPONSE_DISTRIBUTION = "scheduler.job.response.distribution";
+    public static final String EXECUTION_DISTRIBUTION = "scheduler.job.execution.distribution";
+    public static final String DEFERRED = "scheduler.job.deferred";
+    public static final String REASON_BULKHEAD = "bulkhead";
+    public static final String REASON_ADAPTIVE_LIMIT = "adaptive_limit";
+    public static final String SKIPPED = "scheduler.job.skipped";
+    public static final String REASON_IN_PROGRESS = "in_progress";
+
+    static final String TAG_JOB = "job";
+    static final String TAG_METHOD = "method";
+    static final String TAG_STATUS_CODE = "status_code";
+    static final String TAG_STATUS = "status";
+    static final String TAG_STATUS_CLASS = "status_class";
+    static final String TAG_REASON = "reason";
+    static final String NONE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    public APIJobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Time between when the trigger was scheduled to fire and when it actually fired. Manually triggered executions
+     * have no scheduled fire time so are not recorded.
+     */
+    public void recordSchedulingDelay(String jobKey, JobExecutionContext context) {
+        if (context.getScheduledFireTime() == null || context.getFireTime() == null) {
+            return;
+        }
+        long delay = Math.max(0, context.getFireTime().getTime() - context.getScheduledFireTime().getTime());
+        timer(SCHEDULING_DELAY, "Delay between the scheduled and actual fire time of a job", Tags.of(TAG_JOB, jobKey))
+            .record(delay, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordSetup(String jobKey, long durationNanos) {
+        timer(SETUP, "Time taken to load the job and create its task", Tags.of(TAG_JOB, jobKey))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResponse(String jobKey, APIMethod method, Response response, long durationNanos) {
+        timer(RESPONSE, "Time taken for the downstream API to respond",
+            Tags.of(TAG_JOB, jobKey, TAG_METHOD, methodTag(method), TAG_STATUS_CODE, statusCodeTag(response)))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+        distribution(RESPONSE_DISTRIBUTION, "Distribution of downstream API response times", method, response)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordValidation(String jobKey, long durationNanos) {
+        timer(VALIDATION, "Time taken to validate the downstream response", Tags.of(TAG_JOB, jobKey))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCompletion(String jobKey, long durationNanos) {
+        timer(COMPLETION, "Time taken to store the task outcome and run post execution actions",
+            Tags.of(TAG_JOB, jobKey))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordExecution(String jobKey, APIMethod method, Response response, TaskEntity task,
+                                long durationNanos) {
+        timer(EXECUTION, "Total time taken to execute a job", Tags.of(
+            TAG_JOB, jobKey == null ? NONE : jobKey,
+            TAG_METHOD, methodTag(method),
+            TAG_STATUS_CODE, statusCodeTag(response),
+            TAG_STATUS, task == null || task.getStatus() == null ? NONE : task.getStatus().name()))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+        distribution(EXECUTION_DISTRIBUTION, "Distribution of total job execution times", method, response)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordDeferral(String jobKey, String reason) {
+        Counter.builder(DEFERRED)
+            .description("Executions rescheduled rather than run")
+            .tags(Tags.of(TAG_JOB, jobKey, TAG_REASON, reason))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void recordSkip(String jobKey, String reason) {
+        Counter.builder(SKIPPED)
+            .description("Executions skipped rather than run")
+            .tags(Tags.of(TAG_JOB, jobKey, TAG_REASON, reason))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(tags)
+            .register(meterRegistry);
+    }
+
+    private Timer distribution(String name, String description, APIMethod method, Response response) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(Tags.of(TAG_METHOD, methodTag(method), TAG_STATUS_CLASS, statusClassTag(response)))
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private String methodTag(APIMethod method) {
+        return method == null ? NONE : method.name();
+    }
+
+    private String statusCodeTag(Response response) {
+        return response == null ? NONE : String.valueOf(response.getStatusCode());
+    }
+
+    private String statusClassTag(Response response) {
+        return response == null ? NONE : response.getStatusCode() / 100 + "xx";
+    }
+}
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Writes a single summary line for each outbound job call. Request and response bodies are only included for
+ * sampled executions or when validation fails, and are truncated to a configured length. Headers are never logged
+ * as they carry the job's credentials.
+ *
+ * <p>Summaries go to the {@value #LOGGER_NAME} logger, which logback-spring.xml routes through a non-blocking
+ * appender so writing the log does not hold up the execution thread.
+ */
+@Component
+@SuppressWarnings("PMD.LawOfDemeter")
+public class APIJobRequestLogger {
+    public static final String LOGGER_NAME = "uk.gov.hmcts.juror.scheduler.outbound";
+
+    public enum Mode {
+        /**
+         * Summary line per call, bodies only when sampled or validation fails.
+         */
+        SUMMARY,
+        /**
+         * RestAssured logs every request in full (including headers), only intended for local debugging.
+         */
+        FULL
+    }
+
+    private final Logger logger;
+    private final Mode mode;
+    private final int bodyMaxLength;
+    private final double bodySampleRate;
+    private final boolean logBodiesOnValidationFailure;
+    private final DoubleSupplier random;
+
+    @Autowired
+    public APIJobRequestLogger(
+        @Value("${scheduler.execution.request-logging.mode:SUMMARY}") Mode mode,
+        @Value("${scheduler.execution.request-logging.body-max-length:2000}") int bodyMaxLength,
+        @Value("${scheduler.execution.request-logging.body-sample-rate:0.0}") double bodySampleRate,
+        @Value("${scheduler.execution.request-logging.log-bodies-on-validation-failure:true}")
+        boolean logBodiesOnValidationFailure) {
+        this(LoggerFactory.getLogger(LOGGER_NAME), mode, bodyMaxLength, bodySampleRate, logBodiesOnValidationFailure,
+            () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    APIJobRequestLogger(Logger logger, Mode mode, int bodyMaxLength, double bodySampleRate,
+                        boolean logBodiesOnValidationFailure, DoubleSupplier random) {
+        this.logger = logger;
+        this.mode = mode;
+        this.bodyMaxLength = bodyMaxLength;
+        this.bodySampleRate = bodySampleRate;
+        this.logBodiesOnValidationFailure = logBodiesOnValidationFailure;
+        this.random = random;
+    }
+
+    public boolean isFullLogging() {
+        return mode == Mode.FULL;
+    }
+
+    public void logExchange(JobDefinition jobDefinition, TaskEntity task, Response response) {
+        if (isFullLogging() || !logger.isInfoEnabled()) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder(128)
+            .append("Job: ").append(jobDefinition.getKey())
+            .append(", task: ").append(task.getTaskId())
+            .append(", method: ").append(jobDefinition.getMethod())
+            .append(", url: ").append(jobDefinition.getUrl())
+            .append(", status code: ").append(response.getStatusCode())
+            .append(", time: ").append(response.getTime()).append("ms")
+            .append(", result: ").append(task.getStatus());
+        if (shouldLogBodies(task)) {
+            builder.append(", request body: ").append(truncate(jobDefinition.getPayload()))
+                .append(", response body: ").append(truncate(response.asString()));
+        }
+        logger.info(builder.toString());
+    }
+
+    boolean shouldLogBodies(TaskEntity task) {
+        if (logBodiesOnValidationFailure && task.getStatus() == Status.VALIDATION_FAILED) {
+            return true;
+        }
+        return bodySampleRate > 0 && random.getAsDouble() < bodySampleRate;
+    }
+
+    String truncate(String body) {
+        if (body == null || body.length() <= bodyMaxLength) {
+            return body;
+        }
+        return body.substring(0, bodyMaxLength) + "...(" + (body.length() - bodyMaxLength) + " more characters)";
+    }
+}
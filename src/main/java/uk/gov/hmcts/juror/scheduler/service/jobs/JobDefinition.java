@@ -0,0 +1,58 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import lombok.Getter;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIValidationEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.APIMethod;
+import uk.gov.hmcts.juror.scheduler.datastore.model.AuthenticationDefaults;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of everything needed to execute an API job. Built once from a fully loaded
+ * {@link APIJobDetailsEntity} and reused until the job's revision changes.
+ */
+@Getter
+public final class JobDefinition {
+    /**
+     * Quartz job data key holding the revision of the job definition, replaced whenever the job is changed.
+     */
+    public static final String JOB_DATA_REVISION_KEY = "revision";
+
+    private final String key;
+    private final String revision;
+    private final APIMethod method;
+    private final String url;
+    private final String payload;
+    private final Map<String, String> headers;
+    private final AuthenticationDefaults authenticationDefault;
+    private final String bulkhead;
+    private final List<APIValidationEntity> validations;
+    /**
+     * The detached job the snapshot was built from. Tasks are linked to it and post execution actions are read from
+     * it, it must not be modified.
+     */
+    private final APIJobDetailsEntity jobDetails;
+
+    private JobDefinition(APIJobDetailsEntity jobDetails, String revision) {
+        this.key = jobDetails.getKey();
+        this.revision = revision;
+        this.method = jobDetails.getMethod();
+        this.url = jobDetails.getUrl();
+        this.payload = jobDetails.getPayload();
+        this.headers = jobDetails.getHeaders() == null
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new LinkedHashMap<>(jobDetails.getHeaders()));
+        this.authenticationDefault = jobDetails.getAuthenticationDefault();
+        this.bulkhead = jobDetails.getBulkhead();
+        this.validations = List.copyOf(jobDetails.getValidations());
+        this.jobDetails = jobDetails;
+    }
+
+    public static JobDefinition of(APIJobDetailsEntity jobDetails, String revision) {
+        return new JobDefinition(jobDetails, revision);
+    }
+}
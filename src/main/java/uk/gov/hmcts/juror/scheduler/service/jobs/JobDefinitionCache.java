@@ -0,0 +1,49 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches {@link JobDefinition}s by job key. Each entry is tied to the revision held in the job's Quartz data map, a
+ * change on any node writes a new revision so stale entries are replaced the next time the job fires.
+ */
+@Component
+@Slf4j
+public class JobDefinitionCache {
+    private final Map<String, JobDefinition> definitions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached definition if it was built for the given revision, otherwise null. Definitions without a
+     * revision are never cached as there is nothing to tell when they become stale.
+     */
+    public JobDefinition get(String jobKey, String revision) {
+        if (revision == null) {
+            return null;
+        }
+        JobDefinition definition = definitions.get(jobKey);
+        if (definition == null || !revision.equals(definition.getRevision())) {
+            return null;
+        }
+        return definition;
+    }
+
+    public void put(JobDefinition definition) {
+        if (definition.getRevision() == null) {
+            return;
+        }
+        definitions.put(definition.getKey(), definition);
+    }
+
+    public void invalidate(String jobKey) {
+        if (definitions.remove(jobKey) != null) {
+            log.debug("Invalidated cached definition for Job: " + jobKey);
+        }
+    }
+
+    public int size() {
+        return definitions.size();
+    }
+}
@@ -0,0 +1,10 @@
+-- Task search pages are ordered by (created_at, task_id). Ending the indexes in task_id lets them return a page in
+-- order from the cursor, rather than reading and sorting everything in the created_at window for every page.
+DROP INDEX scheduler_application.task_entity_job_key_created_at_idx;
+DROP INDEX scheduler_application.task_entity_status_created_at_idx;
+
+CREATE INDEX task_entity_job_key_created_at_task_id_idx
+    ON scheduler_application.task_entity (job_key, created_at, task_id);
+CREATE INDEX task_entity_status_created_at_task_id_idx
+    ON scheduler_application.task_entity (status, created_at, task_id);
+CREATE INDEX task_entity_created_at_task_id_idx ON scheduler_application.task_entity (created_at, task_id);
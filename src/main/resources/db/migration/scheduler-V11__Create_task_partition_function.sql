@@ -0,0 +1,31 @@
+-- Creates a monthly task_entity partition, returning how many tasks were moved into it. A partition can not be created
+-- over rows the default partition already holds for its range (written while partition maintenance was behind), so
+-- those tasks are moved into the new table before it is attached. Names and bounds are only ever quoted by format().
+CREATE FUNCTION scheduler_application.create_task_entity_partition(partition_name text, from_date date, to_date date)
+    RETURNS integer
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    moved integer;
+BEGIN
+    IF to_regclass(format('scheduler_application.%I', partition_name)) IS NOT NULL THEN
+        RETURN 0;
+    END IF;
+
+    -- Stops further tasks for the month landing in the default partition until the new partition is attached
+    LOCK TABLE scheduler_application.task_entity_default IN SHARE ROW EXCLUSIVE MODE;
+
+    EXECUTE format('CREATE TABLE scheduler_application.%I '
+                       || '(LIKE scheduler_application.task_entity INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                   partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM scheduler_application.task_entity_default '
+                       || 'WHERE created_at >= $1 AND created_at < $2 RETURNING *) '
+                       || 'INSERT INTO scheduler_application.%I SELECT * FROM moved', partition_name)
+        USING from_date, to_date;
+    GET DIAGNOSTICS moved = ROW_COUNT;
+    EXECUTE format('ALTER TABLE scheduler_application.task_entity ATTACH PARTITION scheduler_application.%I '
+                       || 'FOR VALUES FROM (%L) TO (%L)', partition_name, from_date, to_date);
+    RETURN moved;
+END
+$$;
@@ -0,0 +1,3 @@
+-- Supports task searches filtered by job and/or status within a created_at window
+CREATE INDEX task_entity_job_key_created_at_idx ON scheduler_application.task_entity (job_key, created_at);
+CREATE INDEX task_entity_status_created_at_idx ON scheduler_application.task_entity (status, created_at);
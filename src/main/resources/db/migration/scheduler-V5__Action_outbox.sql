@@ -0,0 +1,25 @@
+-- Post execution actions waiting to be run by the outbox dispatcher
+CREATE SEQUENCE scheduler_application.action_outbox_id_seq
+    INCREMENT BY 1
+    MINVALUE 1
+    MAXVALUE 9223372036854775807
+    START 1
+    CACHE 1
+    NO CYCLE;
+
+CREATE TABLE scheduler_application.action_outbox
+(
+    id              int8          NOT NULL,
+    action_id       int8          NOT NULL,
+    task_id         int8          NOT NULL,
+    attempts        int4          NOT NULL DEFAULT 0,
+    last_error      varchar(2500) NULL,
+    created_at      timestamp(6)  NULL,
+    next_attempt_at timestamp(6)  NOT NULL,
+    CONSTRAINT action_outbox_pkey PRIMARY KEY (id),
+    CONSTRAINT action_outbox_action_id_fkey FOREIGN KEY (action_id)
+        REFERENCES scheduler_application.action_entity (id) ON DELETE CASCADE
+);
+
+CREATE INDEX action_outbox_next_attempt_at_idx ON scheduler_application.action_outbox (next_attempt_at, id);
+CREATE INDEX action_outbox_action_id_idx ON scheduler_application.action_outbox (action_id);
@@ -0,0 +1,72 @@
+-- Converts task_entity to monthly range partitions on created_at so expired months can be removed by dropping (or
+-- detaching) a partition rather than deleting rows. Future partitions are created by TaskPartitionMaintainer.
+ALTER TABLE scheduler_application.task_entity
+    RENAME TO task_entity_unpartitioned;
+ALTER TABLE scheduler_application.task_entity_unpartitioned
+    RENAME CONSTRAINT task_entity_pkey TO task_entity_unpartitioned_pkey;
+DROP INDEX scheduler_application.task_entity_job_key_created_at_idx;
+DROP INDEX scheduler_application.task_entity_status_created_at_idx;
+
+-- A foreign key to a partitioned table must include the partition key, meta data rows are instead removed alongside
+-- their partition
+ALTER TABLE scheduler_application.task_entity_meta_data
+    DROP CONSTRAINT fkse8e09gyge1o0eky5fncx9lcf;
+
+-- Task ids keep coming from the existing sequence, make sure it is not dropped along with the old table
+ALTER SEQUENCE scheduler_application.task_entity_task_id_seq OWNED BY NONE;
+
+CREATE TABLE scheduler_application.task_entity
+(
+    status               varchar(255)  NOT NULL,
+    created_at           timestamp(6)  NOT NULL,
+    last_updated_at      timestamp(6)  NULL,
+    task_id              int8          NOT NULL DEFAULT nextval('scheduler_application.task_entity_task_id_seq'),
+    message              varchar(2500) NULL,
+    post_actions_message varchar(2500) NULL,
+    job_key              varchar(255)  NOT NULL,
+    CONSTRAINT task_entity_pkey PRIMARY KEY (task_id, created_at),
+    CONSTRAINT task_entity_job_key_fkey FOREIGN KEY (job_key)
+        REFERENCES scheduler_application.apijob_details_entity ("key")
+) PARTITION BY RANGE (created_at);
+
+-- Catches any rows outside the maintained months so inserts never fail if maintenance falls behind
+CREATE TABLE scheduler_application.task_entity_default PARTITION OF scheduler_application.task_entity DEFAULT;
+
+DO
+$$
+    DECLARE
+        partition_start date := date_trunc('month', coalesce(
+            (SELECT min(created_at) FROM scheduler_application.task_entity_unpartitioned), now()));
+        partition_end   date := date_trunc('month', now()) + interval '4 months';
+    BEGIN
+        WHILE partition_start < partition_end
+            LOOP
+                EXECUTE format('CREATE TABLE scheduler_application.%I PARTITION OF scheduler_application.task_entity '
+                                   || 'FOR VALUES FROM (%L) TO (%L)',
+                               'task_entity_' || to_char(partition_start, '"y"YYYY"m"MM'),
+                               partition_start, (partition_start + interval '1 month')::date);
+                partition_start := partition_start + interval '1 month';
+            END LOOP;
+    END
+$$;
+
+INSERT INTO scheduler_application.task_entity (status, created_at, last_updated_at, task_id, message,
+                                               post_actions_message, job_key)
+SELECT status,
+       coalesce(created_at, last_updated_at, now()),
+       last_updated_at,
+       task_id,
+       message,
+       post_actions_message,
+       job_key
+FROM scheduler_application.task_entity_unpartitioned;
+
+DROP TABLE scheduler_application.task_entity_unpartitioned;
+
+CREATE INDEX task_entity_job_key_created_at_idx ON scheduler_application.task_entity (job_key, created_at);
+CREATE INDEX task_entity_status_created_at_idx ON scheduler_application.task_entity (status, created_at);
+
+-- Support removing the audit history of tasks in an expired partition
+CREATE INDEX task_entity_aud_task_id_idx ON scheduler_application.task_entity_aud (task_id);
+CREATE INDEX task_entity_meta_data_aud_task_id_idx
+    ON scheduler_application.task_entity_meta_data_aud (task_entity_task_id);
@@ -0,0 +1,20 @@
+-- Task meta data moves from the task_entity_meta_data collection table to a jsonb column, updates are merged in the
+-- database with jsonb || so they no longer delete and re-insert the collection rows
+ALTER TABLE scheduler_application.task_entity
+    ADD COLUMN meta_data jsonb NULL;
+ALTER TABLE scheduler_application.task_entity_aud
+    ADD COLUMN meta_data jsonb NULL;
+
+UPDATE scheduler_application.task_entity task
+SET meta_data = collected.meta_data
+FROM (SELECT task_entity_task_id, jsonb_object_agg(meta_data_key, meta_data) AS meta_data
+      FROM scheduler_application.task_entity_meta_data
+      GROUP BY task_entity_task_id) collected
+WHERE task.task_id = collected.task_entity_task_id;
+
+DROP TABLE scheduler_application.task_entity_meta_data;
+
+-- Supports task searches filtered on a meta data entry (meta_data @> {"key": "value"})
+CREATE INDEX task_entity_meta_data_idx ON scheduler_application.task_entity USING gin (meta_data jsonb_path_ops);
+
+-- task_entity_meta_data_aud is kept for the meta data history recorded before this migration
@@ -0,0 +1,6 @@
+-- Hibernate now allocates ids in blocks of 50 (pooled optimiser, allocationSize = 50) so an insert no longer needs its
+-- own nextval round trip. Each nextval returns the top of a new block above every id already handed out.
+ALTER SEQUENCE scheduler_application.task_entity_task_id_seq INCREMENT BY 50;
+ALTER SEQUENCE scheduler_application.action_entity_id_seq INCREMENT BY 50;
+ALTER SEQUENCE scheduler_application.apivalidation_entity_id_seq INCREMENT BY 50;
+ALTER SEQUENCE scheduler_application.action_outbox_id_seq INCREMENT BY 50;
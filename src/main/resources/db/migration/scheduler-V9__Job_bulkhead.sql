@@ -0,0 +1,5 @@
+-- Optional named bulkhead an API job's executions are limited under, in place of the job's target host
+ALTER TABLE scheduler_application.apijob_details_entity
+    ADD COLUMN bulkhead varchar(50) NULL;
+ALTER TABLE scheduler_application.apijob_details_entity_aud
+    ADD COLUMN bulkhead varchar(50) NULL;
@@ -0,0 +1,180 @@
+package uk.gov.hmcts.juror.scheduler.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionOutboxEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.RunJobActionEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.ActionOutboxRepository;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.ActionRepository;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.TaskRepository;
+import uk.gov.hmcts.juror.scheduler.service.contracts.ActionService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ActionOutboxDispatcher")
+@SuppressWarnings({
+    "PMD.LawOfDemeter",
+    "PMD.AvoidDuplicateLiterals"
+})
+class ActionOutboxDispatcherTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private ActionOutboxRepository actionOutboxRepository;
+    private ActionRepository actionRepository;
+    private TaskRepository taskRepository;
+    private ActionService actionService;
+    private ActionOutboxDispatcher actionOutboxDispatcher;
+
+    @BeforeEach
+    void beforeEach() {
+        actionOutboxRepository = mock(ActionOutboxRepository.class);
+        actionRepository = mock(ActionRepository.class);
+        taskRepository = mock(TaskRepository.class);
+        actionService = mock(ActionService.class);
+        actionOutboxDispatcher = new ActionOutboxDispatcher(actionOutboxRepository, actionRepository, taskRepository,
+            actionService, mock(PlatformTransactionManager.class), BATCH_SIZE, 60_000, MAX_ATTEMPTS, 5000);
+    }
+
+    private ActionOutboxEntity createEntry(long id, int attempts) {
+        ActionOutboxEntity entry = ActionOutboxEntity.builder()
+            .id(id)
+            .actionId(2L)
+            .taskId(3L)
+            .attempts(attempts)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+        when(actionOutboxRepository.findById(id)).thenReturn(Optional.of(entry));
+        return entry;
+    }
+
+    @DisplayName("List<Long> claimBatch()")
+    @Nested
+    class ClaimBatch {
+        @Test
+        @DisplayName("Claimed entries are leased")
+        void positiveEntriesLeased() {
+            ActionOutboxEntity entry = createEntry(1L, 0);
+            LocalDateTime before = LocalDateTime.now();
+            when(actionOutboxRepository.findDueForUpdate(any(), eq(BATCH_SIZE))).thenReturn(List.of(entry));
+
+            assertEquals(List.of(1L), actionOutboxDispatcher.claimBatch(), "Claimed ids must match");
+            assertTrue(entry.getNextAttemptAt().isAfter(before.plusSeconds(59)),
+                "Next attempt must be pushed past the lease time");
+        }
+
+        @Test
+        @DisplayName("Nothing due")
+        void positiveNothingDue() {
+            when(actionOutboxRepository.findDueForUpdate(any(), eq(BATCH_SIZE))).thenReturn(List.of());
+            assertEquals(List.of(), actionOutboxDispatcher.claimBatch(), "No ids must be claimed");
+        }
+    }
+
+    @DisplayName("public void dispatch()")
+    @Nested
+    class Dispatch {
+        @Test
+        @DisplayName("Polls again while full batches are claimed")
+        void positiveDrainsFullBatches() {
+            List<ActionOutboxEntity> entries = List.of(createEntry(1L, 0), createEntry(2L, 0));
+            when(actionOutboxRepository.findDueForUpdate(any(), eq(BATCH_SIZE)))
+                .thenReturn(entries)
+                .thenReturn(List.of());
+
+            actionOutboxDispatcher.dispatch();
+
+            verify(actionOutboxRepository, times(2)).findDueForUpdate(any(), eq(BATCH_SIZE));
+            verify(actionOutboxRepository, times(1)).delete(entries.get(0));
+            verify(actionOutboxRepository, times(1)).delete(entries.get(1));
+        }
+    }
+
+    @DisplayName("void dispatchEntry(long entryId)")
+    @Nested
+    class DispatchEntry {
+        @Test
+        @DisplayName("Action is run and entry removed")
+        void positiveActionRun() {
+            ActionOutboxEntity entry = createEntry(1L, 0);
+            RunJobActionEntity action = new RunJobActionEntity();
+            TaskEntity task = new TaskEntity();
+            when(actionRepository.findById(2L)).thenReturn(Optional.of(action));
+            when(taskRepository.findById(3L)).thenReturn(Optional.of(task));
+
+            actionOutboxDispatcher.dispatchEntry(1L);
+
+            verify(actionService, times(1)).runAction(action, task);
+            verify(actionOutboxRepository, times(1)).delete(entry);
+        }
+
+        @Test
+        @DisplayName("Action no longer exists")
+        void negativeActionMissing() {
+            ActionOutboxEntity entry = createEntry(1L, 0);
+            when(actionRepository.findById(2L)).thenReturn(Optional.empty());
+            when(taskRepository.findById(3L)).thenReturn(Optional.of(new TaskEntity()));
+
+            actionOutboxDispatcher.dispatchEntry(1L);
+
+            verify(actionService, never()).runAction(any(), any());
+            verify(actionOutboxRepository, times(1)).delete(entry);
+        }
+
+        @Test
+        @DisplayName("Failure is retried with backoff")
+        void negativeFailureRetried() {
+            ActionOutboxEntity entry = createEntry(1L, 0);
+            RunJobActionEntity action = new RunJobActionEntity();
+            TaskEntity task = new TaskEntity();
+            when(actionRepository.findById(2L)).thenReturn(Optional.of(action));
+            when(taskRepository.findById(3L)).thenReturn(Optional.of(task));
+            doThrow(new RuntimeException("I am the cause")).when(actionService).runAction(action, task);
+            LocalDateTime before = LocalDateTime.now();
+
+            actionOutboxDispatcher.dispatchEntry(1L);
+
+            assertEquals(1, entry.getAttempts(), "Attempts must match");
+            assertEquals("I am the cause", entry.getLastError(), "Last error must match");
+            assertTrue(entry.getNextAttemptAt().isAfter(before.plusSeconds(4)), "Next attempt must be backed off");
+            verify(actionOutboxRepository, never()).delete(any());
+            assertNull(task.getPostActionsMessage(), "No Post message should be set");
+        }
+
+        @Test
+        @DisplayName("Gives up after max attempts")
+        void negativeMaxAttemptsReached() {
+            ActionOutboxEntity entry = createEntry(1L, MAX_ATTEMPTS - 1);
+            RunJobActionEntity action = new RunJobActionEntity();
+            TaskEntity task = new TaskEntity();
+            when(actionRepository.findById(2L)).thenReturn(Optional.of(action));
+            when(taskRepository.findById(3L)).thenReturn(Optional.of(task));
+            doThrow(new RuntimeException("I am the cause")).when(actionService).runAction(action, task);
+
+            actionOutboxDispatcher.dispatchEntry(1L);
+
+            verify(actionOutboxRepository, times(1)).delete(entry);
+            assertEquals(ActionService.FAILED_TO_RUN_POST_ACTIONS_MESSAGE, task.getPostActionsMessage(),
+                "Post message should be set");
+            verify(taskRepository, times(1)).save(task);
+        }
+    }
+}
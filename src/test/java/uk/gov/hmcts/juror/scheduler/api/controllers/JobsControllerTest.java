@@ -18,6 +18,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import uk.gov.hmcts.juror.scheduler.api.model.error.KeyAlreadyInUseError;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobOperation;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobResult;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobTarget;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.Information;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.api.APIJobDetails;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.api.APIJobDetailsResponse;
@@ -57,6 +60,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -64,6 +68,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -88,6 +93,7 @@ class JobsControllerTest {
 
     private static final String CONTROLLER_BASEURL = "/jobs";
     private static final String CREATE_API_JOB_URL = CONTROLLER_BASEURL + "/api";
+    private static final String CREATE_API_JOBS_URL = CREATE_API_JOB_URL + "/bulk";
     private static final String SEARCH_API_JOB_URL = CONTROLLER_BASEURL + "/search";
 
     private static final String RESOURCE_PREFIX = "/testData/jobsController";
@@ -443,6 +449,117 @@ class JobsControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST " + CREATE_API_JOBS_URL)
+    class CreateAPIJobs extends ControllerTestSupport {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void positiveCreateApiJobs() throws Exception {
+            List<BulkJobResult> results = List.of(
+                BulkJobResult.of("HEALTH", BulkJobResult.Result.CREATED),
+                BulkJobResult.of("HEALTH_CHECK", BulkJobResult.Result.KEY_ALREADY_IN_USE,
+                    "A Job with this key already exists"));
+            when(jobService.createJobs(any())).thenReturn(results);
+
+            this.mockMvc
+                .perform(
+                    post(CREATE_API_JOBS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + TestUtil.readResource("createAPIJobTypicalGET.json", RESOURCE_PREFIX) + ","
+                            + TestUtil.readResource("createAPIJobTypicalPOST.json", RESOURCE_PREFIX) + "]")
+                )
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(content().json(createResponseStringFromObject(results), true));
+
+            final ArgumentCaptor<List<APIJobDetails>> captor = ArgumentCaptor.forClass(List.class);
+            verify(jobService, times(1)).createJobs(captor.capture());
+            assertEquals(2, captor.getValue().size(), "Size must match");
+            assertEquals("HEALTH", captor.getValue().get(0).getKey(), "Key must match");
+            assertEquals("HEALTH_CHECK", captor.getValue().get(1).getKey(), "Key must match");
+        }
+
+        @Test
+        @SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")//False positive done via mockMvc
+        void negativeEmptyRequest() throws Exception {
+            this.mockMvc
+                .perform(post(CREATE_API_JOBS_URL).contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+            verify(jobService, never()).createJobs(any());
+        }
+
+        @Test
+        @SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")//False positive done via mockMvc
+        void negativeInvalidJob() throws Exception {
+            this.mockMvc
+                .perform(post(CREATE_API_JOBS_URL).contentType(MediaType.APPLICATION_JSON)
+                    .content("[" + TestUtil.readResource("createAPIJobTypicalGET.json", RESOURCE_PREFIX)
+                        .replace("\"HEALTH\"", "\"invalid key\"") + "]"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+            verify(jobService, never()).createJobs(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT " + CONTROLLER_BASEURL + "/{enable|disable|pause|resume}")
+    class UpdateJobs extends ControllerTestSupport {
+
+        public static Stream<Arguments> operationArgumentSource() {
+            return Stream.of(
+                arguments(CONTROLLER_BASEURL + "/enable", BulkJobOperation.ENABLE, BulkJobResult.Result.ENABLED),
+                arguments(CONTROLLER_BASEURL + "/disable", BulkJobOperation.DISABLE, BulkJobResult.Result.DISABLED),
+                arguments(CONTROLLER_BASEURL + "/pause", BulkJobOperation.PAUSE, BulkJobResult.Result.PAUSED),
+                arguments(CONTROLLER_BASEURL + "/resume", BulkJobOperation.RESUME, BulkJobResult.Result.RESUMED)
+            );
+        }
+
+        @ParameterizedTest(name = "{1}")
+        @MethodSource("operationArgumentSource")
+        void positiveJobsUpdated(String url, BulkJobOperation operation, BulkJobResult.Result result)
+            throws Exception {
+            List<BulkJobResult> results = List.of(BulkJobResult.of("JOB1", result),
+                BulkJobResult.of("JOB2", BulkJobResult.Result.NOT_FOUND));
+            when(jobService.updateJobs(eq(operation), any())).thenReturn(results);
+
+            this.mockMvc
+                .perform(put(url).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"job_keys\": [\"JOB1\", \"JOB2\"], \"tags\": [\"Health Check\"]}"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(content().json(createResponseStringFromObject(results), true));
+
+            final ArgumentCaptor<BulkJobTarget> captor = ArgumentCaptor.forClass(BulkJobTarget.class);
+            verify(jobService, times(1)).updateJobs(eq(operation), captor.capture());
+            assertEquals(Set.of("JOB1", "JOB2"), captor.getValue().getJobKeys(), "Job keys must match");
+            assertEquals(Set.of("Health Check"), captor.getValue().getTags(), "Tags must match");
+        }
+
+        @ParameterizedTest(name = "{1}")
+        @MethodSource("operationArgumentSource")
+        @SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")//False positive done via mockMvc
+        void negativeNoTarget(String url, BulkJobOperation operation) throws Exception {
+            this.mockMvc
+                .perform(put(url).contentType(MediaType.APPLICATION_JSON).content("{\"job_keys\": []}"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+            verify(jobService, never()).updateJobs(any(), any());
+        }
+
+        @Test
+        @SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")//False positive done via mockMvc
+        void negativeInvalidJobKey() throws Exception {
+            this.mockMvc
+                .perform(put(CONTROLLER_BASEURL + "/pause").contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"job_keys\": [\"invalid key\"]}"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+            verify(jobService, never()).updateJobs(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("GET " + SEARCH_API_JOB_URL)
     class SearchJob extends ControllerTestSupport {
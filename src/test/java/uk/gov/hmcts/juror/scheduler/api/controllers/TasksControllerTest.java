@@ -14,8 +14,13 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import uk.gov.hmcts.juror.scheduler.api.model.task.TaskDetail;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdateResult;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchCursor;
 import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchFilter;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchPage;
 import uk.gov.hmcts.juror.scheduler.mapping.TaskMapper;
 import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
 import uk.gov.hmcts.juror.scheduler.testsupport.ControllerTestSupport;
@@ -31,6 +36,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,13 +44,16 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
@@ -65,6 +74,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class TasksControllerTest {
     private static final String CONTROLLER_BASEURL = "/tasks";
     private static final String SEARCH_TASK_JOB_URL = CONTROLLER_BASEURL + "/search";
+    private static final String EXPORT_TASKS_URL = CONTROLLER_BASEURL + "/export";
+    private static final String UPDATE_TASK_STATUSES_URL = CONTROLLER_BASEURL + "/status";
+    private static final TaskSearchCursor CURSOR = new TaskSearchCursor(LocalDateTime.of(2026, 10, 1, 9, 0),
+        LocalDateTime.of(2026, 10, 2, 9, 30, 15, 123_456_000), 123L);
 
 
     @MockitoBean
@@ -131,6 +144,10 @@ class TasksControllerTest {
 
 
             when(taskMapper.toTaskList(any())).thenReturn(responseList);
+            final boolean paged = queryParams.containsKey("cursor") || queryParams.containsKey("limit");
+            if (paged) {
+                when(taskService.getTaskPage(any())).thenReturn(new TaskSearchPage(List.of(), null));
+            }
 
             this.mockMvc
                 .perform(requestBuilder)
@@ -142,7 +159,13 @@ class TasksControllerTest {
             verify(taskMapper, times(1)).toTaskList(any());
 
             final ArgumentCaptor<TaskSearchFilter> captor = ArgumentCaptor.forClass(TaskSearchFilter.class);
-            verify(taskService, times(1)).getTasks(captor.capture());
+            if (paged) {
+                verify(taskService, times(1)).getTaskPage(captor.capture());
+                verify(taskService, never()).getTasks(any(TaskSearchFilter.class));
+            } else {
+                verify(taskService, times(1)).getTasks(captor.capture());
+                verify(taskService, never()).getTaskPage(any());
+            }
 
             final TaskSearchFilter taskSearchFilter = captor.getValue();
 
@@ -170,6 +193,34 @@ class TasksControllerTest {
             } else {
                 assertNull(taskSearchFilter.getFromDate(),"From Date must be null");
             }
+
+            if (queryParams.containsKey("cursor")) {
+                assertEquals(TaskSearchCursor.valueOf(queryParams.get("cursor")[0]), taskSearchFilter.getCursor(),
+                    "Cursor must match");
+            } else {
+                assertNull(taskSearchFilter.getCursor(), "Cursor must be null");
+            }
+
+            if (queryParams.containsKey("limit")) {
+                assertEquals(Integer.valueOf(queryParams.get("limit")[0]), taskSearchFilter.getLimit(),
+                    "Limit must match");
+            } else {
+                assertNull(taskSearchFilter.getLimit(), "Limit must be null");
+            }
+
+            if (queryParams.containsKey("meta_data_key")) {
+                assertEquals(queryParams.get("meta_data_key")[0], taskSearchFilter.getMetaDataKey(),
+                    "Meta data key must match");
+            } else {
+                assertNull(taskSearchFilter.getMetaDataKey(), "Meta data key must be null");
+            }
+
+            if (queryParams.containsKey("meta_data_value")) {
+                assertEquals(queryParams.get("meta_data_value")[0], taskSearchFilter.getMetaDataValue(),
+                    "Meta data value must match");
+            } else {
+                assertNull(taskSearchFilter.getMetaDataValue(), "Meta data value must be null");
+            }
         }
 
         @Test
@@ -211,6 +262,81 @@ class TasksControllerTest {
                 "status: could not be parsed");
         }
 
+        @Test
+        @SuppressWarnings({
+            "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+        })
+        void negativeLimitTooSmall() throws Exception {
+            callAndExpectInvalidPayloadErrorResponse(Map.of("limit", new String[]{"0"}),
+                "getTasks.limit: must be greater than or equal to 1");
+        }
+
+        @Test
+        @SuppressWarnings({
+            "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+        })
+        void negativeLimitTooLarge() throws Exception {
+            callAndExpectInvalidPayloadErrorResponse(Map.of("limit", new String[]{"1001"}),
+                "getTasks.limit: must be less than or equal to 1000");
+        }
+
+        @Test
+        @SuppressWarnings({
+            "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+        })
+        void negativeInvalidCursor() throws Exception {
+            callAndExpectInvalidPayloadErrorResponse(Map.of("cursor", new String[]{"INVALID"}),
+                "cursor: could not be parsed");
+        }
+
+        @Test
+        @SuppressWarnings({
+            "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+        })
+        void positiveLimit() throws Exception {
+            callAndExpectValidResponse(Map.of("limit", new String[]{"50"}));
+        }
+
+        @Test
+        @SuppressWarnings({
+            "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+        })
+        void positiveCursorAndLimit() throws Exception {
+            callAndExpectValidResponse(
+                Map.of("cursor", new String[]{CURSOR.toString()},
+                    "limit", new String[]{"50"},
+                    "job_key", new String[]{"ABC"}));
+        }
+
+        @Test
+        void positiveNextCursorHeader() throws Exception {
+            List<TaskEntity> tasks = List.of(TaskEntity.builder().taskId(3L).build());
+            List<TaskDetail> responseList = List.of(GenerateUtil.generateTask());
+            when(taskService.getTaskPage(any())).thenReturn(new TaskSearchPage(tasks, CURSOR));
+            when(taskMapper.toTaskList(tasks)).thenReturn(responseList);
+
+            this.mockMvc
+                .perform(get(SEARCH_TASK_JOB_URL).queryParam("limit", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(TasksController.NEXT_CURSOR_HEADER, CURSOR.toString()))
+                .andExpect(content().json(createResponseStringFromObject(responseList), true));
+        }
+
+        @Test
+        void positiveEmptyLastPage() throws Exception {
+            when(taskService.getTaskPage(any())).thenReturn(new TaskSearchPage(List.of(), null));
+            when(taskMapper.toTaskList(List.of())).thenReturn(List.of());
+
+            this.mockMvc
+                .perform(get(SEARCH_TASK_JOB_URL).queryParam("cursor", CURSOR.toString()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(TasksController.NEXT_CURSOR_HEADER))
+                .andExpect(content().json("[]", true));
+            verify(taskService, never()).getTasks(any(TaskSearchFilter.class));
+        }
+
         @Test
         @SuppressWarnings({
             "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
@@ -219,6 +345,24 @@ class TasksControllerTest {
             callAndExpectValidResponse(Map.of("job_key", new String[]{"ABC"}));
         }
 
+        @Test
+        @SuppressWarnings({
+            "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+        })
+        void positiveMetaData() throws Exception {
+            callAndExpectValidResponse(Map.of("meta_data_key", new String[]{"progress"},
+                "meta_data_value", new String[]{"complete"}));
+        }
+
+        @Test
+        @SuppressWarnings({
+            "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+        })
+        void negativeMetaDataValueWithoutKey() throws Exception {
+            callAndExpectInvalidPayloadErrorResponse(Map.of("meta_data_value", new String[]{"complete"}),
+                "getTasks.<cross-parameter>: meta_data_key must be provided with meta_data_value");
+        }
+
         @Test
         @SuppressWarnings({
             "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
@@ -284,4 +428,152 @@ class TasksControllerTest {
                     "job_key", new String[]{"ABC"}));
         }
     }
+
+    @Nested
+    @DisplayName("GET " + EXPORT_TASKS_URL)
+    class ExportTasks extends ControllerTestSupport {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void positiveStreamsEachTaskAsLine() throws Exception {
+            TaskEntity taskEntity1 = GenerateUtil.generateTaskEntity();
+            TaskEntity taskEntity2 = GenerateUtil.generateTaskEntity();
+            TaskDetail taskDetail1 = GenerateUtil.generateTask();
+            TaskDetail taskDetail2 = GenerateUtil.generateTask();
+            when(taskMapper.toTask(taskEntity1)).thenReturn(taskDetail1);
+            when(taskMapper.toTask(taskEntity2)).thenReturn(taskDetail2);
+
+            doAnswer(invocation -> {
+                Consumer<TaskEntity> consumer = invocation.getArgument(1);
+                consumer.accept(taskEntity1);
+                consumer.accept(taskEntity2);
+                return null;
+            }).when(taskService).exportTasks(any(TaskSearchFilter.class), any());
+
+            String expectedResponse = objectMapper.writeValueAsString(taskDetail1) + "\n"
+                + objectMapper.writeValueAsString(taskDetail2) + "\n";
+
+            this.mockMvc
+                .perform(get(EXPORT_TASKS_URL)
+                    .queryParam("job_key", "ABC")
+                    .queryParam("status", Status.SUCCESS.name()))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expectedResponse));
+
+            final ArgumentCaptor<TaskSearchFilter> captor = ArgumentCaptor.forClass(TaskSearchFilter.class);
+            verify(taskService, times(1)).exportTasks(captor.capture(), any());
+            assertEquals("ABC", captor.getValue().getJobKey(), "Job key must match");
+            assertEquals(Set.of(Status.SUCCESS), captor.getValue().getStatuses(), "Statuses must match");
+            assertNull(captor.getValue().getFromDate(), "From Date must be null");
+            verify(taskMapper, never()).toTaskList(any());
+        }
+
+        @Test
+        void positiveNoTasks() throws Exception {
+            this.mockMvc
+                .perform(get(EXPORT_TASKS_URL))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(""));
+
+            verify(taskService, times(1)).exportTasks(any(TaskSearchFilter.class), any());
+            verify(taskMapper, never()).toTask(any());
+        }
+
+        @Test
+        void negativeInvalidJobKey() throws Exception {
+            this.mockMvc
+                .perform(get(EXPORT_TASKS_URL).queryParam("job_key", "IN"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+
+            verify(taskService, never()).exportTasks(any(TaskSearchFilter.class), any());
+        }
+
+        @Test
+        void negativeMetaDataValueWithoutKey() throws Exception {
+            this.mockMvc
+                .perform(get(EXPORT_TASKS_URL).queryParam("meta_data_value", "complete"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+
+            verify(taskService, never()).exportTasks(any(TaskSearchFilter.class), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT " + UPDATE_TASK_STATUSES_URL)
+    class UpdateTaskStatuses extends ControllerTestSupport {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void positiveTypical() throws Exception {
+            List<TaskStatusUpdateResult> results = List.of(
+                new TaskStatusUpdateResult("ABC", 1L, TaskStatusUpdateResult.Result.UPDATED),
+                new TaskStatusUpdateResult("DEF", 2L, TaskStatusUpdateResult.Result.NOT_FOUND));
+            when(taskService.updateStatuses(any())).thenReturn(results);
+
+            this.mockMvc
+                .perform(put(UPDATE_TASK_STATUSES_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[{\"job_key\":\"ABC\",\"task_id\":1,\"status\":\"PROGRESSING\","
+                        + "\"message\":\"Step 1\",\"meta_data\":{\"step\":\"1\"}},"
+                        + "{\"job_key\":\"DEF\",\"task_id\":2,\"status\":\"SUCCESS\"}]"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(content().json(createResponseStringFromObject(results), true));
+
+            final ArgumentCaptor<List<TaskStatusUpdate>> captor = ArgumentCaptor.forClass(List.class);
+            verify(taskService, times(1)).updateStatuses(captor.capture());
+            List<TaskStatusUpdate> statusUpdates = captor.getValue();
+            assertEquals(2, statusUpdates.size(), "Size must match");
+            assertEquals("ABC", statusUpdates.get(0).getJobKey(), "Job key must match");
+            assertEquals(1L, statusUpdates.get(0).getTaskId(), "Task id must match");
+            assertEquals(Status.PROGRESSING, statusUpdates.get(0).getStatus(), "Status must match");
+            assertEquals("Step 1", statusUpdates.get(0).getMessage(), "Message must match");
+            assertEquals(Map.of("step", "1"), statusUpdates.get(0).getMetaData(), "Meta data must match");
+            assertEquals("DEF", statusUpdates.get(1).getJobKey(), "Job key must match");
+            assertEquals(2L, statusUpdates.get(1).getTaskId(), "Task id must match");
+            assertEquals(Status.SUCCESS, statusUpdates.get(1).getStatus(), "Status must match");
+        }
+
+        @Test
+        void negativeEmptyList() throws Exception {
+            this.mockMvc
+                .perform(put(UPDATE_TASK_STATUSES_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+
+            verify(taskService, never()).updateStatuses(any());
+        }
+
+        @Test
+        void negativeInvalidJobKey() throws Exception {
+            this.mockMvc
+                .perform(put(UPDATE_TASK_STATUSES_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[{\"job_key\":\"IN\",\"task_id\":1,\"status\":\"SUCCESS\"}]"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+
+            verify(taskService, never()).updateStatuses(any());
+        }
+
+        @Test
+        void negativeMissingTaskId() throws Exception {
+            this.mockMvc
+                .perform(put(UPDATE_TASK_STATUSES_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[{\"job_key\":\"ABC\",\"status\":\"SUCCESS\"}]"))
+                .andDo(print())
+                .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+
+            verify(taskService, never()).updateStatuses(any());
+        }
+    }
 }
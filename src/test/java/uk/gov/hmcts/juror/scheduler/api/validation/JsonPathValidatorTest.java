@@ -1,6 +1,7 @@
 package uk.gov.hmcts.juror.scheduler.api.validation;
 
 import jakarta.validation.ConstraintValidatorContext;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
@@ -10,6 +11,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -52,4 +54,14 @@ class JsonPathValidatorTest {
     void negativeInvalidJsonPath(String jsonPath) {
         assertFalse(this.validator.isValid(jsonPath, context),"Validator should return false");
     }
+
+    @Test
+    void positiveResultCached() {
+        String jsonPath = "$.cachedValue[1]";
+        assertTrue(this.validator.isValid(jsonPath, context), "Validator should return true");
+        int cachedPathCount = JsonPathValidator.cachedPathCount();
+        assertTrue(this.validator.isValid(jsonPath, context), "Validator should return true");
+        assertEquals(cachedPathCount, JsonPathValidator.cachedPathCount(), "Path must only be cached once");
+        assertTrue(cachedPathCount <= JsonPathValidator.MAX_CACHED_PATHS, "Cache must be bounded");
+    }
 }
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.juror.scheduler.api.validation;
+
+import jakarta.validation.ConstraintValidatorContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetaDataFilterValidatorTest {
+
+    private ConstraintValidatorContext context;
+    private MetaDataFilterValidator validator;
+
+    @BeforeEach
+    public void before() {
+        context = mock(ConstraintValidatorContext.class);
+        MetaDataFilter metaDataFilter = mock(MetaDataFilter.class);
+        when(metaDataFilter.keyIndex()).thenReturn(1);
+        when(metaDataFilter.valueIndex()).thenReturn(2);
+        validator = new MetaDataFilterValidator();
+        validator.initialize(metaDataFilter);
+    }
+
+    @Test
+    void positiveNoMetaData() {
+        assertTrue(validator.isValid(new Object[]{"ABC", null, null}, context), "Validator should return true");
+    }
+
+    @Test
+    void positiveKeyOnly() {
+        assertTrue(validator.isValid(new Object[]{"ABC", "progress", null}, context),
+            "Validator should return true");
+    }
+
+    @Test
+    void positiveKeyAndValue() {
+        assertTrue(validator.isValid(new Object[]{"ABC", "progress", "complete"}, context),
+            "Validator should return true");
+    }
+
+    @Test
+    void negativeValueWithoutKey() {
+        assertFalse(validator.isValid(new Object[]{"ABC", null, "complete"}, context),
+            "Validator should return false");
+    }
+}
@@ -0,0 +1,98 @@
+package uk.gov.hmcts.juror.scheduler.config.audit;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.event.spi.EventSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskAuditIntegrator")
+@SuppressWarnings("PMD.LawOfDemeter")
+class TaskAuditIntegratorTest {
+    private EventSource session;
+    private ActionQueue actionQueue;
+    private List<TaskAuditRecord> recorded;
+    private TaskEntity task;
+
+    @BeforeEach
+    void beforeEach() {
+        session = mock(EventSource.class);
+        actionQueue = mock(ActionQueue.class);
+        when(session.getActionQueue()).thenReturn(actionQueue);
+        recorded = new ArrayList<>();
+        task = TaskEntity.builder()
+            .taskId(3L)
+            .status(Status.VALIDATION_PASSED)
+            .message("Message")
+            .job(APIJobDetailsEntity.builder().key("ABC123").build())
+            .build();
+    }
+
+    private AfterTransactionCompletionProcess captureProcess() {
+        ArgumentCaptor<AfterTransactionCompletionProcess> captor =
+            ArgumentCaptor.forClass(AfterTransactionCompletionProcess.class);
+        verify(actionQueue, times(1)).registerProcess(captor.capture());
+        return captor.getValue();
+    }
+
+    @DisplayName("void record(EventSource session, TaskEntity task, RevisionType revisionType)")
+    @Nested
+    class Record {
+        @Test
+        void positiveAsyncRecordedOnCommit() {
+            new TaskAuditIntegrator(TaskAuditMode.ASYNC, recorded::add).record(session, task, RevisionType.MOD);
+            assertTrue(recorded.isEmpty(), "Revision must not be recorded before commit");
+
+            captureProcess().doAfterTransactionCompletion(true, null);
+
+            assertEquals(List.of(new TaskAuditRecord(3L, RevisionType.MOD, Status.VALIDATION_PASSED, null, null,
+                "ABC123", "Message", null)), recorded, "Recorded revisions must match");
+        }
+
+        @Test
+        void negativeAsyncNotRecordedOnRollback() {
+            new TaskAuditIntegrator(TaskAuditMode.ASYNC, recorded::add).record(session, task, RevisionType.ADD);
+
+            captureProcess().doAfterTransactionCompletion(false, null);
+
+            assertTrue(recorded.isEmpty(), "Revision must not be recorded after rollback");
+        }
+
+        @Test
+        void positiveDeleteRecordsIdOnly() {
+            new TaskAuditIntegrator(TaskAuditMode.ASYNC, recorded::add).record(session, task, RevisionType.DEL);
+
+            captureProcess().doAfterTransactionCompletion(true, null);
+
+            assertEquals(List.of(new TaskAuditRecord(3L, RevisionType.DEL, null, null, null, null, null, null)),
+                recorded, "Recorded revisions must match");
+        }
+
+        @Test
+        void positiveNoneIgnored() {
+            new TaskAuditIntegrator(TaskAuditMode.NONE, recorded::add).record(session, task, RevisionType.MOD);
+
+            verify(actionQueue, never()).registerProcess(any(AfterTransactionCompletionProcess.class));
+            assertTrue(recorded.isEmpty(), "Revision must not be recorded");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.juror.scheduler.config.audit;
+
+import org.hibernate.envers.RevisionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskAuditWriter")
+@SuppressWarnings({
+    "PMD.LawOfDemeter",
+    "PMD.AvoidDuplicateLiterals",
+    "unchecked"
+})
+class TaskAuditWriterTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskAuditWriter taskAuditWriter;
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject("SELECT nextval('revinfo_seq')", Integer.class)).thenReturn(51, 101);
+        taskAuditWriter = new TaskAuditWriter(jdbcTemplate, mock(PlatformTransactionManager.class), 2, 10);
+    }
+
+    private TaskAuditRecord createRecord(long taskId, RevisionType revisionType, Status status) {
+        return new TaskAuditRecord(taskId, revisionType, status, CREATED_AT, CREATED_AT, "ABC123", "Message",
+            null);
+    }
+
+    @DisplayName("public void enqueue(TaskAuditRecord taskAuditRecord)")
+    @Nested
+    class Enqueue {
+        @Test
+        void positiveBuffered() {
+            taskAuditWriter.enqueue(createRecord(1L, RevisionType.ADD, Status.PENDING));
+            assertEquals(1, taskAuditWriter.getBufferedCount(), "Buffered count must match");
+            assertEquals(0, taskAuditWriter.getDiscardedCount(), "Discarded count must match");
+        }
+
+        @Test
+        void negativeDiscardedWhenFull() {
+            taskAuditWriter.enqueue(createRecord(1L, RevisionType.ADD, Status.PENDING));
+            taskAuditWriter.enqueue(createRecord(2L, RevisionType.ADD, Status.PENDING));
+            taskAuditWriter.enqueue(createRecord(3L, RevisionType.ADD, Status.PENDING));
+            assertEquals(2, taskAuditWriter.getBufferedCount(), "Buffered count must match");
+            assertEquals(1, taskAuditWriter.getDiscardedCount(), "Discarded count must match");
+        }
+    }
+
+    @DisplayName("public void flush()")
+    @Nested
+    class Flush {
+        @Test
+        void positiveRevisionWritten() {
+            taskAuditWriter.enqueue(createRecord(1L, RevisionType.MOD, Status.VALIDATION_PASSED));
+
+            taskAuditWriter.flush();
+
+            verify(jdbcTemplate, times(1)).update(eq("INSERT INTO revinfo (rev, revtstmp) VALUES (?, ?)"),
+                eq(51), anyLong());
+            ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+            assertEquals(1, captor.getValue().size(), "Batch size must match");
+            assertArrayEquals(new Object[]{51, (byte) 1, "VALIDATION_PASSED", Timestamp.valueOf(CREATED_AT),
+                Timestamp.valueOf(CREATED_AT), 1L, "ABC123", "Message", null},
+                captor.getValue().get(0), "Parameters must match");
+            assertEquals(0, taskAuditWriter.getBufferedCount(), "Buffer must be drained");
+        }
+
+        @Test
+        void positiveNothingBuffered() {
+            taskAuditWriter.flush();
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+        }
+
+        @Test
+        void positiveRepeatedChangesGetSeparateRevisions() {
+            taskAuditWriter.enqueue(createRecord(1L, RevisionType.ADD, Status.PENDING));
+            taskAuditWriter.enqueue(createRecord(1L, RevisionType.MOD, Status.VALIDATION_PASSED));
+
+            taskAuditWriter.flush();
+
+            verify(jdbcTemplate, times(1)).update(anyString(), eq(51), anyLong());
+            verify(jdbcTemplate, times(1)).update(anyString(), eq(101), anyLong());
+            verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(List.class));
+        }
+    }
+
+    @DisplayName("static List<List<TaskAuditRecord>> splitIntoRounds(List<TaskAuditRecord> batch)")
+    @Nested
+    class SplitIntoRounds {
+        @Test
+        void positiveOneChangePerTaskPerRound() {
+            TaskAuditRecord task1Add = createRecord(1L, RevisionType.ADD, Status.PENDING);
+            TaskAuditRecord task2Add = createRecord(2L, RevisionType.ADD, Status.PENDING);
+            TaskAuditRecord task1Mod = createRecord(1L, RevisionType.MOD, Status.VALIDATION_PASSED);
+            TaskAuditRecord task1Mod2 = createRecord(1L, RevisionType.MOD, Status.SUCCESS);
+            TaskAuditRecord task2Mod = createRecord(2L, RevisionType.MOD, Status.FAILED);
+
+            assertEquals(List.of(List.of(task1Add, task2Add), List.of(task1Mod, task2Mod), List.of(task1Mod2)),
+                TaskAuditWriter.splitIntoRounds(List.of(task1Add, task2Add, task1Mod, task1Mod2, task2Mod)),
+                "Rounds must match");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.juror.scheduler.config.http;
+
+import org.apache.http.conn.DnsResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CachingDnsResolver")
+@SuppressWarnings("PMD.LawOfDemeter")
+class CachingDnsResolverTest {
+    private static final String HOST = "juror-api.hmcts.net";
+
+    private DnsResolver delegate;
+    private AtomicLong clock;
+    private CachingDnsResolver resolver;
+    private InetAddress[] addresses;
+
+    @BeforeEach
+    void beforeEach() throws UnknownHostException {
+        delegate = mock(DnsResolver.class);
+        clock = new AtomicLong(1000);
+        resolver = new CachingDnsResolver(delegate, 500, clock::get);
+        addresses = new InetAddress[]{InetAddress.getByAddress(HOST, new byte[]{10, 0, 0, 1})};
+    }
+
+    @Test
+    void positiveLookupCached() throws UnknownHostException {
+        when(delegate.resolve(HOST)).thenReturn(addresses);
+
+        assertArrayEquals(addresses, resolver.resolve(HOST), "Addresses must match");
+        clock.addAndGet(499);
+        assertArrayEquals(addresses, resolver.resolve(HOST), "Addresses must match");
+
+        verify(delegate, times(1)).resolve(HOST);
+        assertEquals(1, resolver.size(), "Cache size must match");
+    }
+
+    @Test
+    void positiveLookupRefreshedOnceExpired() throws UnknownHostException {
+        when(delegate.resolve(HOST)).thenReturn(addresses);
+
+        resolver.resolve(HOST);
+        clock.addAndGet(500);
+        resolver.resolve(HOST);
+
+        verify(delegate, times(2)).resolve(HOST);
+    }
+
+    @Test
+    void negativeFailedLookupNotCached() throws UnknownHostException {
+        when(delegate.resolve(HOST)).thenThrow(new UnknownHostException(HOST));
+
+        assertThrows(UnknownHostException.class, () -> resolver.resolve(HOST));
+        assertThrows(UnknownHostException.class, () -> resolver.resolve(HOST));
+
+        verify(delegate, times(2)).resolve(HOST);
+        assertEquals(0, resolver.size(), "Cache size must match");
+    }
+
+    @Test
+    void positiveCallerCannotModifyCache() throws UnknownHostException {
+        when(delegate.resolve(HOST)).thenReturn(addresses);
+
+        resolver.resolve(HOST)[0] = null;
+
+        assertArrayEquals(addresses, resolver.resolve(HOST), "Cached addresses must not change");
+    }
+}
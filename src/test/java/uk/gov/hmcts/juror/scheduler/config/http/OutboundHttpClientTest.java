@@ -0,0 +1,86 @@
+package uk.gov.hmcts.juror.scheduler.config.http;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OutboundHttpClient")
+@SuppressWarnings({
+    "PMD.LawOfDemeter",
+    "deprecation"
+})
+class OutboundHttpClientTest {
+    private PoolingClientConnectionManager connectionManager;
+    private OutboundHttpClient outboundHttpClient;
+
+    @BeforeEach
+    void beforeEach() {
+        connectionManager = mock(PoolingClientConnectionManager.class);
+        outboundHttpClient = new OutboundHttpClient(connectionManager, 20, 5, 30_000);
+    }
+
+    @Test
+    void positivePoolLimitsApplied() {
+        verify(connectionManager, times(1)).setMaxTotal(20);
+        verify(connectionManager, times(1)).setDefaultMaxPerRoute(5);
+    }
+
+    @Test
+    void positiveHttpClientPerRequestSharesPool() {
+        HttpClientConfig httpClientConfig = outboundHttpClient.getRestAssuredConfig().getHttpClientConfig();
+        assertFalse(httpClientConfig.isConfiguredToReuseTheSameHttpClientInstance(),
+            "Http client instance must not be shared between requests");
+
+        HttpClient httpClient = httpClientConfig.httpClientInstance();
+        HttpClient otherHttpClient = httpClientConfig.httpClientInstance();
+        assertInstanceOf(DefaultHttpClient.class, httpClient, "Http client type must match");
+        assertNotSame(httpClient, otherHttpClient, "Each request must get its own client");
+        assertSame(connectionManager, httpClient.getConnectionManager(), "Connection manager must be the pool");
+        assertSame(connectionManager, otherHttpClient.getConnectionManager(), "Connection manager must be the pool");
+    }
+
+    @Test
+    void positiveKeepAliveCapped() {
+        DefaultHttpClient httpClient = outboundHttpClient.createHttpClient();
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        assertEquals(30_000, httpClient.getConnectionKeepAliveStrategy().getKeepAliveDuration(response, null),
+            "Keep alive must default to the configured keep alive");
+        response.setHeader("Keep-Alive", "timeout=120");
+        assertEquals(30_000, httpClient.getConnectionKeepAliveStrategy().getKeepAliveDuration(response, null),
+            "Keep alive must be capped by the configured keep alive");
+        response.setHeader("Keep-Alive", "timeout=5");
+        assertEquals(5_000, httpClient.getConnectionKeepAliveStrategy().getKeepAliveDuration(response, null),
+            "Shorter server keep alive must be used");
+    }
+
+    @Test
+    void positiveEvictIdleConnections() {
+        outboundHttpClient.evictIdleConnections();
+        verify(connectionManager, times(1)).closeExpiredConnections();
+        verify(connectionManager, times(1)).closeIdleConnections(30_000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void positivePreDestroyShutsDownPool() {
+        outboundHttpClient.preDestroy();
+        verify(connectionManager, times(1)).shutdown();
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.juror.scheduler.config.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("SchedulerConfig")
+@SuppressWarnings("PMD.LawOfDemeter")
+class SchedulerConfigTest {
+
+    private Properties quartzProperties(int threadCount) {
+        Properties properties = new Properties();
+        properties.put(SchedulerConfig.THREAD_COUNT, String.valueOf(threadCount));
+        return properties;
+    }
+
+    @DisplayName("public static Properties triggerAcquisitionProperties(Properties quartzProperties, int maxBatchSize, "
+        + "long fireAheadWindow)")
+    @Nested
+    class TriggerAcquisitionProperties {
+        @Test
+        void positiveDefaultsToThreadCount() {
+            Properties properties = SchedulerConfig.triggerAcquisitionProperties(quartzProperties(15), 0, 0);
+            assertEquals("15", properties.get(SchedulerConfig.BATCH_MAX_COUNT), "Batch size must match");
+            assertEquals("0", properties.get(SchedulerConfig.BATCH_FIRE_AHEAD_WINDOW), "Window must match");
+            assertEquals("true", properties.get(SchedulerConfig.ACQUIRE_TRIGGERS_WITHIN_LOCK),
+                "Triggers must be acquired within the lock");
+        }
+
+        @Test
+        void positiveThreadCountDefaultUsedWhenNotConfigured() {
+            Properties properties = SchedulerConfig.triggerAcquisitionProperties(new Properties(), 0, 0);
+            assertEquals("10", properties.get(SchedulerConfig.BATCH_MAX_COUNT), "Batch size must match");
+        }
+
+        @Test
+        void positiveMaxBatchSizeBelowThreadCount() {
+            Properties properties = SchedulerConfig.triggerAcquisitionProperties(quartzProperties(10), 4, 250);
+            assertEquals("4", properties.get(SchedulerConfig.BATCH_MAX_COUNT), "Batch size must match");
+            assertEquals("250", properties.get(SchedulerConfig.BATCH_FIRE_AHEAD_WINDOW), "Window must match");
+        }
+
+        @Test
+        void positiveMaxBatchSizeCappedToThreadCount() {
+            Properties properties = SchedulerConfig.triggerAcquisitionProperties(quartzProperties(10), 50, 0);
+            assertEquals("10", properties.get(SchedulerConfig.BATCH_MAX_COUNT), "Batch size must match");
+        }
+
+        @Test
+        void positiveSingleTriggerBatchNotAcquiredWithinLock() {
+            Properties properties = SchedulerConfig.triggerAcquisitionProperties(quartzProperties(10), 1, 0);
+            assertEquals("1", properties.get(SchedulerConfig.BATCH_MAX_COUNT), "Batch size must match");
+            assertNull(properties.get(SchedulerConfig.ACQUIRE_TRIGGERS_WITHIN_LOCK),
+                "Quartz default must be kept for single trigger batches");
+        }
+    }
+}
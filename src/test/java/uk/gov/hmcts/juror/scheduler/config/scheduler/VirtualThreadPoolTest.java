@@ -0,0 +1,148 @@
+package uk.gov.hmcts.juror.scheduler.config.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.SchedulerConfigException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("VirtualThreadPool")
+@SuppressWarnings("PMD.LawOfDemeter")
+class VirtualThreadPoolTest {
+
+    private VirtualThreadPool threadPool;
+
+    private VirtualThreadPool createThreadPool(int threadCount) throws SchedulerConfigException {
+        threadPool = new VirtualThreadPool();
+        threadPool.setThreadCount(threadCount);
+        threadPool.setInstanceName("test-scheduler");
+        threadPool.initialize();
+        return threadPool;
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (threadPool != null) {
+            threadPool.shutdown(false);
+        }
+    }
+
+    @Test
+    void negativeInvalidThreadCount() {
+        VirtualThreadPool pool = new VirtualThreadPool();
+        SchedulerConfigException exception = assertThrows(SchedulerConfigException.class, pool::initialize);
+        assertEquals("Thread count must be > 0", exception.getMessage(), "Message must match");
+    }
+
+    @Test
+    void positiveRunsOnVirtualThread() throws Exception {
+        createThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        assertTrue(threadPool.runInThread(() -> {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        }), "Runnable must be accepted");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Runnable must run");
+        assertTrue(thread.get().isVirtual(), "Runnable must run on a virtual thread");
+        assertTrue(thread.get().getName().startsWith("test-scheduler_VirtualWorker-"), "Thread name must match");
+    }
+
+    @Test
+    void positiveInheritsContextClassLoader() throws Exception {
+        ClassLoader classLoader = new ClassLoader() {
+        };
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        threadPool = new VirtualThreadPool();
+        threadPool.setThreadCount(1);
+        threadPool.setThreadsInheritContextClassLoaderOfInitializingThread(true);
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            threadPool.initialize();
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<ClassLoader> actual = new AtomicReference<>();
+        threadPool.runInThread(() -> {
+            actual.set(Thread.currentThread().getContextClassLoader());
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Runnable must run");
+        assertSame(classLoader, actual.get(), "Context class loader must match");
+    }
+
+    @Test
+    void positiveBlockForAvailableThreadsReflectsConcurrencyLimit() throws Exception {
+        createThreadPool(2);
+        assertEquals(2, threadPool.getPoolSize(), "Pool size must match");
+        assertEquals(2, threadPool.blockForAvailableThreads(), "All threads must be available");
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        threadPool.runInThread(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS), "Runnable must start");
+        assertEquals(1, threadPool.blockForAvailableThreads(), "One thread must be available");
+
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (threadPool.blockForAvailableThreads() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, threadPool.blockForAvailableThreads(), "All threads must be available once complete");
+    }
+
+    @Test
+    void positiveBlockForAvailableThreadsWaitsForRelease() throws Exception {
+        createThreadPool(1);
+        CountDownLatch release = new CountDownLatch(1);
+        threadPool.runInThread(() -> awaitQuietly(release));
+
+        AtomicReference<Integer> available = new AtomicReference<>();
+        Thread waiter = Thread.ofVirtual().start(() -> available.set(threadPool.blockForAvailableThreads()));
+        waiter.join(200);
+        assertTrue(waiter.isAlive(), "Must block while no threads are available");
+
+        release.countDown();
+        waiter.join(5000);
+        assertFalse(waiter.isAlive(), "Must return once a thread is released");
+        assertEquals(1, available.get(), "One thread must be available");
+    }
+
+    @Test
+    void positiveRunsDuringShutdown() throws Exception {
+        createThreadPool(1);
+        threadPool.shutdown(true);
+        CountDownLatch latch = new CountDownLatch(1);
+        assertTrue(threadPool.runInThread(latch::countDown), "Runnable must be accepted during shutdown");
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Runnable must run");
+    }
+
+    @Test
+    void negativeNullRunnable() throws Exception {
+        createThreadPool(1);
+        assertFalse(threadPool.runInThread(null), "Null runnable must be rejected");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
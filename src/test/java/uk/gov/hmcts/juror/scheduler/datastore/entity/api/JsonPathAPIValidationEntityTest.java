@@ -2,6 +2,7 @@ package uk.gov.hmcts.juror.scheduler.datastore.entity.api;
 
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.juror.scheduler.datastore.model.ResponseEvaluationContext;
 import uk.gov.hmcts.juror.scheduler.datastore.model.ValidationType;
 
 import java.util.stream.Stream;
@@ -21,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -71,4 +75,20 @@ class JsonPathAPIValidationEntityTest {
                 "Message must match");
         }
     }
+
+    @Test
+    void positiveSharedContextParsesBodyOnce() {
+        final JsonPath jsonPath = mock(JsonPath.class);
+        when(response.jsonPath()).thenReturn(jsonPath);
+        when(jsonPath.getString("$.status")).thenReturn("UP");
+        when(jsonPath.getString("$.version")).thenReturn("2");
+        ResponseEvaluationContext context = new ResponseEvaluationContext(response);
+
+        JsonPathAPIValidationEntity statusValidation = new JsonPathAPIValidationEntity("$.status", "UP");
+        JsonPathAPIValidationEntity versionValidation = new JsonPathAPIValidationEntity("$.version", "2");
+
+        assertTrue(statusValidation.validate(context, jobData).isPassed(), "Status validation must pass");
+        assertTrue(versionValidation.validate(context, jobData).isPassed(), "Version validation must pass");
+        verify(response, times(1)).jsonPath();
+    }
 }
@@ -130,5 +130,11 @@ class AuthenticationDefaultsTest extends EnumTest<AuthenticationDefaults> {
         }
         verify(requestSpecification, times(1)).header("Authorization", TOKEN);
         verifyNoMoreInteractions(requestSpecification);
+
+        //Token must be reused rather than signed again
+        AuthenticationDefaults.JUROR_API_SERVICE.addAuthentication(APIJobDetailsEntity.builder().build(),
+            requestSpecification);
+        verify(jwtService, times(1)).generateJwtToken(any(), any(), any(), any(), any(), anyMap());
+        verify(requestSpecification, times(2)).header("Authorization", TOKEN);
     }
 }
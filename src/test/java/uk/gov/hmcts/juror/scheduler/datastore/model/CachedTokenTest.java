@@ -0,0 +1,101 @@
+package uk.gov.hmcts.juror.scheduler.datastore.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AuthenticationDefaults.CachedToken")
+@SuppressWarnings("PMD.LawOfDemeter")
+class CachedTokenTest {
+    private static final long TOKEN_VALIDITY = 1000L;
+    private static final long REFRESH_MARGIN = 200L;
+
+    private AtomicLong currentTime;
+    private AtomicInteger generatedCount;
+    private AuthenticationDefaults.CachedToken cachedToken;
+
+    @BeforeEach
+    void beforeEach() {
+        currentTime = new AtomicLong(10_000L);
+        generatedCount = new AtomicInteger();
+        cachedToken = new AuthenticationDefaults.CachedToken(() -> "token" + generatedCount.incrementAndGet(),
+            TOKEN_VALIDITY, REFRESH_MARGIN, currentTime::get);
+    }
+
+    @Test
+    void positiveTokenReusedUntilRefreshMargin() {
+        assertEquals("token1", cachedToken.get(), "Token must match");
+        currentTime.addAndGet(TOKEN_VALIDITY - REFRESH_MARGIN - 1);
+        assertEquals("token1", cachedToken.get(), "Token must be reused");
+        assertEquals(1, generatedCount.get(), "Token must only be generated once");
+    }
+
+    @Test
+    void positiveTokenRefreshedInsideRefreshMargin() {
+        assertEquals("token1", cachedToken.get(), "Token must match");
+        currentTime.addAndGet(TOKEN_VALIDITY - REFRESH_MARGIN);
+        assertEquals("token2", cachedToken.get(), "Token must be refreshed");
+        assertEquals("token2", cachedToken.get(), "Refreshed token must be reused");
+        assertEquals(2, generatedCount.get(), "Token must be generated twice");
+    }
+
+    @Test
+    void positiveTokenRefreshedOnceExpired() {
+        assertEquals("token1", cachedToken.get(), "Token must match");
+        currentTime.addAndGet(TOKEN_VALIDITY * 2);
+        assertEquals("token2", cachedToken.get(), "Token must be refreshed");
+    }
+
+    @Test
+    void positiveRefreshMarginLargerThanValidityAlwaysRefreshes() {
+        cachedToken = new AuthenticationDefaults.CachedToken(() -> "token" + generatedCount.incrementAndGet(),
+            TOKEN_VALIDITY, TOKEN_VALIDITY * 2, currentTime::get);
+        assertEquals("token1", cachedToken.get(), "Token must match");
+        assertEquals("token2", cachedToken.get(), "Token must be refreshed");
+    }
+
+    @Test
+    void positiveCurrentTokenUsedWhileAnotherCallerRefreshes() throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        cachedToken = new AuthenticationDefaults.CachedToken(() -> {
+            if (generatedCount.incrementAndGet() > 1) {
+                refreshStarted.countDown();
+                awaitQuietly(releaseRefresh);
+            }
+            return "token" + generatedCount.get();
+        }, TOKEN_VALIDITY, REFRESH_MARGIN, currentTime::get);
+
+        assertEquals("token1", cachedToken.get(), "Token must match");
+        currentTime.addAndGet(TOKEN_VALIDITY - REFRESH_MARGIN);
+
+        AtomicReference<String> refreshedToken = new AtomicReference<>();
+        Thread refresher = Thread.ofVirtual().start(() -> refreshedToken.set(cachedToken.get()));
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS), "Refresh must start");
+
+        assertEquals("token1", cachedToken.get(), "Current token must be used while refreshing");
+
+        releaseRefresh.countDown();
+        refresher.join(5000);
+        assertEquals("token2", refreshedToken.get(), "Refreshing caller must get the new token");
+        assertEquals("token2", cachedToken.get(), "New token must be used once refreshed");
+        assertEquals(2, generatedCount.get(), "Token must be generated twice");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
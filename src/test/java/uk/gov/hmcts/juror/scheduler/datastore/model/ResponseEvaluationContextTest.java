@@ -0,0 +1,59 @@
+package uk.gov.hmcts.juror.scheduler.datastore.model;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ResponseEvaluationContext")
+@SuppressWarnings("PMD.LawOfDemeter")
+class ResponseEvaluationContextTest {
+    private Response response;
+    private JsonPath jsonPath;
+    private ResponseEvaluationContext context;
+
+    @BeforeEach
+    void beforeEach() {
+        response = mock(Response.class);
+        jsonPath = mock(JsonPath.class);
+        when(response.jsonPath()).thenReturn(jsonPath);
+        context = new ResponseEvaluationContext(response);
+    }
+
+    @Test
+    void positiveBodyNotParsedUntilNeeded() {
+        assertSame(response, context.getResponse(), "Response must match");
+        verify(response, never()).jsonPath();
+    }
+
+    @Test
+    void positiveBodyParsedOnce() {
+        when(jsonPath.getString("$.status")).thenReturn("UP");
+        when(jsonPath.getString("$.count")).thenReturn("3");
+
+        assertEquals("UP", context.getJsonPathString("$.status"), "Value must match");
+        assertEquals("3", context.getJsonPathString("$.count"), "Value must match");
+
+        verify(response, times(1)).jsonPath();
+    }
+
+    @Test
+    void positivePathEvaluatedOnce() {
+        when(jsonPath.getString("$.status")).thenReturn(null);
+
+        assertNull(context.getJsonPathString("$.status"), "Value must be null");
+        assertNull(context.getJsonPathString("$.status"), "Value must be null");
+
+        verify(jsonPath, times(1)).getString("$.status");
+    }
+}
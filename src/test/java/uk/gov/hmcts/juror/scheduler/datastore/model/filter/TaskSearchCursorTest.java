@@ -0,0 +1,44 @@
+package uk.gov.hmcts.juror.scheduler.datastore.model.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TaskSearchCursor")
+class TaskSearchCursorTest {
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void positiveRoundTrip() {
+        TaskSearchCursor cursor = new TaskSearchCursor(LocalDateTime.of(2026, 10, 1, 0, 0),
+            LocalDateTime.of(2026, 10, 2, 9, 30, 15, 123_456_000), 123L);
+
+        TaskSearchCursor parsed = TaskSearchCursor.valueOf(cursor.toString());
+
+        assertEquals(cursor, parsed, "Cursor must match");
+        assertEquals(LocalDateTime.of(2026, 10, 1, 0, 0), parsed.getFromDate(), "From date must match");
+        assertEquals(LocalDateTime.of(2026, 10, 2, 9, 30, 15, 123_456_000), parsed.getCreatedAt(),
+            "Created at must match");
+        assertEquals(123L, parsed.getTaskId(), "Task id must match");
+    }
+
+    @ParameterizedTest(name = "Invalid cursor: {0}")
+    @ValueSource(strings = {"not base64!", "", "2026-10-01T00:00|2026-10-02T09:30", "2026-10-01T00:00|INVALID|1",
+        "2026-10-01T00:00|2026-10-02T09:30|INVALID", "2026-10-01T00:00|2026-10-02T09:30|1|2"})
+    void negativeInvalid(String value) {
+        String cursor = "not base64!".equals(value) ? value : encode(value);
+        assertThrows(IllegalArgumentException.class, () -> TaskSearchCursor.valueOf(cursor),
+            "Invalid cursor must be rejected");
+    }
+}
@@ -0,0 +1,166 @@
+package uk.gov.hmcts.juror.scheduler.service.housekeeping;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.TaskPartitionRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskPartitionMaintainer")
+@SuppressWarnings({
+    "PMD.LawOfDemeter",
+    "PMD.AvoidDuplicateLiterals"
+})
+class TaskPartitionMaintainerTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-15T10:00:00Z"), ZoneOffset.UTC);
+
+    private TaskPartitionRepository taskPartitionRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        taskPartitionRepository = mock(TaskPartitionRepository.class);
+        when(taskPartitionRepository.tryLock()).thenReturn(true);
+    }
+
+    private TaskPartitionMaintainer createMaintainer(int retentionMonths,
+                                                     TaskPartitionMaintainer.RetentionMode retentionMode) {
+        return new TaskPartitionMaintainer(taskPartitionRepository, mock(PlatformTransactionManager.class),
+            2, retentionMonths, retentionMode, CLOCK);
+    }
+
+    @DisplayName("public void maintainPartitions()")
+    @Nested
+    class MaintainPartitions {
+        @Test
+        void positiveMissingPartitionsCreated() {
+            when(taskPartitionRepository.findPartitionNames())
+                .thenReturn(List.of("task_entity_default", "task_entity_y2024m05"));
+
+            createMaintainer(0, TaskPartitionMaintainer.RetentionMode.DROP).maintainPartitions();
+
+            verify(taskPartitionRepository, never()).createPartition(
+                "task_entity_y2024m05", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1));
+            verify(taskPartitionRepository, times(1)).createPartition(
+                "task_entity_y2024m06", LocalDate.of(2024, 6, 1), LocalDate.of(2024, 7, 1));
+            verify(taskPartitionRepository, times(1)).createPartition(
+                "task_entity_y2024m07", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 8, 1));
+            verify(taskPartitionRepository, times(2)).createPartition(anyString(), any(), any());
+        }
+
+        @Test
+        void positiveTasksMovedFromDefaultPartition() {
+            when(taskPartitionRepository.findPartitionNames()).thenReturn(List.of("task_entity_default"));
+            when(taskPartitionRepository.createPartition(
+                "task_entity_y2024m05", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1))).thenReturn(2);
+
+            createMaintainer(0, TaskPartitionMaintainer.RetentionMode.DROP).maintainPartitions();
+
+            verify(taskPartitionRepository, times(3)).createPartition(anyString(), any(), any());
+        }
+
+        @Test
+        void positiveNothingRemovedWithoutRetention() {
+            when(taskPartitionRepository.findPartitionNames())
+                .thenReturn(List.of("task_entity_y2000m01"));
+
+            createMaintainer(0, TaskPartitionMaintainer.RetentionMode.DROP).maintainPartitions();
+
+            verify(taskPartitionRepository, never()).deleteDependents(anyString());
+            verify(taskPartitionRepository, never()).dropPartition(anyString());
+            verify(taskPartitionRepository, never()).detachPartition(anyString());
+        }
+
+        @Test
+        void positiveExpiredPartitionsDropped() {
+            when(taskPartitionRepository.findPartitionNames())
+                .thenReturn(List.of("task_entity_default", "task_entity_y2024m01", "task_entity_y2024m02",
+                    "task_entity_y2024m03", "task_entity_y2024m04", "task_entity_y2024m05"));
+
+            createMaintainer(3, TaskPartitionMaintainer.RetentionMode.DROP).maintainPartitions();
+
+            verify(taskPartitionRepository, times(1)).deleteDependents("task_entity_y2024m01");
+            verify(taskPartitionRepository, times(1)).dropPartition("task_entity_y2024m01");
+            verify(taskPartitionRepository, times(1)).deleteDependents("task_entity_y2024m02");
+            verify(taskPartitionRepository, times(1)).dropPartition("task_entity_y2024m02");
+            verify(taskPartitionRepository, times(2)).dropPartition(anyString());
+            verify(taskPartitionRepository, never()).detachPartition(anyString());
+        }
+
+        @Test
+        void positiveExpiredPartitionsDetached() {
+            when(taskPartitionRepository.findPartitionNames())
+                .thenReturn(List.of("task_entity_y2023m12", "task_entity_y2024m05"));
+
+            createMaintainer(1, TaskPartitionMaintainer.RetentionMode.DETACH).maintainPartitions();
+
+            verify(taskPartitionRepository, never()).deleteDependents(anyString());
+            verify(taskPartitionRepository, times(1)).detachPartition("task_entity_y2023m12");
+            verify(taskPartitionRepository, never()).dropPartition(anyString());
+        }
+
+        @Test
+        void positiveSkippedWhenLockHeldElsewhere() {
+            when(taskPartitionRepository.tryLock()).thenReturn(false);
+            when(taskPartitionRepository.findPartitionNames()).thenReturn(List.of("task_entity_y2023m12"));
+
+            createMaintainer(1, TaskPartitionMaintainer.RetentionMode.DROP).maintainPartitions();
+
+            verify(taskPartitionRepository, never()).createPartition(anyString(), any(), any());
+            verify(taskPartitionRepository, never()).dropPartition(anyString());
+        }
+
+        @Test
+        void negativeFailureDoesNotStopRemainingPartitions() {
+            when(taskPartitionRepository.findPartitionNames()).thenReturn(List.of());
+            doThrow(new IllegalStateException("Rows in default partition")).when(taskPartitionRepository)
+                .createPartition("task_entity_y2024m05", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1));
+
+            createMaintainer(0, TaskPartitionMaintainer.RetentionMode.DROP).maintainPartitions();
+
+            verify(taskPartitionRepository, times(3)).createPartition(anyString(), any(), any());
+        }
+    }
+
+    @DisplayName("static Optional<YearMonth> getPartitionMonth(String partitionName)")
+    @Nested
+    class GetPartitionMonth {
+        @Test
+        void positiveMonthlyPartition() {
+            assertEquals(Optional.of(YearMonth.of(2024, 2)),
+                TaskPartitionMaintainer.getPartitionMonth("task_entity_y2024m02"), "Month must match");
+            assertEquals("task_entity_y2024m02", TaskPartitionMaintainer.getPartitionName(YearMonth.of(2024, 2)),
+                "Partition name must match");
+        }
+
+        @Test
+        void negativeDefaultPartition() {
+            assertEquals(Optional.empty(), TaskPartitionMaintainer.getPartitionMonth("task_entity_default"),
+                "Default partition must not have a month");
+        }
+
+        @Test
+        void negativeUnrelatedTable() {
+            assertEquals(Optional.empty(), TaskPartitionMaintainer.getPartitionMonth("action_outbox"),
+                "Unrelated table must not have a month");
+        }
+    }
+}
@@ -4,13 +4,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import uk.gov.hmcts.juror.scheduler.actions.ActionRunner;
 import uk.gov.hmcts.juror.scheduler.actions.RunJobActionRunner;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.action.ActionOutboxEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.action.RunJobActionEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.ActionType;
 import uk.gov.hmcts.juror.scheduler.datastore.model.ConditionType;
+import uk.gov.hmcts.juror.scheduler.datastore.repository.ActionOutboxRepository;
 
 import java.util.Collections;
 import java.util.List;
@@ -19,6 +22,7 @@ import java.util.Set;
 import static org.hibernate.validator.internal.util.Contracts.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -26,6 +30,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +46,7 @@ public class ActionServiceImplTest {
 
     private ConditionType conditionType;
     private ActionRunner actionRunner;
+    private ActionOutboxRepository actionOutboxRepository;
 
     private ActionServiceImpl actionService;
 
@@ -49,12 +55,13 @@ public class ActionServiceImplTest {
         this.runJobActionEntity = mock(RunJobActionEntity.class);
         this.conditionType = mock(ConditionType.class);
         this.actionRunner = mock(RunJobActionRunner.class);
+        this.actionOutboxRepository = mock(ActionOutboxRepository.class);
 
         when(actionRunner.supports()).thenReturn(Set.of(ActionType.RUN_JOB));
         when(runJobActionEntity.getCondition()).thenReturn(conditionType);
         when(runJobActionEntity.getType()).thenReturn(ActionType.RUN_JOB);
 
-        this.actionService = new ActionServiceImpl(List.of(actionRunner));
+        this.actionService = new ActionServiceImpl(List.of(actionRunner), actionOutboxRepository);
     }
 
     @DisplayName("public TaskEntity taskUpdated(TaskEntity taskEntity)")
@@ -196,6 +203,140 @@ public class ActionServiceImplTest {
 
             verify(actionRunner, never()).trigger(any(),any());
         }
+
+        @DisplayName("Outbox enabled")
+        @Test
+        void positiveOutboxEnabled() {
+            actionService.outboxEnabled = true;
+            APIJobDetailsEntity apiJobDetailsEntity = new APIJobDetailsEntity();
+            apiJobDetailsEntity.addExecutionAction(runJobActionEntity);
+
+            TaskEntity taskEntity = new TaskEntity();
+            taskEntity.setJob(apiJobDetailsEntity);
+
+            assertEquals(taskEntity, actionService.taskUpdated(taskEntity),
+                "Returned taskEntity must match inputted value");
+            assertNull(taskEntity.getPostActionsMessage(),
+                "No Post message should be set");
+
+            verify(runJobActionEntity, never()).getCondition();
+            verify(actionRunner, never()).trigger(any(), any());
+        }
+    }
+
+    @DisplayName("public void taskSaved(TaskEntity taskEntity)")
+    @Nested
+    class TaskSaved {
+        private TaskEntity taskEntity;
+
+        @BeforeEach
+        void beforeEach() {
+            actionService.outboxEnabled = true;
+            APIJobDetailsEntity apiJobDetailsEntity = new APIJobDetailsEntity();
+            apiJobDetailsEntity.addExecutionAction(runJobActionEntity);
+            taskEntity = new TaskEntity();
+            taskEntity.setTaskId(3L);
+            taskEntity.setJob(apiJobDetailsEntity);
+            when(runJobActionEntity.getId()).thenReturn(2L);
+        }
+
+        @Test
+        @DisplayName("Triggered actions are enqueued")
+        @SuppressWarnings("unchecked")
+        void positiveActionsEnqueued() {
+            when(conditionType
+                .isMet(ConditionType.TaskEntityChangedListener.class, taskEntity))
+                .thenReturn(true);
+
+            actionService.taskSaved(taskEntity);
+
+            ArgumentCaptor<List<ActionOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+            verify(actionOutboxRepository, times(1)).saveAll(captor.capture());
+            assertEquals(1, captor.getValue().size(), "One entry must be enqueued");
+            ActionOutboxEntity entry = captor.getValue().get(0);
+            assertEquals(2L, entry.getActionId(), "Action id must match");
+            assertEquals(3L, entry.getTaskId(), "Task id must match");
+            assertEquals(0, entry.getAttempts(), "Attempts must match");
+            assertNotNull(entry.getNextAttemptAt(), "Next attempt must be set");
+            verify(actionRunner, never()).trigger(any(), any());
+        }
+
+        @Test
+        @DisplayName("No actions are met")
+        void negativeNoActionsMet() {
+            when(conditionType
+                .isMet(ConditionType.TaskEntityChangedListener.class, taskEntity))
+                .thenReturn(false);
+
+            actionService.taskSaved(taskEntity);
+
+            verifyNoInteractions(actionOutboxRepository);
+        }
+
+        @Test
+        @DisplayName("Outbox disabled")
+        void negativeOutboxDisabled() {
+            actionService.outboxEnabled = false;
+
+            actionService.taskSaved(taskEntity);
+
+            verify(runJobActionEntity, never()).getCondition();
+            verifyNoInteractions(actionOutboxRepository);
+        }
+    }
+
+    @DisplayName("public boolean hasTriggeredActions(TaskEntity taskEntity)")
+    @Nested
+    class HasTriggeredActions {
+        @Test
+        @DisplayName("Action condition is met")
+        void positiveActionTriggered() {
+            APIJobDetailsEntity apiJobDetailsEntity = new APIJobDetailsEntity();
+            apiJobDetailsEntity.addExecutionAction(runJobActionEntity);
+            TaskEntity taskEntity = new TaskEntity();
+            taskEntity.setJob(apiJobDetailsEntity);
+            when(conditionType
+                .isMet(ConditionType.TaskEntityChangedListener.class, taskEntity))
+                .thenReturn(true);
+
+            assertTrue(actionService.hasTriggeredActions(taskEntity), "Actions must be triggered");
+            verify(actionRunner, never()).trigger(any(), any());
+        }
+
+        @Test
+        @DisplayName("No action conditions are met")
+        void negativeNoActionsMet() {
+            APIJobDetailsEntity apiJobDetailsEntity = new APIJobDetailsEntity();
+            apiJobDetailsEntity.addExecutionAction(runJobActionEntity);
+            TaskEntity taskEntity = new TaskEntity();
+            taskEntity.setJob(apiJobDetailsEntity);
+            when(conditionType
+                .isMet(ConditionType.TaskEntityChangedListener.class, taskEntity))
+                .thenReturn(false);
+
+            assertFalse(actionService.hasTriggeredActions(taskEntity), "Actions must not be triggered");
+        }
+
+        @Test
+        @DisplayName("Job has no actions")
+        void negativeHasNoActions() {
+            TaskEntity taskEntity = new TaskEntity();
+            taskEntity.setJob(new APIJobDetailsEntity());
+
+            assertFalse(actionService.hasTriggeredActions(taskEntity), "Actions must not be triggered");
+        }
+    }
+
+    @DisplayName("public void runAction(ActionEntity action, TaskEntity taskEntity)")
+    @Nested
+    class RunAction {
+        @Test
+        @DisplayName("Action runners triggered")
+        void positiveRunnersTriggered() {
+            TaskEntity taskEntity = new TaskEntity();
+            actionService.runAction(runJobActionEntity, taskEntity);
+            verify(actionRunner, times(1)).trigger(runJobActionEntity, taskEntity);
+        }
     }
 
     @DisplayName("boolean hasActions(APIJobDetailsEntity job)")
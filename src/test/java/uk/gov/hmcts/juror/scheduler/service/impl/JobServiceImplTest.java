@@ -19,6 +19,9 @@ import uk.gov.hmcts.juror.scheduler.api.model.error.KeyAlreadyInUseError;
 import uk.gov.hmcts.juror.scheduler.api.model.error.bvr.JobAlreadyDisabledError;
 import uk.gov.hmcts.juror.scheduler.api.model.error.bvr.JobAlreadyEnabledError;
 import uk.gov.hmcts.juror.scheduler.api.model.error.bvr.NotAScheduledJobError;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobOperation;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobResult;
+import uk.gov.hmcts.juror.scheduler.api.model.job.bulk.BulkJobTarget;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.Information;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.actions.Action;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.actions.RunJobAction;
@@ -42,6 +45,8 @@ import uk.gov.hmcts.juror.scheduler.datastore.repository.JobRepository;
 import uk.gov.hmcts.juror.scheduler.mapping.JobDetailsMapper;
 import uk.gov.hmcts.juror.scheduler.service.contracts.SchedulerService;
 import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
+import uk.gov.hmcts.juror.scheduler.service.jobs.JobDefinition;
+import uk.gov.hmcts.juror.scheduler.service.jobs.JobDefinitionCache;
 import uk.gov.hmcts.juror.scheduler.testsupport.TestSpecification;
 import uk.gov.hmcts.juror.scheduler.testsupport.util.CloneUtil;
 import uk.gov.hmcts.juror.scheduler.testsupport.util.ConvertUtil;
@@ -56,6 +61,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -101,6 +107,8 @@ class JobServiceImplTest {
     private JobDetailsMapper jobDetailsMapper;
     @MockitoBean
     private TaskService taskService;
+    @MockitoBean
+    private JobDefinitionCache jobDefinitionCache;
 
     @Autowired
     private JobServiceImpl jobService;
@@ -118,6 +126,7 @@ class JobServiceImplTest {
             verify(taskService, times(1)).deleteAllByJobKey(JOB_KEY);
             verify(jobRepository, times(1)).deleteById(JOB_KEY);
             verify(schedulerService, times(1)).unregister(JOB_KEY);
+            verify(jobDefinitionCache, times(1)).invalidate(JOB_KEY);
         }
 
         @Test
@@ -288,6 +297,97 @@ class JobServiceImplTest {
     }
 
 
+    @DisplayName("public List<BulkJobResult> updateJobs(BulkJobOperation operation, BulkJobTarget target)")
+    @Nested
+    @SuppressWarnings({"unchecked", "PMD.LawOfDemeter"})
+    class UpdateJobs {
+        private static final String CRON = "* 5 * * * ?";
+
+        private void mockJobs(Set<String> enabledJobKeys, APIJobDetailsEntity... jobs) {
+            doReturn(List.of(jobs)).when(jobRepository).findBy(any(Specification.class), any());
+            when(schedulerService.getEnabledJobKeys()).thenReturn(enabledJobKeys);
+        }
+
+        private APIJobDetailsEntity job(String key, String cronExpression) {
+            return APIJobDetailsEntity.builder().key(key).cronExpression(cronExpression).build();
+        }
+
+        @Test
+        @DisplayName("Enable Jobs")
+        void positiveEnable() {
+            APIJobDetailsEntity disabledJob = job("JOB1", CRON);
+            mockJobs(Set.of("JOB2"), disabledJob, job("JOB2", CRON), job("JOB3", null));
+
+            List<BulkJobResult> results = jobService.updateJobs(BulkJobOperation.ENABLE,
+                BulkJobTarget.builder().tags(Set.of("TAG")).build());
+
+            assertThat("Results must match", results, hasItems(
+                BulkJobResult.of("JOB1", BulkJobResult.Result.ENABLED),
+                BulkJobResult.of("JOB2", BulkJobResult.Result.ALREADY_ENABLED),
+                BulkJobResult.of("JOB3", BulkJobResult.Result.NOT_A_SCHEDULED_JOB)));
+            assertEquals(3, results.size(), "Result size must match");
+            verify(schedulerService, times(1)).registerAll(List.of(disabledJob));
+            verify(schedulerService, never()).register(any());
+        }
+
+        @Test
+        @DisplayName("Disable Jobs")
+        void positiveDisable() {
+            mockJobs(Set.of("JOB2"), job("JOB1", CRON), job("JOB2", CRON));
+
+            List<BulkJobResult> results = jobService.updateJobs(BulkJobOperation.DISABLE,
+                BulkJobTarget.builder().jobKeys(Set.of("JOB1", "JOB2", "JOB4")).build());
+
+            assertThat("Results must match", results, hasItems(
+                BulkJobResult.of("JOB1", BulkJobResult.Result.ALREADY_DISABLED),
+                BulkJobResult.of("JOB2", BulkJobResult.Result.DISABLED),
+                BulkJobResult.of("JOB4", BulkJobResult.Result.NOT_FOUND)));
+            assertEquals(3, results.size(), "Result size must match");
+            verify(schedulerService, times(1)).unregisterAll(List.of("JOB2"));
+            verify(schedulerService, never()).unregister(any());
+        }
+
+        @Test
+        @DisplayName("Pause Jobs")
+        void positivePause() {
+            mockJobs(Set.of("JOB1", "JOB2"), job("JOB1", CRON), job("JOB2", CRON));
+
+            List<BulkJobResult> results = jobService.updateJobs(BulkJobOperation.PAUSE,
+                BulkJobTarget.builder().tags(Set.of("TAG")).build());
+
+            assertEquals(List.of(
+                BulkJobResult.of("JOB1", BulkJobResult.Result.PAUSED),
+                BulkJobResult.of("JOB2", BulkJobResult.Result.PAUSED)), results, "Results must match");
+            verify(schedulerService, times(1)).pauseAll(List.of("JOB1", "JOB2"));
+        }
+
+        @Test
+        @DisplayName("Resume Jobs")
+        void positiveResume() {
+            mockJobs(Set.of("JOB1"), job("JOB1", CRON), job("JOB2", CRON));
+
+            List<BulkJobResult> results = jobService.updateJobs(BulkJobOperation.RESUME,
+                BulkJobTarget.builder().tags(Set.of("TAG")).build());
+
+            assertThat("Results must match", results, hasItems(
+                BulkJobResult.of("JOB1", BulkJobResult.Result.RESUMED),
+                BulkJobResult.of("JOB2", BulkJobResult.Result.ALREADY_DISABLED)));
+            verify(schedulerService, times(1)).resumeAll(List.of("JOB1"));
+        }
+
+        @Test
+        @DisplayName("No Jobs found")
+        void negativeNoJobsFound() {
+            mockJobs(Set.of());
+
+            NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> jobService.updateJobs(BulkJobOperation.PAUSE,
+                    BulkJobTarget.builder().tags(Set.of("TAG")).build()));
+            assertEquals("No Jobs found for the provided target", exception.getMessage(), "Message must match");
+            verify(schedulerService, never()).pauseAll(any());
+        }
+    }
+
     @DisplayName("public void executeJob(String jobKey)")
     @Nested
     class ExecuteJob {
@@ -334,6 +434,80 @@ class JobServiceImplTest {
         }
     }
 
+    @DisplayName("public APIJobDetailsEntity getJobForExecution(String key)")
+    @Nested
+    class GetJobForExecution {
+        @Test
+        @DisplayName("Job Exists")
+        void positiveJobExists() {
+            APIJobDetailsEntity jobDetailsEntity = new APIJobDetailsEntity();
+            when(jobRepository.findForExecutionByKey(JOB_KEY)).thenReturn(Optional.of(jobDetailsEntity));
+            assertEquals(jobDetailsEntity, jobService.getJobForExecution(JOB_KEY), "JobDetailsEntity must match");
+            verify(jobRepository, never()).findById(any());
+            verify(schedulerService, never()).isEnabled(any());
+        }
+
+        @Test
+        @DisplayName("Job does not Exists")
+        void negativeJobDoesNotExists() {
+            when(jobRepository.findForExecutionByKey(JOB_KEY)).thenReturn(Optional.empty());
+
+            NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> jobService.getJobForExecution(JOB_KEY));
+            assertEquals("Job not found for key: " + JOB_KEY, exception.getMessage(), "Message must match");
+        }
+    }
+
+    @DisplayName("public JobDefinition getJobDefinition(String key, String revision)")
+    @Nested
+    class GetJobDefinition {
+        private static final String REVISION = "revision-1";
+
+        @Test
+        @DisplayName("Cached definition")
+        void positiveCachedDefinition() {
+            JobDefinition jobDefinition = JobDefinition.of(
+                APIJobDetailsEntity.builder().key(JOB_KEY).build(), REVISION);
+            when(jobDefinitionCache.get(JOB_KEY, REVISION)).thenReturn(jobDefinition);
+
+            assertEquals(jobDefinition, jobService.getJobDefinition(JOB_KEY, REVISION), "Definition must match");
+            verify(jobRepository, never()).findForExecutionByKey(any());
+            verify(jobDefinitionCache, never()).put(any());
+        }
+
+        @Test
+        @DisplayName("Definition not cached")
+        void positiveDefinitionNotCached() {
+            APIJobDetailsEntity jobDetailsEntity = APIJobDetailsEntity.builder()
+                .key(JOB_KEY)
+                .url("www.myurl.com")
+                .headers(Map.of("header", "value"))
+                .build();
+            when(jobRepository.findForExecutionByKey(JOB_KEY)).thenReturn(Optional.of(jobDetailsEntity));
+
+            JobDefinition jobDefinition = jobService.getJobDefinition(JOB_KEY, REVISION);
+            assertEquals(JOB_KEY, jobDefinition.getKey(), "Key must match");
+            assertEquals(REVISION, jobDefinition.getRevision(), "Revision must match");
+            assertEquals("www.myurl.com", jobDefinition.getUrl(), "Url must match");
+            assertEquals(Map.of("header", "value"), jobDefinition.getHeaders(), "Headers must match");
+            assertEquals(jobDetailsEntity, jobDefinition.getJobDetails(), "Job details must match");
+
+            verify(jobDefinitionCache, times(1)).get(JOB_KEY, REVISION);
+            verify(jobDefinitionCache, times(1)).put(jobDefinition);
+        }
+
+        @Test
+        @DisplayName("Job does not Exists")
+        void negativeJobDoesNotExists() {
+            when(jobRepository.findForExecutionByKey(JOB_KEY)).thenReturn(Optional.empty());
+
+            NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> jobService.getJobDefinition(JOB_KEY, REVISION));
+            assertEquals("Job not found for key: " + JOB_KEY, exception.getMessage(), "Message must match");
+            verify(jobDefinitionCache, never()).put(any());
+        }
+    }
+
     @DisplayName("public void createJob(APIJobDetails jobDetails)")
     @Nested
     class CreateJob {
@@ -404,6 +578,87 @@ class JobServiceImplTest {
         }
     }
 
+    @DisplayName("public List<BulkJobResult> createJobs(List<APIJobDetails> jobDetails)")
+    @Nested
+    class CreateJobs {
+        private APIJobDetails createJobDetails(String key, String cronExpression) {
+            APIJobDetails apiJobDetails = new APIJobDetails();
+            apiJobDetails.setKey(key);
+            apiJobDetails.setCronExpression(cronExpression);
+            APIJobDetailsEntity apiJobDetailsEntity = new APIJobDetailsEntity();
+            apiJobDetailsEntity.setKey(key);
+            apiJobDetailsEntity.setCronExpression(cronExpression);
+            when(jobDetailsMapper.toAPIJobDetailsEntity(apiJobDetails)).thenReturn(apiJobDetailsEntity);
+            return apiJobDetails;
+        }
+
+        @Test
+        @DisplayName("Jobs created")
+        @SuppressWarnings({"unchecked", "PMD.LawOfDemeter"})
+        void positiveJobsCreated() {
+            List<APIJobDetails> jobDetails = List.of(
+                createJobDetails("JOB1", "* 5 * * * ?"),
+                createJobDetails("JOB2", null));
+            when(jobRepository.findExistingKeys(List.of("JOB1", "JOB2"))).thenReturn(Set.of());
+
+            List<BulkJobResult> results = jobService.createJobs(jobDetails);
+
+            assertEquals(List.of(
+                BulkJobResult.of("JOB1", BulkJobResult.Result.CREATED),
+                BulkJobResult.of("JOB2", BulkJobResult.Result.CREATED)), results, "Results must match");
+
+            ArgumentCaptor<List<APIJobDetailsEntity>> persistCaptor = ArgumentCaptor.forClass(List.class);
+            verify(jobRepository, times(1)).persistAll(persistCaptor.capture());
+            assertEquals(2, persistCaptor.getValue().size(), "Persisted size must match");
+            verify(jobRepository, never()).save(any());
+
+            ArgumentCaptor<List<APIJobDetailsEntity>> registerCaptor = ArgumentCaptor.forClass(List.class);
+            verify(schedulerService, times(1)).registerAll(registerCaptor.capture());
+            assertEquals(1, registerCaptor.getValue().size(), "Only scheduled Jobs must be registered");
+            assertEquals("JOB1", registerCaptor.getValue().get(0).getKey(), "Key must match");
+            verify(schedulerService, never()).register(any());
+            verify(jobDefinitionCache, times(1)).invalidate("JOB1");
+            verify(jobDefinitionCache, times(1)).invalidate("JOB2");
+        }
+
+        @Test
+        @DisplayName("Existing and repeated keys skipped")
+        @SuppressWarnings({"unchecked", "PMD.LawOfDemeter"})
+        void positiveExistingAndDuplicateKeysSkipped() {
+            List<APIJobDetails> jobDetails = List.of(
+                createJobDetails("JOB1", null),
+                createJobDetails("JOB2", null),
+                createJobDetails("JOB1", null));
+            when(jobRepository.findExistingKeys(List.of("JOB1", "JOB2", "JOB1"))).thenReturn(Set.of("JOB2"));
+
+            List<BulkJobResult> results = jobService.createJobs(jobDetails);
+
+            assertEquals(3, results.size(), "Result size must match");
+            assertEquals(BulkJobResult.Result.CREATED, results.get(0).getResult(), "Result must match");
+            assertEquals(BulkJobResult.Result.KEY_ALREADY_IN_USE, results.get(1).getResult(), "Result must match");
+            assertEquals(BulkJobResult.Result.DUPLICATE_KEY, results.get(2).getResult(), "Result must match");
+
+            ArgumentCaptor<List<APIJobDetailsEntity>> persistCaptor = ArgumentCaptor.forClass(List.class);
+            verify(jobRepository, times(1)).persistAll(persistCaptor.capture());
+            assertEquals(1, persistCaptor.getValue().size(), "Persisted size must match");
+            assertEquals("JOB1", persistCaptor.getValue().get(0).getKey(), "Key must match");
+        }
+
+        @Test
+        @DisplayName("All keys in use")
+        void negativeAllKeysInUse() {
+            List<APIJobDetails> jobDetails = List.of(createJobDetails("JOB1", null));
+            when(jobRepository.findExistingKeys(List.of("JOB1"))).thenReturn(Set.of("JOB1"));
+
+            List<BulkJobResult> results = jobService.createJobs(jobDetails);
+
+            assertEquals(List.of(BulkJobResult.of("JOB1", BulkJobResult.Result.KEY_ALREADY_IN_USE,
+                "A Job with this key already exists")), results, "Results must match");
+            verify(jobRepository, never()).persistAll(any());
+            verify(schedulerService, never()).registerAll(any());
+        }
+    }
+
     @DisplayName("public APIJobDetailsEntity save(APIJobDetailsEntity jobDetailsEntity)")
     @Nested
     class SaveMethod {
@@ -623,6 +878,74 @@ class JobServiceImplTest {
             }
         }
 
+        @Test
+        @DisplayName("Enabled Filter")
+        void positiveGetJobsEnabledFilter() {
+            APIJobDetailsEntity job = APIJobDetailsEntity.builder().key(JOB_KEY).build();
+            List<APIJobDetailsEntity> jobs = new ArrayList<>();
+            jobs.add(job);
+            Set<String> enabledJobKeys = Set.of(JOB_KEY, "OTHER_JOB");
+
+            when(schedulerService.getEnabledJobKeys()).thenReturn(enabledJobKeys);
+            when(jobRepository.findAll(ArgumentMatchers.<Specification<APIJobDetailsEntity>>any())).thenReturn(jobs);
+            try (MockedStatic<JobRepository.Specs> utilities = Mockito.mockStatic(JobRepository.Specs.class)) {
+                setupSpecificationMocks(utilities);
+
+                JobSearchFilter jobSearchFilter = JobSearchFilter.builder().enabled(true).build();
+
+                try (MockedStatic<Specification> specificationMockedStatic = Mockito.mockStatic(Specification.class)) {
+
+                    List<APIJobDetailsEntity> returnedJobs = jobService.getJobs(jobSearchFilter);
+                    assertEquals(1, returnedJobs.size(), "Returned jobs size must match");
+                    assertTrue(returnedJobs.get(0).getEnabled(), "Job must be enabled");
+
+                    specificationMockedStatic.verify(() -> Specification.allOf(captor.capture()));
+
+                    List<Specification<APIJobDetailsEntity>> specs = captor.getValue();
+                    assertEquals(1, specs.size(), "Spec size must match");
+                    assertEquals("byJobKeyIn", ((TestSpecification) specs.get(0)).name(), "Spec name must match");
+                }
+                utilities.verify(() -> JobRepository.Specs.byJobKeyIn(enabledJobKeys), times(1));
+                utilities.verify(() -> JobRepository.Specs.byJobKeyNotIn(any()), never());
+            }
+            verify(schedulerService, times(1)).getEnabledJobKeys();
+            verify(schedulerService, never()).isEnabled(any());
+        }
+
+        @Test
+        @DisplayName("Disabled Filter")
+        void positiveGetJobsDisabledFilter() {
+            APIJobDetailsEntity job = APIJobDetailsEntity.builder().key(JOB_KEY).build();
+            List<APIJobDetailsEntity> jobs = new ArrayList<>();
+            jobs.add(job);
+            Set<String> enabledJobKeys = Set.of("OTHER_JOB");
+
+            when(schedulerService.getEnabledJobKeys()).thenReturn(enabledJobKeys);
+            when(jobRepository.findAll(ArgumentMatchers.<Specification<APIJobDetailsEntity>>any())).thenReturn(jobs);
+            try (MockedStatic<JobRepository.Specs> utilities = Mockito.mockStatic(JobRepository.Specs.class)) {
+                setupSpecificationMocks(utilities);
+
+                JobSearchFilter jobSearchFilter = JobSearchFilter.builder().enabled(false).build();
+
+                try (MockedStatic<Specification> specificationMockedStatic = Mockito.mockStatic(Specification.class)) {
+
+                    List<APIJobDetailsEntity> returnedJobs = jobService.getJobs(jobSearchFilter);
+                    assertEquals(1, returnedJobs.size(), "Returned jobs size must match");
+                    assertFalse(returnedJobs.get(0).getEnabled(), "Job must be disabled");
+
+                    specificationMockedStatic.verify(() -> Specification.allOf(captor.capture()));
+
+                    List<Specification<APIJobDetailsEntity>> specs = captor.getValue();
+                    assertEquals(1, specs.size(), "Spec size must match");
+                    assertEquals("byJobKeyNotIn", ((TestSpecification) specs.get(0)).name(), "Spec name must match");
+                }
+                utilities.verify(() -> JobRepository.Specs.byJobKeyNotIn(enabledJobKeys), times(1));
+                utilities.verify(() -> JobRepository.Specs.byJobKeyIn(any()), never());
+            }
+            verify(schedulerService, times(1)).getEnabledJobKeys();
+            verify(schedulerService, never()).isEnabled(any());
+        }
+
         @Test
         @DisplayName("No Jobs found")
         void negativeNotJobsFound() {
@@ -643,6 +966,10 @@ class JobServiceImplTest {
                 .thenReturn(new TestSpecification("byJobKey"));
             utilities.when(() -> JobRepository.Specs.byTags(any()))
                 .thenReturn(new TestSpecification("byTags"));
+            utilities.when(() -> JobRepository.Specs.byJobKeyIn(any()))
+                .thenReturn(new TestSpecification("byJobKeyIn"));
+            utilities.when(() -> JobRepository.Specs.byJobKeyNotIn(any()))
+                .thenReturn(new TestSpecification("byJobKeyNotIn"));
             utilities.when(() -> JobRepository.Specs.byCreateDateGreaterThan(any()))
                 .thenReturn(new TestSpecification("byCreateDateGreaterThan"));
             utilities.when(() -> JobRepository.Specs.orderByCreatedOn(any()))
@@ -720,6 +1047,9 @@ class JobServiceImplTest {
                 assertEquals(updateAPIApiJobDetails.getPayload(),
                     Optional.ofNullable(apiJobPatch.getPayload()).orElseGet(baseApiJobDetailsEntity::getPayload),
                     "Payload must match");
+                assertEquals(updateAPIApiJobDetails.getBulkhead(),
+                    Optional.ofNullable(apiJobPatch.getBulkhead()).orElseGet(baseApiJobDetailsEntity::getBulkhead),
+                    "Bulkhead must match");
 
                 if (apiJobPatch.getValidations() == null) {
                     validateValidations(baseApiJobDetailsEntity.getValidations(),
@@ -736,13 +1066,16 @@ class JobServiceImplTest {
                 }
 
                 verify(jobRepository, times(1)).save(apiJobDetailsEntity);
+                verify(jobDefinitionCache, times(1)).invalidate(JOB_KEY);
                 if (apiJobPatch.getCronExpression() != null) {
                     verify(schedulerService, times(1)).unregister(JOB_KEY);
                     verify(schedulerService, times(1)).register(apiJobDetailsEntity);
+                    verify(schedulerService, never()).updateJobRevision(any());
                 } else {
 
                     verify(schedulerService, never()).unregister(any());
                     verify(schedulerService, never()).register(any());
+                    verify(schedulerService, times(1)).updateJobRevision(JOB_KEY);
                 }
 
             } catch (Exception e) {
@@ -912,6 +1245,17 @@ class JobServiceImplTest {
                 .build());
         }
 
+        @Test
+        @DisplayName("Bulkhead")
+        @SuppressWarnings({
+            "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+        })
+        void positiveUpdateBulkhead() {
+            triggerAndValidateUpdate(APIJobPatch.builder()
+                .bulkhead("reports")
+                .build());
+        }
+
         @Test
         @DisplayName("Validations")
         @SuppressWarnings({
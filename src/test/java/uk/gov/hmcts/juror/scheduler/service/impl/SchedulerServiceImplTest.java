@@ -5,31 +5,45 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.impl.triggers.CronTriggerImpl;
 import org.quartz.impl.triggers.SimpleTriggerImpl;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.service.jobs.APIJob;
+import uk.gov.hmcts.juror.scheduler.service.jobs.JobDefinition;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 import uk.gov.hmcts.juror.standard.service.exceptions.NotFoundException;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -78,6 +92,45 @@ class SchedulerServiceImplTest {
             assertEquals("Failed to start scheduler", actualExpcetion.getMessage(), "Exception message must match");
 
         }
+
+        @Test
+        @DisplayName("Job revisions backfilled before start")
+        void positiveRevisionsBackfilled() throws SchedulerException {
+            JobKey withoutRevision = JobKey.jobKey(JOB_KEY);
+            JobKey withRevision = JobKey.jobKey("DEF456");
+            when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP)))
+                .thenReturn(Set.of(withoutRevision, withRevision));
+            JobDetail jobDetailWithoutRevision = mock(JobDetail.class);
+            when(jobDetailWithoutRevision.getJobDataMap()).thenReturn(new JobDataMap(Map.of("key", JOB_KEY)));
+            when(scheduler.getJobDetail(withoutRevision)).thenReturn(jobDetailWithoutRevision);
+            JobDetail jobDetailWithRevision = mock(JobDetail.class);
+            when(jobDetailWithRevision.getJobDataMap()).thenReturn(new JobDataMap(
+                Map.of("key", "DEF456", JobDefinition.JOB_DATA_REVISION_KEY, "rev")));
+            when(scheduler.getJobDetail(withRevision)).thenReturn(jobDetailWithRevision);
+
+            schedulerService.postConstruct();
+
+            ArgumentCaptor<JobDetail> captor = ArgumentCaptor.forClass(JobDetail.class);
+            InOrder inOrder = Mockito.inOrder(scheduler);
+            inOrder.verify(scheduler, times(1)).addJob(captor.capture(), eq(true), eq(true));
+            inOrder.verify(scheduler, times(1)).start();
+            JobDetail jobDetail = captor.getValue();
+            assertEquals(withoutRevision, jobDetail.getKey(), "Job key must match");
+            assertEquals(JOB_KEY, jobDetail.getJobDataMap().getString("key"), "Key must match");
+            assertNotNull(jobDetail.getJobDataMap().getString(JobDefinition.JOB_DATA_REVISION_KEY),
+                "Revision must be set");
+        }
+
+        @Test
+        @DisplayName("Scheduler starts when backfill fails")
+        void positiveBackfillFails() throws SchedulerException {
+            when(scheduler.getJobKeys(any())).thenThrow(new SchedulerException("Some Reason"));
+
+            schedulerService.postConstruct();
+
+            verify(scheduler, never()).addJob(any(), anyBoolean(), anyBoolean());
+            verify(scheduler, times(1)).start();
+        }
     }
 
     @DisplayName("public void preDestroy()")
@@ -128,8 +181,10 @@ class SchedulerServiceImplTest {
             JobDetail jobDetail = jobDetailCaptor.getValue();
             assertEquals(JOB_KEY, jobDetail.getKey().getName(), "Name must match");
             assertEquals(APIJob.class, jobDetail.getJobClass(), "Class must match");
-            assertEquals(1, jobDetail.getJobDataMap().size(), "Size must match");
+            assertEquals(2, jobDetail.getJobDataMap().size(), "Size must match");
             assertEquals(JOB_KEY, jobDetail.getJobDataMap().getString("key"), "Key must match");
+            assertNotNull(jobDetail.getJobDataMap().getString(JobDefinition.JOB_DATA_REVISION_KEY),
+                "Revision must be set");
 
             Trigger trigger = triggerCaptor.getValue();
 
@@ -156,8 +211,10 @@ class SchedulerServiceImplTest {
             JobDetail jobDetail = jobDetailCaptor.getValue();
             assertEquals(JOB_KEY, jobDetail.getKey().getName(), "Name must match");
             assertEquals(APIJob.class, jobDetail.getJobClass(), "Class must match");
-            assertEquals(1, jobDetail.getJobDataMap().size(), "Size must match");
+            assertEquals(2, jobDetail.getJobDataMap().size(), "Size must match");
             assertEquals(JOB_KEY, jobDetail.getJobDataMap().getString("key"), "Key must match");
+            assertNotNull(jobDetail.getJobDataMap().getString(JobDefinition.JOB_DATA_REVISION_KEY),
+                "Revision must be set");
 
             Trigger trigger = triggerCaptor.getValue();
 
@@ -187,6 +244,158 @@ class SchedulerServiceImplTest {
         }
     }
 
+    @DisplayName("public void registerAll(Collection<APIJobDetailsEntity> jobDetails)")
+    @Nested
+    class RegisterAll {
+        @Test
+        @SuppressWarnings({"unchecked", "PMD.LawOfDemeter"})
+        @DisplayName("Register Jobs in one call")
+        void positiveJobsRegisteredTogether() throws SchedulerException {
+            schedulerService.registerAll(List.of(
+                APIJobDetailsEntity.builder().key(JOB_KEY).cronExpression(CRON_EXPRESSION).build(),
+                APIJobDetailsEntity.builder().key("DEF456").build()));
+
+            final ArgumentCaptor<Map<JobDetail, Set<? extends Trigger>>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(scheduler, times(1)).scheduleJobs(captor.capture(), eq(false));
+            verify(scheduler, never()).scheduleJob(any(), any());
+
+            Map<JobDetail, Set<? extends Trigger>> triggersAndJobs = captor.getValue();
+            assertEquals(2, triggersAndJobs.size(), "Size must match");
+            triggersAndJobs.forEach((jobDetail, triggers) -> {
+                assertEquals(APIJob.class, jobDetail.getJobClass(), "Class must match");
+                assertNotNull(jobDetail.getJobDataMap().getString(JobDefinition.JOB_DATA_REVISION_KEY),
+                    "Revision must be set");
+                assertEquals(1, triggers.size(), "Trigger size must match");
+                Trigger trigger = triggers.iterator().next();
+                assertEquals(jobDetail.getKey().getName(), trigger.getKey().getName(), "Name must match");
+                if (JOB_KEY.equals(jobDetail.getKey().getName())) {
+                    assertThat("Trigger should be instance of cronTriggerImpl", trigger,
+                        instanceOf(CronTriggerImpl.class));
+                } else {
+                    assertThat("Trigger should be instance of simpleTriggerImpl", trigger,
+                        instanceOf(SimpleTriggerImpl.class));
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("No Jobs")
+        void positiveNoJobs() throws SchedulerException {
+            schedulerService.registerAll(List.of());
+            verify(scheduler, never()).scheduleJobs(anyMap(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Register Jobs -  Unexpected Exception")
+        void negativeUnexpectedException() throws SchedulerException {
+            Exception thrownException = new RuntimeException("Some Reason");
+            doThrow(thrownException).when(scheduler).scheduleJobs(anyMap(), anyBoolean());
+
+            InternalServerException exception = assertThrows(
+                InternalServerException.class,
+                () -> schedulerService.registerAll(List.of(APIJobDetailsEntity.builder().key(JOB_KEY).build()))
+            );
+            assertEquals("Failed to register Jobs", exception.getMessage(), "Message must match");
+            assertEquals(thrownException, exception.getCause(), "Cause must match");
+        }
+    }
+
+    @DisplayName("public void unregisterAll(Collection<String> jobKeys)")
+    @Nested
+    class UnregisterAll {
+        @Test
+        @DisplayName("Unregister Jobs in one call")
+        void positiveJobsUnregisteredTogether() throws SchedulerException {
+            schedulerService.unregisterAll(List.of(JOB_KEY, "DEF456"));
+            verify(scheduler, times(1)).deleteJobs(List.of(JobKey.jobKey(JOB_KEY), JobKey.jobKey("DEF456")));
+            verify(scheduler, never()).deleteJob(any());
+        }
+
+        @Test
+        @DisplayName("Unregister Jobs -  Unexpected Exception")
+        void negativeUnexpectedException() throws SchedulerException {
+            Exception thrownException = new RuntimeException("Some Reason");
+            doThrow(thrownException).when(scheduler).deleteJobs(any());
+
+            InternalServerException exception = assertThrows(
+                InternalServerException.class,
+                () -> schedulerService.unregisterAll(List.of(JOB_KEY))
+            );
+            assertEquals("Failed to unregister Jobs", exception.getMessage(), "Message must match");
+            assertEquals(thrownException, exception.getCause(), "Cause must match");
+        }
+    }
+
+    @DisplayName("public void pauseAll(Collection<String> jobKeys)")
+    @Nested
+    class PauseAll {
+        @Test
+        @DisplayName("Every registered Job paused by group")
+        void positiveAllJobsPausedByGroup() throws SchedulerException {
+            when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP)))
+                .thenReturn(Set.of(JobKey.jobKey(JOB_KEY), JobKey.jobKey("DEF456")));
+
+            schedulerService.pauseAll(List.of(JOB_KEY, "DEF456"));
+
+            verify(scheduler, times(1)).pauseJobs(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP));
+            verify(scheduler, never()).pauseJob(any());
+        }
+
+        @Test
+        @DisplayName("Some registered Jobs paused by key")
+        void positiveSomeJobsPausedByKey() throws SchedulerException {
+            when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP)))
+                .thenReturn(Set.of(JobKey.jobKey(JOB_KEY), JobKey.jobKey("DEF456")));
+
+            schedulerService.pauseAll(List.of(JOB_KEY));
+
+            verify(scheduler, times(1)).pauseJob(JobKey.jobKey(JOB_KEY));
+            verify(scheduler, never()).pauseJobs(any());
+        }
+
+        @Test
+        @DisplayName("Pause Jobs -  Unexpected Exception")
+        void negativeUnexpectedException() throws SchedulerException {
+            Exception thrownException = new RuntimeException("Some Reason");
+            doThrow(thrownException).when(scheduler).pauseJobs(any());
+
+            InternalServerException exception = assertThrows(
+                InternalServerException.class,
+                () -> schedulerService.pauseAll(List.of(JOB_KEY))
+            );
+            assertEquals("Failed to pause Jobs", exception.getMessage(), "Message must match");
+            assertEquals(thrownException, exception.getCause(), "Cause must match");
+        }
+    }
+
+    @DisplayName("public void resumeAll(Collection<String> jobKeys)")
+    @Nested
+    class ResumeAll {
+        @Test
+        @DisplayName("Every registered Job resumed by group")
+        void positiveAllJobsResumedByGroup() throws SchedulerException {
+            when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP)))
+                .thenReturn(Set.of(JobKey.jobKey(JOB_KEY)));
+
+            schedulerService.resumeAll(List.of(JOB_KEY));
+
+            verify(scheduler, times(1)).resumeJobs(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP));
+            verify(scheduler, never()).resumeJob(any());
+        }
+
+        @Test
+        @DisplayName("Some registered Jobs resumed by key")
+        void positiveSomeJobsResumedByKey() throws SchedulerException {
+            when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP)))
+                .thenReturn(Set.of(JobKey.jobKey(JOB_KEY), JobKey.jobKey("DEF456")));
+
+            schedulerService.resumeAll(List.of("DEF456"));
+
+            verify(scheduler, times(1)).resumeJob(JobKey.jobKey("DEF456"));
+            verify(scheduler, never()).resumeJobs(any());
+        }
+    }
+
     @DisplayName("public void executeJob(String jobKey)")
     @Nested
     class ExecuteJob {
@@ -231,6 +440,94 @@ class SchedulerServiceImplTest {
         }
     }
 
+    @DisplayName("public void deferJob(String jobKey, long delay)")
+    @Nested
+    class DeferJob {
+        @Test
+        @DisplayName("Deferred run scheduled")
+        void positiveScheduled() throws SchedulerException {
+            when(scheduler.checkExists(any(TriggerKey.class))).thenReturn(false);
+            final long start = System.currentTimeMillis();
+
+            schedulerService.deferJob(JOB_KEY, 5000);
+
+            final ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+            verify(scheduler, times(1)).scheduleJob(triggerCaptor.capture());
+            Trigger trigger = triggerCaptor.getValue();
+            assertEquals(TriggerKey.triggerKey(JOB_KEY, SchedulerServiceImpl.DEFERRED_GROUP), trigger.getKey(),
+                "Trigger key must match");
+            assertEquals(JOB_KEY, trigger.getJobKey().getName(), "Job key must match");
+            assertTrue(trigger.getStartTime().getTime() >= start + 5000, "Start time must be delayed");
+            verify(scheduler, never()).rescheduleJob(any(), any());
+            verify(scheduler, never()).pauseTrigger(any());
+        }
+
+        @Test
+        @DisplayName("Deferred run paused with job")
+        void positiveJobPaused() throws SchedulerException {
+            TriggerKey triggerKey = TriggerKey.triggerKey(JOB_KEY, SchedulerServiceImpl.DEFERRED_GROUP);
+            when(scheduler.checkExists(triggerKey)).thenReturn(false);
+            when(scheduler.getTriggerState(TriggerKey.triggerKey(JOB_KEY))).thenReturn(Trigger.TriggerState.PAUSED);
+
+            schedulerService.deferJob(JOB_KEY, 5000);
+
+            InOrder inOrder = Mockito.inOrder(scheduler);
+            inOrder.verify(scheduler, times(1)).scheduleJob(any(Trigger.class));
+            inOrder.verify(scheduler, times(1)).pauseTrigger(triggerKey);
+        }
+
+        @Test
+        @DisplayName("Moved deferred run paused with job")
+        void positiveRescheduledJobPaused() throws SchedulerException {
+            TriggerKey triggerKey = TriggerKey.triggerKey(JOB_KEY, SchedulerServiceImpl.DEFERRED_GROUP);
+            when(scheduler.checkExists(triggerKey)).thenReturn(true);
+            when(scheduler.getTriggerState(TriggerKey.triggerKey(JOB_KEY))).thenReturn(Trigger.TriggerState.PAUSED);
+
+            schedulerService.deferJob(JOB_KEY, 5000);
+
+            InOrder inOrder = Mockito.inOrder(scheduler);
+            inOrder.verify(scheduler, times(1)).rescheduleJob(eq(triggerKey), any(Trigger.class));
+            inOrder.verify(scheduler, times(1)).pauseTrigger(triggerKey);
+        }
+
+        @Test
+        @DisplayName("Deferred run moved")
+        void positiveRescheduled() throws SchedulerException {
+            TriggerKey triggerKey = TriggerKey.triggerKey(JOB_KEY, SchedulerServiceImpl.DEFERRED_GROUP);
+            when(scheduler.checkExists(triggerKey)).thenReturn(true);
+
+            schedulerService.deferJob(JOB_KEY, 5000);
+
+            final ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+            verify(scheduler, times(1)).rescheduleJob(eq(triggerKey), triggerCaptor.capture());
+            assertEquals(triggerKey, triggerCaptor.getValue().getKey(), "Trigger key must match");
+            verify(scheduler, never()).scheduleJob(any(Trigger.class));
+        }
+
+        @Test
+        @DisplayName("Deferred concurrently")
+        void positiveAlreadyDeferred() throws SchedulerException {
+            when(scheduler.checkExists(any(TriggerKey.class))).thenReturn(false);
+            doThrow(new ObjectAlreadyExistsException("Exists")).when(scheduler).scheduleJob(any(Trigger.class));
+
+            schedulerService.deferJob(JOB_KEY, 5000);
+
+            verify(scheduler, times(1)).scheduleJob(any(Trigger.class));
+        }
+
+        @Test
+        @DisplayName("Unexpected Exception")
+        void negativeUnexpectedException() throws SchedulerException {
+            Exception thrownException = new RuntimeException("Some Reason");
+            when(scheduler.checkExists(any(TriggerKey.class))).thenThrow(thrownException);
+
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> schedulerService.deferJob(JOB_KEY, 5000));
+            assertEquals("Failed to defer Job", exception.getMessage(), "Message must match");
+            assertEquals(thrownException, exception.getCause(), "Cause must match");
+        }
+    }
+
     @DisplayName("public boolean isScheduled(String jobKey)")
     @Nested
     class IsScheduled {
@@ -338,6 +635,83 @@ class SchedulerServiceImplTest {
     }
 
 
+    @DisplayName("public Set<String> getEnabledJobKeys()")
+    @Nested
+    class GetEnabledJobKeys {
+        @Test
+        @DisplayName("Registered jobs returned")
+        void positiveRegisteredJobKeysReturned() throws SchedulerException {
+            when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP)))
+                .thenReturn(Set.of(JobKey.jobKey(JOB_KEY), JobKey.jobKey("OTHER_JOB")));
+            assertEquals(Set.of(JOB_KEY, "OTHER_JOB"), schedulerService.getEnabledJobKeys(),
+                "Enabled job keys must match");
+            verify(scheduler, times(1)).getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP));
+        }
+
+        @Test
+        @DisplayName("No registered jobs")
+        void positiveNoRegisteredJobs() throws SchedulerException {
+            when(scheduler.getJobKeys(any())).thenReturn(Set.of());
+            assertTrue(schedulerService.getEnabledJobKeys().isEmpty(), "Enabled job keys must be empty");
+        }
+
+        @Test
+        @DisplayName("Unexpected Exception")
+        void negativeUnexpectedException() throws SchedulerException {
+            Exception thrownException = new RuntimeException("Some Reason");
+            doThrow(thrownException).when(scheduler).getJobKeys(any());
+            InternalServerException exception = assertThrows(
+                InternalServerException.class,
+                () -> schedulerService.getEnabledJobKeys()
+            );
+            assertEquals("Failed to get registered job keys",
+                exception.getMessage(), "Message must match");
+            assertEquals(thrownException, exception.getCause(), "Cause must match");
+        }
+    }
+
+    @DisplayName("public void updateJobRevision(String jobKey)")
+    @Nested
+    class UpdateJobRevision {
+        @Test
+        @DisplayName("Registered job")
+        void positiveRegisteredJob() throws SchedulerException {
+            when(scheduler.getJobDetail(JobKey.jobKey(JOB_KEY))).thenReturn(mock(JobDetail.class));
+
+            schedulerService.updateJobRevision(JOB_KEY);
+
+            ArgumentCaptor<JobDetail> captor = ArgumentCaptor.forClass(JobDetail.class);
+            verify(scheduler, times(1)).addJob(captor.capture(), eq(true), eq(true));
+            JobDetail jobDetail = captor.getValue();
+            assertEquals(JobKey.jobKey(JOB_KEY), jobDetail.getKey(), "Job key must match");
+            assertEquals(JOB_KEY, jobDetail.getJobDataMap().getString("key"), "Key must match");
+            assertNotNull(jobDetail.getJobDataMap().getString(JobDefinition.JOB_DATA_REVISION_KEY),
+                "Revision must be set");
+        }
+
+        @Test
+        @DisplayName("Job not registered")
+        void positiveJobNotRegistered() throws SchedulerException {
+            when(scheduler.getJobDetail(any())).thenReturn(null);
+            schedulerService.updateJobRevision(JOB_KEY);
+            verify(scheduler, never()).addJob(any(), anyBoolean(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Unexpected Exception")
+        void negativeUnexpectedException() throws SchedulerException {
+            Exception thrownException = new RuntimeException("Some Reason");
+            when(scheduler.getJobDetail(any())).thenReturn(mock(JobDetail.class));
+            doThrow(thrownException).when(scheduler).addJob(any(), anyBoolean(), anyBoolean());
+            InternalServerException exception = assertThrows(
+                InternalServerException.class,
+                () -> schedulerService.updateJobRevision(JOB_KEY)
+            );
+            assertEquals("Failed to update Job revision", exception.getMessage(), "Message must match");
+            assertEquals(thrownException, exception.getCause(), "Cause must match");
+        }
+    }
+
     @DisplayName("public void unregister(String jobKey)")
     @Nested
     class UnRegister {
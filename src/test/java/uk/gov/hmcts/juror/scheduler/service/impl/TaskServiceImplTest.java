@@ -1,5 +1,6 @@
 package uk.gov.hmcts.juror.scheduler.service.impl;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,18 +10,28 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.juror.scheduler.api.APIConstants;
 import uk.gov.hmcts.juror.scheduler.api.model.job.details.StatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdateResult;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchCursor;
 import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchFilter;
+import uk.gov.hmcts.juror.scheduler.datastore.model.filter.TaskSearchPage;
 import uk.gov.hmcts.juror.scheduler.datastore.repository.TaskRepository;
 import uk.gov.hmcts.juror.scheduler.service.contracts.ActionService;
 import uk.gov.hmcts.juror.scheduler.service.contracts.JobService;
@@ -34,14 +45,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -69,10 +90,40 @@ class TaskServiceImplTest {
     @MockitoBean
     private ActionService actionService;
 
+    @MockitoBean
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private TaskServiceImpl taskService;
 
     private static final String JOB_KEY = "ABC123";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    private TaskEntity batchTask(long taskId) {
+        TaskEntity taskEntity = TaskEntity.builder().taskId(taskId).message("Msg").createdAt(CREATED_AT)
+            .job(APIJobDetailsEntity.builder().key(JOB_KEY).build())
+            .build();
+        when(actionService.taskUpdated(taskEntity)).thenReturn(taskEntity);
+        return taskEntity;
+    }
+
+    private TaskStatusUpdate taskStatusUpdate(String jobKey, long taskId, Status status, String message,
+                                              Map<String, String> metaData) {
+        TaskStatusUpdate statusUpdate = new TaskStatusUpdate();
+        statusUpdate.setJobKey(jobKey);
+        statusUpdate.setTaskId(taskId);
+        statusUpdate.setStatus(status);
+        statusUpdate.setMessage(message);
+        statusUpdate.setMetaData(metaData);
+        return statusUpdate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TaskServiceImpl bufferedTaskService(TaskStatusUpdateBuffer buffer) {
+        ObjectProvider<TaskStatusUpdateBuffer> bufferProvider = mock(ObjectProvider.class);
+        when(bufferProvider.getIfAvailable()).thenReturn(buffer);
+        return new TaskServiceImpl(jobService, taskRepository, actionService, bufferProvider, transactionManager);
+    }
 
     @DisplayName("public TaskEntity createTask(APIJobDetailsEntity apiJobDetailsEntity)")
     @Nested
@@ -120,6 +171,87 @@ class TaskServiceImplTest {
 
             verify(actionService, times(1)).taskUpdated(taskEntityProvided);
             verify(taskRepository, times(1)).saveAndFlush(savedTaskEntity);
+            verify(actionService, times(1)).taskSaved(savedTaskEntity);
+        }
+    }
+
+    @DisplayName("public boolean completeTask(TaskEntity task, LocalDateTime lastUpdatedAt)")
+    @Nested
+    class CompleteTask {
+        private TaskEntity createTask() {
+            TaskEntity task = new TaskEntity();
+            task.setTaskId(4L);
+            task.setCreatedAt(CREATED_AT);
+            task.setJob(APIJobDetailsEntity.builder().key(JOB_KEY).build());
+            task.setStatus(Status.VALIDATION_FAILED);
+            task.setMessage("Some message");
+            return task;
+        }
+
+        private TaskEntity mockSave(TaskEntity persistedTask, LocalDateTime updatedAt) {
+            TaskEntity savedTask = createTask();
+            savedTask.setLastUpdatedAt(updatedAt);
+            when(actionService.taskUpdated(persistedTask)).thenReturn(persistedTask);
+            when(taskRepository.saveAndFlush(persistedTask)).thenReturn(savedTask);
+            return savedTask;
+        }
+
+        @Test
+        @DisplayName("Not modified since last update")
+        void positiveNotModified() {
+            TaskEntity task = createTask();
+            LocalDateTime lastUpdatedAt = LocalDateTime.now().minusSeconds(5);
+            LocalDateTime updatedAt = LocalDateTime.now();
+            TaskEntity persistedTask = TaskEntity.builder().taskId(4L).status(Status.PENDING).build();
+            when(taskRepository.findForUpdateIfNotModified(4L, CREATED_AT, lastUpdatedAt))
+                .thenReturn(Optional.of(persistedTask));
+            TaskEntity savedTask = mockSave(persistedTask, updatedAt);
+
+            assertTrue(taskService.completeTask(task, lastUpdatedAt), "Task must be updated");
+            assertEquals(Status.VALIDATION_FAILED, persistedTask.getStatus(), "Status must be applied");
+            assertEquals("Some message", persistedTask.getMessage(), "Message must be applied");
+            assertEquals(task.getJob(), persistedTask.getJob(), "Loaded job must be reused");
+            assertEquals(updatedAt, task.getLastUpdatedAt(), "Last updated at must be refreshed");
+            verify(taskRepository, never()).findForUpdate(anyLong(), any());
+            verify(actionService, times(1)).taskSaved(savedTask);
+        }
+
+        @Test
+        @DisplayName("Modified since last update")
+        void negativeModified() {
+            TaskEntity task = createTask();
+            LocalDateTime lastUpdatedAt = LocalDateTime.now().minusSeconds(5);
+            when(taskRepository.findForUpdateIfNotModified(4L, CREATED_AT, lastUpdatedAt)).thenReturn(Optional.empty());
+
+            assertFalse(taskService.completeTask(task, lastUpdatedAt), "Task must not be updated");
+            assertNull(task.getLastUpdatedAt(), "Last updated at must not change");
+            verify(taskRepository, never()).saveAndFlush(any());
+            verify(actionService, never()).taskUpdated(any());
+        }
+
+        @Test
+        @DisplayName("No last updated check")
+        void positiveUnconditional() {
+            TaskEntity task = createTask();
+            LocalDateTime updatedAt = LocalDateTime.now();
+            TaskEntity persistedTask = TaskEntity.builder().taskId(4L).status(Status.VALIDATION_PASSED).build();
+            when(taskRepository.findForUpdate(4L, CREATED_AT)).thenReturn(Optional.of(persistedTask));
+            mockSave(persistedTask, updatedAt);
+
+            assertTrue(taskService.completeTask(task, null), "Task must be updated");
+            assertEquals(Status.VALIDATION_FAILED, persistedTask.getStatus(), "Status must be applied");
+            assertEquals(updatedAt, task.getLastUpdatedAt(), "Last updated at must be refreshed");
+            verify(taskRepository, never()).findForUpdateIfNotModified(anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Task no longer exists")
+        void negativeTaskNotFound() {
+            TaskEntity task = createTask();
+            when(taskRepository.findForUpdate(4L, CREATED_AT)).thenReturn(Optional.empty());
+
+            assertFalse(taskService.completeTask(task, null), "Task must not be updated");
+            verify(taskRepository, never()).saveAndFlush(any());
         }
     }
 
@@ -220,6 +352,138 @@ class TaskServiceImplTest {
     }
 
 
+    @DisplayName("public List<TaskStatusUpdateResult> updateStatuses(List<TaskStatusUpdate> statusUpdates)")
+    @Nested
+    @SuppressWarnings("PMD.LawOfDemeter")
+    class UpdateStatuses {
+        @Test
+        @DisplayName("Updates applied in order")
+        void positiveUpdatesAppliedInOrder() {
+            TaskEntity task1 = batchTask(1L);
+            TaskEntity task2 = batchTask(2L);
+            when(taskRepository.findAllWithJobByTaskIdIn(List.of(1L, 2L))).thenReturn(List.of(task1, task2));
+
+            List<TaskStatusUpdateResult> results = taskService.updateStatuses(List.of(
+                taskStatusUpdate(JOB_KEY, 1L, Status.PROGRESSING, "Step 1", Map.of("step", "1", "total", "3")),
+                taskStatusUpdate(JOB_KEY, 2L, Status.SUCCESS, null, null),
+                taskStatusUpdate(JOB_KEY, 1L, Status.PROGRESSING, "Step 2", Map.of("step", "2"))));
+
+            assertEquals(List.of(
+                new TaskStatusUpdateResult(JOB_KEY, 1L, TaskStatusUpdateResult.Result.UPDATED),
+                new TaskStatusUpdateResult(JOB_KEY, 2L, TaskStatusUpdateResult.Result.UPDATED),
+                new TaskStatusUpdateResult(JOB_KEY, 1L, TaskStatusUpdateResult.Result.UPDATED)),
+                results, "Results must match");
+
+            assertEquals(Status.PROGRESSING, task1.getStatus(), "Status must match");
+            assertEquals("Step 2", task1.getMessage(), "Message must match");
+            assertEquals(Map.of("step", "2", "total", "3"), task1.getMetaData(), "Meta data must match");
+            assertEquals(Status.SUCCESS, task2.getStatus(), "Status must match");
+            assertEquals("Msg", task2.getMessage(), "Message must not be updated");
+
+            verify(actionService, times(2)).taskUpdated(task1);
+            verify(actionService, times(2)).taskSaved(task1);
+            verify(actionService, times(1)).taskUpdated(task2);
+            verify(actionService, times(1)).taskSaved(task2);
+            verify(taskRepository, times(1)).mergeMetaData(1L, CREATED_AT, Map.of("step", "2", "total", "3"));
+            verify(taskRepository, never()).mergeMetaData(eq(2L), any(), any());
+            verify(taskRepository, times(1)).flush();
+            verify(taskRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("Unknown task or mismatched job")
+        void negativeTaskNotFound() {
+            TaskEntity task1 = batchTask(1L);
+            when(taskRepository.findAllWithJobByTaskIdIn(List.of(1L, 2L))).thenReturn(List.of(task1));
+
+            List<TaskStatusUpdateResult> results = taskService.updateStatuses(List.of(
+                taskStatusUpdate("OTHER_JOB", 1L, Status.SUCCESS, null, null),
+                taskStatusUpdate(JOB_KEY, 2L, Status.SUCCESS, null, null)));
+
+            assertEquals(List.of(
+                new TaskStatusUpdateResult("OTHER_JOB", 1L, TaskStatusUpdateResult.Result.NOT_FOUND),
+                new TaskStatusUpdateResult(JOB_KEY, 2L, TaskStatusUpdateResult.Result.NOT_FOUND)),
+                results, "Results must match");
+            assertNull(task1.getStatus(), "Status must not be updated");
+            verify(actionService, never()).taskUpdated(any());
+            verify(taskRepository, never()).mergeMetaData(anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Pending buffered updates are drained before the tasks are loaded")
+        void positiveBufferDrained() {
+            TaskEntity task1 = batchTask(1L);
+            when(taskRepository.findAllWithJobByTaskIdIn(List.of(1L))).thenReturn(List.of(task1));
+            List<TaskStatusUpdate> statusUpdates = List.of(taskStatusUpdate(JOB_KEY, 1L, Status.SUCCESS, null,
+                null));
+            TaskStatusUpdateBuffer buffer = mock(TaskStatusUpdateBuffer.class);
+            when(buffer.drain(statusUpdates)).thenReturn(List.of(taskStatusUpdate(JOB_KEY, 1L, Status.SUCCESS,
+                "Step 2", Map.of("step", "2"))));
+
+            List<TaskStatusUpdateResult> results = bufferedTaskService(buffer).updateStatuses(statusUpdates);
+
+            assertEquals(List.of(new TaskStatusUpdateResult(JOB_KEY, 1L, TaskStatusUpdateResult.Result.UPDATED)),
+                results, "Results must match");
+            assertEquals(Status.SUCCESS, task1.getStatus(), "Status must match");
+            assertEquals("Step 2", task1.getMessage(), "Pending message must be applied");
+            InOrder inOrder = inOrder(buffer, transactionManager, taskRepository);
+            inOrder.verify(buffer, times(1)).drain(statusUpdates);
+            inOrder.verify(transactionManager, times(1)).getTransaction(any());
+            inOrder.verify(taskRepository, times(1)).findAllWithJobByTaskIdIn(List.of(1L));
+            inOrder.verify(taskRepository, times(1)).mergeMetaData(1L, CREATED_AT, Map.of("step", "2"));
+        }
+    }
+
+    @DisplayName("public List<TaskStatusUpdateResult> updateBufferedStatuses(List<TaskStatusUpdate> statusUpdates, "
+        + "Map<Long, LocalDateTime> bufferedAt)")
+    @Nested
+    @SuppressWarnings("PMD.LawOfDemeter")
+    class UpdateBufferedStatuses {
+        private static final LocalDateTime BUFFERED_AT = LocalDateTime.of(2026, 10, 1, 10, 0);
+
+        private TaskEntity task(long taskId, Status status, LocalDateTime lastUpdatedAt) {
+            TaskEntity taskEntity = batchTask(taskId);
+            taskEntity.setStatus(status);
+            taskEntity.setLastUpdatedAt(lastUpdatedAt);
+            return taskEntity;
+        }
+
+        @Test
+        @DisplayName("Updates skipped once their task is terminal or updated since")
+        void positiveStaleUpdatesSkipped() {
+            TaskEntity pending = task(1L, Status.PROCESSING, BUFFERED_AT.minusSeconds(1));
+            TaskEntity terminal = task(2L, Status.SUCCESS, BUFFERED_AT.minusSeconds(1));
+            TaskEntity updatedSince = task(3L, Status.VALIDATION_PASSED, BUFFERED_AT.plusSeconds(1));
+            when(taskRepository.findAllWithJobByTaskIdIn(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(pending, terminal, updatedSince));
+
+            List<TaskStatusUpdateResult> results = taskService.updateBufferedStatuses(List.of(
+                    taskStatusUpdate(JOB_KEY, 1L, Status.PROGRESSING, "Step 1", Map.of("step", "1")),
+                    taskStatusUpdate(JOB_KEY, 2L, Status.PROGRESSING, "Step 1", Map.of("step", "1")),
+                    taskStatusUpdate(JOB_KEY, 3L, Status.PROGRESSING, "Step 1", Map.of("step", "1"))),
+                Map.of(1L, BUFFERED_AT, 2L, BUFFERED_AT, 3L, BUFFERED_AT));
+
+            assertEquals(List.of(
+                new TaskStatusUpdateResult(JOB_KEY, 1L, TaskStatusUpdateResult.Result.UPDATED),
+                new TaskStatusUpdateResult(JOB_KEY, 2L, TaskStatusUpdateResult.Result.SKIPPED),
+                new TaskStatusUpdateResult(JOB_KEY, 3L, TaskStatusUpdateResult.Result.SKIPPED)),
+                results, "Results must match");
+            assertEquals(Status.PROGRESSING, pending.getStatus(), "Status must match");
+            assertEquals("Step 1", pending.getMessage(), "Message must match");
+            assertEquals(Status.SUCCESS, terminal.getStatus(), "Terminal status must not be overwritten");
+            assertEquals("Msg", terminal.getMessage(), "Message must not be updated");
+            assertEquals(Status.VALIDATION_PASSED, updatedSince.getStatus(), "Newer status must not be overwritten");
+
+            verify(actionService, times(1)).taskUpdated(pending);
+            verify(actionService, never()).taskUpdated(terminal);
+            verify(actionService, never()).taskUpdated(updatedSince);
+            verify(taskRepository, times(1)).mergeMetaData(1L, CREATED_AT, Map.of("step", "1"));
+            verify(taskRepository, never()).mergeMetaData(eq(2L), any(), any());
+            verify(taskRepository, never()).mergeMetaData(eq(3L), any(), any());
+            verify(taskRepository, times(1)).flush();
+        }
+    }
+
     @DisplayName("public void updateStatus(String jobKey, long taskId, StatusUpdate statusUpdate)")
     @Nested
     class UpdateStatus {
@@ -272,7 +536,7 @@ class TaskServiceImplTest {
         void positiveUpdateStatusAndMetaData() {
             long taskId = 1L;
             when(jobService.doesJobExist(JOB_KEY)).thenReturn(true);
-            TaskEntity taskEntity = TaskEntity.builder().taskId(taskId).message("Msg").build();
+            TaskEntity taskEntity = TaskEntity.builder().taskId(taskId).message("Msg").createdAt(CREATED_AT).build();
             Optional<TaskEntity> optional = Optional.of(taskEntity);
             when(taskRepository.findByJobKeyAndTaskId(JOB_KEY, taskId)).thenReturn(optional);
             when(taskRepository.saveAndFlush(taskEntity)).thenReturn(taskEntity);
@@ -285,6 +549,7 @@ class TaskServiceImplTest {
             taskService.updateStatus(JOB_KEY, taskId, statusUpdate);
 
             verify(taskRepository, times(1)).saveAndFlush(taskEntity);
+            verify(taskRepository, times(1)).mergeMetaData(taskId, CREATED_AT, Map.of("MyKey", "MyValue"));
             assertEquals(Status.VALIDATION_PASSED, taskEntity.getStatus(), "Status must match");
             assertEquals("Msg", taskEntity.getMessage(), "Message must not be updated");
 
@@ -297,7 +562,7 @@ class TaskServiceImplTest {
         void positiveUpdateStatusAndMetaDataMultiple() {
             long taskId = 1L;
             when(jobService.doesJobExist(JOB_KEY)).thenReturn(true);
-            TaskEntity taskEntity = TaskEntity.builder().taskId(taskId).message("Msg").build();
+            TaskEntity taskEntity = TaskEntity.builder().taskId(taskId).message("Msg").createdAt(CREATED_AT).build();
             Optional<TaskEntity> optional = Optional.of(taskEntity);
             when(taskRepository.findByJobKeyAndTaskId(JOB_KEY, taskId)).thenReturn(optional);
             when(taskRepository.saveAndFlush(taskEntity)).thenReturn(taskEntity);
@@ -320,6 +585,8 @@ class TaskServiceImplTest {
             taskService.updateStatus(JOB_KEY, taskId, statusUpdate);
 
             verify(taskRepository, times(2)).saveAndFlush(taskEntity);
+            verify(taskRepository, times(1)).mergeMetaData(taskId, CREATED_AT, Map.of("MyKey", "MyValue"));
+            verify(taskRepository, times(1)).mergeMetaData(taskId, CREATED_AT, Map.of("NewKey", "NewValue"));
             assertEquals(Status.VALIDATION_PASSED, taskEntity.getStatus(), "Status must match");
             assertEquals("Msg", taskEntity.getMessage(), "Message must not be updated");
 
@@ -329,6 +596,116 @@ class TaskServiceImplTest {
         }
     }
 
+    @DisplayName("public void updateStatus(String jobKey, long taskId, StatusUpdate statusUpdate) - buffered")
+    @Nested
+    class UpdateStatusBuffered {
+        private static final long TASK_ID = 1L;
+        private TaskStatusUpdateBuffer buffer;
+        private TaskServiceImpl bufferedTaskService;
+        private TaskEntity taskEntity;
+
+        @BeforeEach
+        void beforeEach() {
+            buffer = mock(TaskStatusUpdateBuffer.class);
+            bufferedTaskService = bufferedTaskService(buffer);
+
+            when(jobService.doesJobExist(JOB_KEY)).thenReturn(true);
+            taskEntity = TaskEntity.builder().taskId(TASK_ID).message("Msg").status(Status.PENDING)
+                .createdAt(CREATED_AT)
+                .job(APIJobDetailsEntity.builder().key(JOB_KEY).build())
+                .build();
+            when(taskRepository.findByJobKeyAndTaskId(JOB_KEY, TASK_ID)).thenReturn(Optional.of(taskEntity));
+            when(taskRepository.saveAndFlush(taskEntity)).thenReturn(taskEntity);
+            when(actionService.taskUpdated(taskEntity)).thenReturn(taskEntity);
+        }
+
+        private StatusUpdate statusUpdate(Status status) {
+            StatusUpdate statusUpdate = new StatusUpdate();
+            statusUpdate.setStatus(status);
+            statusUpdate.setMessage("New Message");
+            return statusUpdate;
+        }
+
+        @Test
+        @DisplayName("Non-terminal update is buffered")
+        void positiveBuffered() {
+            StatusUpdate statusUpdate = statusUpdate(Status.PROGRESSING);
+            when(buffer.isBuffered(Status.PROGRESSING)).thenReturn(true);
+            when(buffer.offer(JOB_KEY, TASK_ID, statusUpdate)).thenReturn(true);
+
+            bufferedTaskService.updateStatus(JOB_KEY, TASK_ID, statusUpdate);
+
+            verify(buffer, times(1)).offer(JOB_KEY, TASK_ID, statusUpdate);
+            verify(buffer, never()).drain(anyLong(), any());
+            verify(taskRepository, never()).saveAndFlush(any());
+            verify(jobService, times(1)).doesJobExist(JOB_KEY);
+            verify(taskRepository, times(1)).findByJobKeyAndTaskId(JOB_KEY, TASK_ID);
+            assertEquals(Status.PENDING, taskEntity.getStatus(), "Loaded task must not be changed");
+            assertEquals("Msg", taskEntity.getMessage(), "Loaded task must not be changed");
+        }
+
+        @Test
+        @DisplayName("Update that triggers an action is applied immediately")
+        void positiveTriggersAction() {
+            StatusUpdate statusUpdate = statusUpdate(Status.PROGRESSING);
+            when(buffer.isBuffered(Status.PROGRESSING)).thenReturn(true);
+            when(actionService.hasTriggeredActions(any())).thenReturn(true);
+            when(buffer.drain(TASK_ID, statusUpdate)).thenReturn(statusUpdate);
+
+            bufferedTaskService.updateStatus(JOB_KEY, TASK_ID, statusUpdate);
+
+            final ArgumentCaptor<TaskEntity> captor = ArgumentCaptor.forClass(TaskEntity.class);
+            verify(actionService, times(1)).hasTriggeredActions(captor.capture());
+            assertEquals(Status.PROGRESSING, captor.getValue().getStatus(), "Checked status must match");
+            verify(buffer, never()).offer(any(), anyLong(), any());
+            InOrder inOrder = inOrder(buffer, transactionManager, taskRepository);
+            inOrder.verify(transactionManager, times(1)).getTransaction(any());
+            inOrder.verify(taskRepository, times(1)).findByJobKeyAndTaskId(JOB_KEY, TASK_ID);
+            inOrder.verify(buffer, times(1)).drain(TASK_ID, statusUpdate);
+            inOrder.verify(transactionManager, times(1)).getTransaction(any());
+            inOrder.verify(taskRepository, times(1)).findByJobKeyAndTaskId(JOB_KEY, TASK_ID);
+            verify(taskRepository, times(1)).saveAndFlush(taskEntity);
+            assertEquals(Status.PROGRESSING, taskEntity.getStatus(), "Status must match");
+        }
+
+        @Test
+        @DisplayName("Terminal update is applied with the pending update")
+        void positiveTerminalDrainsPending() {
+            StatusUpdate statusUpdate = statusUpdate(Status.SUCCESS);
+            StatusUpdate coalesced = statusUpdate(Status.SUCCESS);
+            coalesced.setMetaData(Map.of("step", "3"));
+            when(buffer.isBuffered(Status.SUCCESS)).thenReturn(false);
+            when(buffer.drain(TASK_ID, statusUpdate)).thenReturn(coalesced);
+
+            bufferedTaskService.updateStatus(JOB_KEY, TASK_ID, statusUpdate);
+
+            verify(actionService, never()).hasTriggeredActions(any());
+            verify(buffer, never()).offer(any(), anyLong(), any());
+            InOrder inOrder = inOrder(buffer, transactionManager, taskRepository);
+            inOrder.verify(buffer, times(1)).drain(TASK_ID, statusUpdate);
+            inOrder.verify(transactionManager, times(1)).getTransaction(any());
+            inOrder.verify(taskRepository, times(1)).findByJobKeyAndTaskId(JOB_KEY, TASK_ID);
+            verify(taskRepository, times(1)).mergeMetaData(TASK_ID, CREATED_AT, Map.of("step", "3"));
+            verify(taskRepository, times(1)).saveAndFlush(taskEntity);
+            assertEquals(Status.SUCCESS, taskEntity.getStatus(), "Status must match");
+            assertEquals("New Message", taskEntity.getMessage(), "Message must match");
+        }
+
+        @Test
+        @DisplayName("Buffer full")
+        void positiveBufferFull() {
+            StatusUpdate statusUpdate = statusUpdate(Status.PROGRESSING);
+            when(buffer.isBuffered(Status.PROGRESSING)).thenReturn(true);
+            when(buffer.offer(JOB_KEY, TASK_ID, statusUpdate)).thenReturn(false);
+            when(buffer.drain(TASK_ID, statusUpdate)).thenReturn(statusUpdate);
+
+            bufferedTaskService.updateStatus(JOB_KEY, TASK_ID, statusUpdate);
+
+            verify(taskRepository, times(1)).saveAndFlush(taskEntity);
+            assertEquals(Status.PROGRESSING, taskEntity.getStatus(), "Status must match");
+        }
+    }
+
 
     @DisplayName("public void deleteAllByJobKey(String jobKey)")
     @Nested
@@ -434,6 +811,41 @@ class TaskServiceImplTest {
             }
         }
 
+        @Test
+        @DisplayName("Meta data Filters")
+        void positiveMetaDataFilter() {
+            LocalDateTime currentLocalDateTime = LocalDateTime.now();
+            try (MockedStatic<TaskRepository.Specs> utilities = Mockito.mockStatic(TaskRepository.Specs.class)) {
+                List<TaskEntity> tasks = new ArrayList<>();
+                tasks.add(TaskEntity.builder().taskId(1L).build());
+                when(taskRepository.findAll(ArgumentMatchers.<Specification<TaskEntity>>any())).thenReturn(tasks);
+
+                TaskSearchFilter taskSearchFilter = TaskSearchFilter.builder()
+                    .metaDataKey("progress").metaDataValue("complete").build();
+
+                try (MockedStatic<Specification> specificationMockedStatic =
+                         Mockito.mockStatic(Specification.class)) {
+
+                    try (MockedStatic<LocalDateTime> localDateTimeMock =
+                             Mockito.mockStatic(LocalDateTime.class)) {
+                        localDateTimeMock.when(LocalDateTime::now).thenReturn(currentLocalDateTime);
+
+                        List<TaskEntity> returnedJobs = taskService.getTasks(taskSearchFilter);
+                        assertEquals(tasks.size(), returnedJobs.size(), "Returned job size must match");
+
+                        specificationMockedStatic.verify(() -> Specification.allOf(captor.capture()));
+
+                        List<Specification<TaskEntity>> specs = captor.getValue();
+                        assertNotNull(specs, "Specs should not be null");
+                        assertEquals(2, specs.size(), "Spec size must match");
+                    }
+                }
+                utilities.verify(() -> TaskRepository.Specs.byMetaData("progress", "complete"), times(1));
+                utilities.verify(() -> TaskRepository.Specs.byJobKey(any()), never());
+                utilities.verify(() -> TaskRepository.Specs.byStatus(any()), never());
+            }
+        }
+
         @Test
         @DisplayName("Single Status Filters")
         void positiveSingleStatusFilter() {
@@ -634,4 +1046,152 @@ class TaskServiceImplTest {
                 exception.getMessage(), "Message must match");
         }
     }
+
+    @DisplayName("public TaskSearchPage getTaskPage(TaskSearchFilter searchFilter)")
+    @Nested
+    class GetTaskPage {
+        private final LocalDateTime fromDate = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+        private TaskEntity task(long taskId, LocalDateTime createdAt) {
+            return TaskEntity.builder().taskId(taskId).createdAt(createdAt).build();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void verifyKeysetQuery(List<TaskEntity> tasks, int expectedLimit) {
+            ArgumentCaptor<Function<FluentQuery.FetchableFluentQuery<TaskEntity>, Object>> functionCaptor =
+                ArgumentCaptor.forClass(Function.class);
+            verify(taskRepository, times(1))
+                .findBy(ArgumentMatchers.<Specification<TaskEntity>>any(), functionCaptor.capture());
+            verify(taskRepository, never()).findAll(ArgumentMatchers.<Specification<TaskEntity>>any());
+
+            FluentQuery.FetchableFluentQuery<TaskEntity> query = mock(FluentQuery.FetchableFluentQuery.class);
+            when(query.sortBy(any())).thenReturn(query);
+            when(query.limit(anyInt())).thenReturn(query);
+            when(query.all()).thenReturn(tasks);
+
+            assertEquals(tasks, functionCaptor.getValue().apply(query), "Tasks must match");
+            verify(query, times(1)).sortBy(Sort.by(Sort.Direction.ASC, "createdAt", "taskId"));
+            verify(query, times(1)).limit(expectedLimit);
+        }
+
+        @Test
+        @DisplayName("First page")
+        void positiveFirstPage() {
+            List<TaskEntity> tasks = List.of(task(7L, fromDate.plusHours(1)), task(3L, fromDate.plusHours(2)));
+            when(taskRepository.findBy(ArgumentMatchers.<Specification<TaskEntity>>any(), any())).thenReturn(tasks);
+
+            try (MockedStatic<TaskRepository.Specs> utilities = Mockito.mockStatic(TaskRepository.Specs.class)) {
+                TaskSearchFilter taskSearchFilter = TaskSearchFilter.builder()
+                    .jobKey(JOB_KEY)
+                    .fromDate(fromDate)
+                    .limit(2)
+                    .build();
+                TaskSearchPage page = taskService.getTaskPage(taskSearchFilter);
+
+                assertEquals(tasks, page.getTasks(), "Tasks must match");
+                assertEquals(new TaskSearchCursor(fromDate, fromDate.plusHours(2), 3L), page.getNextCursor(),
+                    "Next cursor must start after the last task");
+
+                utilities.verify(() -> TaskRepository.Specs.byCreateDateGreaterThan(fromDate), times(1));
+                utilities.verify(() -> TaskRepository.Specs.byJobKey(JOB_KEY), times(1));
+                utilities.verify(() -> TaskRepository.Specs.byCreatedAtAndTaskIdAfter(any(), anyLong()), never());
+                utilities.verify(() -> TaskRepository.Specs.orderByCreatedOn(any()), never());
+            }
+            verifyKeysetQuery(tasks, 2);
+        }
+
+        @Test
+        @DisplayName("First page without a from date fixes the window in the cursor")
+        void positiveFirstPageDefaultFromDate() {
+            LocalDateTime currentLocalDateTime = LocalDateTime.now();
+            List<TaskEntity> tasks = List.of(task(3L, currentLocalDateTime.minusDays(1)));
+            when(taskRepository.findBy(ArgumentMatchers.<Specification<TaskEntity>>any(), any())).thenReturn(tasks);
+
+            try (MockedStatic<LocalDateTime> localDateTimeMock = Mockito.mockStatic(LocalDateTime.class)) {
+                localDateTimeMock.when(LocalDateTime::now).thenReturn(currentLocalDateTime);
+                TaskSearchPage page = taskService.getTaskPage(TaskSearchFilter.builder().limit(1).build());
+
+                assertEquals(currentLocalDateTime.minusDays(7), page.getNextCursor().getFromDate(),
+                    "Cursor must carry the default from date");
+            }
+        }
+
+        @Test
+        @DisplayName("Next page")
+        void positiveNextPage() {
+            List<TaskEntity> tasks = List.of(task(4L, fromDate.plusHours(2)));
+            when(taskRepository.findBy(ArgumentMatchers.<Specification<TaskEntity>>any(), any())).thenReturn(tasks);
+
+            try (MockedStatic<TaskRepository.Specs> utilities = Mockito.mockStatic(TaskRepository.Specs.class)) {
+                TaskSearchFilter taskSearchFilter = TaskSearchFilter.builder()
+                    .fromDate(fromDate.plusDays(1))
+                    .cursor(new TaskSearchCursor(fromDate, fromDate.plusHours(2), 3L))
+                    .limit(2)
+                    .build();
+                TaskSearchPage page = taskService.getTaskPage(taskSearchFilter);
+
+                assertEquals(tasks, page.getTasks(), "Tasks must match");
+                assertNull(page.getNextCursor(), "A short page must be the last page");
+
+                utilities.verify(() -> TaskRepository.Specs.byCreateDateGreaterThan(fromDate), times(1));
+                utilities.verify(() -> TaskRepository.Specs.byCreatedAtAndTaskIdAfter(fromDate.plusHours(2), 3L),
+                    times(1));
+            }
+            verifyKeysetQuery(tasks, 2);
+        }
+
+        @Test
+        @DisplayName("Default limit")
+        void positiveDefaultLimit() {
+            List<TaskEntity> tasks = List.of(task(4L, fromDate.plusHours(2)));
+            when(taskRepository.findBy(ArgumentMatchers.<Specification<TaskEntity>>any(), any())).thenReturn(tasks);
+
+            TaskSearchFilter taskSearchFilter = TaskSearchFilter.builder()
+                .cursor(new TaskSearchCursor(fromDate, fromDate.plusHours(2), 3L))
+                .build();
+            assertEquals(tasks, taskService.getTaskPage(taskSearchFilter).getTasks(), "Tasks must match");
+            verifyKeysetQuery(tasks, APIConstants.TASK_SEARCH_DEFAULT_LIMIT);
+        }
+
+        @Test
+        @DisplayName("Empty page")
+        void positiveEmptyPage() {
+            when(taskRepository.findBy(ArgumentMatchers.<Specification<TaskEntity>>any(), any()))
+                .thenReturn(Collections.emptyList());
+            TaskSearchFilter taskSearchFilter = TaskSearchFilter.builder()
+                .cursor(new TaskSearchCursor(fromDate, fromDate.plusHours(2), 3L))
+                .limit(10)
+                .build();
+
+            TaskSearchPage page = taskService.getTaskPage(taskSearchFilter);
+
+            assertEquals(0, page.getTasks().size(), "Page must be empty");
+            assertNull(page.getNextCursor(), "An empty page must be the last page");
+        }
+    }
+
+    @DisplayName("public void exportTasks(TaskSearchFilter searchFilter, Consumer<TaskEntity> consumer)")
+    @Nested
+    class ExportTasks {
+        @Test
+        void positiveStreamsTasksToConsumer() {
+            LocalDateTime fromDate = LocalDateTime.now().minusDays(90);
+            Consumer<TaskEntity> consumer = task -> {
+            };
+            try (MockedStatic<TaskRepository.Specs> utilities = Mockito.mockStatic(TaskRepository.Specs.class)) {
+                TaskSearchFilter taskSearchFilter = TaskSearchFilter.builder()
+                    .jobKey(JOB_KEY)
+                    .fromDate(fromDate)
+                    .build();
+                taskService.exportTasks(taskSearchFilter, consumer);
+
+                utilities.verify(() -> TaskRepository.Specs.byCreateDateGreaterThan(fromDate), times(1));
+                utilities.verify(() -> TaskRepository.Specs.byJobKey(JOB_KEY), times(1));
+                utilities.verify(() -> TaskRepository.Specs.byStatus(any()), never());
+                utilities.verify(() -> TaskRepository.Specs.orderByCreatedOn(any()), times(1));
+            }
+            verify(taskRepository, times(1)).forEachTask(any(), eq(consumer));
+            verify(taskRepository, never()).findAll(ArgumentMatchers.<Specification<TaskEntity>>any());
+        }
+    }
 }
@@ -0,0 +1,313 @@
+package uk.gov.hmcts.juror.scheduler.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.juror.scheduler.api.model.job.details.StatusUpdate;
+import uk.gov.hmcts.juror.scheduler.api.model.task.TaskStatusUpdate;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskStatusUpdateBuffer")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals",
+    "PMD.LawOfDemeter"
+})
+class TaskStatusUpdateBufferTest {
+    private static final String JOB_KEY = "ABC123";
+
+    private TaskService taskService;
+    private TaskStatusUpdateBuffer buffer;
+
+    @BeforeEach
+    void beforeEach() {
+        taskService = mock(TaskService.class);
+        when(taskService.updateBufferedStatuses(any(), any())).thenReturn(List.of());
+        buffer = new TaskStatusUpdateBuffer(taskService, 2, 500);
+    }
+
+    private StatusUpdate statusUpdate(Status status, String message, Map<String, String> metaData) {
+        StatusUpdate statusUpdate = new StatusUpdate();
+        statusUpdate.setStatus(status);
+        statusUpdate.setMessage(message);
+        statusUpdate.setMetaData(metaData);
+        return statusUpdate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TaskStatusUpdate> captureFlushed(int flushes) {
+        ArgumentCaptor<List<TaskStatusUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskService, times(flushes)).updateBufferedStatuses(captor.capture(), any());
+        return captor.getAllValues().stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(TaskStatusUpdate::getTaskId))
+            .toList();
+    }
+
+    @DisplayName("public boolean offer(String jobKey, long taskId, StatusUpdate statusUpdate)")
+    @Nested
+    class Offer {
+        @ParameterizedTest(name = "Buffered status: {0}")
+        @EnumSource(value = Status.class, names = {"PENDING", "PROCESSING", "VALIDATION_PASSED", "PROGRESSING"})
+        void positiveBuffered(Status status) {
+            assertTrue(buffer.offer(JOB_KEY, 1L, statusUpdate(status, null, null)), "Update must be buffered");
+            assertEquals(1, buffer.getPendingCount(), "Pending count must match");
+            verify(taskService, never()).updateBufferedStatuses(any(), any());
+        }
+
+        @ParameterizedTest(name = "Terminal status: {0}")
+        @EnumSource(value = Status.class, names = {"PENDING", "PROCESSING", "VALIDATION_PASSED", "PROGRESSING"},
+            mode = EnumSource.Mode.EXCLUDE)
+        void negativeTerminalStatus(Status status) {
+            assertFalse(buffer.offer(JOB_KEY, 1L, statusUpdate(status, null, null)), "Update must not be buffered");
+            assertEquals(0, buffer.getPendingCount(), "Pending count must match");
+        }
+
+        @Test
+        @DisplayName("Updates to the same task are coalesced")
+        void positiveCoalesced() {
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROCESSING, "Step 1", Map.of("step", "1", "total", "3")));
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, "Step 2", Map.of("step", "2")));
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, null, null));
+            assertEquals(1, buffer.getPendingCount(), "Pending count must match");
+
+            buffer.flush();
+
+            List<TaskStatusUpdate> flushed = captureFlushed(1);
+            assertEquals(1, flushed.size(), "One update must be applied");
+            TaskStatusUpdate statusUpdate = flushed.get(0);
+            assertEquals(JOB_KEY, statusUpdate.getJobKey(), "Job key must match");
+            assertEquals(1L, statusUpdate.getTaskId(), "Task id must match");
+            assertEquals(Status.PROGRESSING, statusUpdate.getStatus(), "Status must match");
+            assertEquals("Step 2", statusUpdate.getMessage(), "Latest message must be kept");
+            assertEquals(Map.of("step", "2", "total", "3"), statusUpdate.getMetaData(), "Meta data must be merged");
+        }
+
+        @Test
+        @DisplayName("Buffer full")
+        void negativeBufferFull() {
+            assertTrue(buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, null, null)), "Must be buffered");
+            assertTrue(buffer.offer(JOB_KEY, 2L, statusUpdate(Status.PROGRESSING, null, null)), "Must be buffered");
+            assertFalse(buffer.offer(JOB_KEY, 3L, statusUpdate(Status.PROGRESSING, null, null)),
+                "New tasks must not be buffered when full");
+            assertTrue(buffer.offer(JOB_KEY, 2L, statusUpdate(Status.PROGRESSING, "Msg", null)),
+                "Pending tasks must still be coalesced when full");
+            assertEquals(2, buffer.getPendingCount(), "Pending count must match");
+        }
+    }
+
+    @DisplayName("public StatusUpdate drain(long taskId, StatusUpdate statusUpdate)")
+    @Nested
+    class Drain {
+        @Test
+        @DisplayName("Nothing pending")
+        void positiveNothingPending() {
+            StatusUpdate statusUpdate = statusUpdate(Status.SUCCESS, null, null);
+            assertSame(statusUpdate, buffer.drain(1L, statusUpdate), "Update must be returned unchanged");
+        }
+
+        @Test
+        @DisplayName("Pending update is coalesced with the immediate update")
+        void positivePendingCoalesced() {
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, "Step 1", Map.of("step", "1")));
+            buffer.offer(JOB_KEY, 2L, statusUpdate(Status.PROGRESSING, "Other", null));
+
+            StatusUpdate statusUpdate = buffer.drain(1L, statusUpdate(Status.SUCCESS, null, Map.of("result", "ok")));
+
+            assertEquals(Status.SUCCESS, statusUpdate.getStatus(), "Status must match");
+            assertEquals("Step 1", statusUpdate.getMessage(), "Pending message must be kept");
+            assertEquals(Map.of("step", "1", "result", "ok"), statusUpdate.getMetaData(), "Meta data must be merged");
+            assertEquals(1, buffer.getPendingCount(), "Only the drained task must be removed");
+        }
+
+        @Test
+        @DisplayName("Only waits on a flush of the task's own stripe")
+        void positiveOtherStripeNotBlocked() throws InterruptedException {
+            CountDownLatch flushing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(taskService.updateBufferedStatuses(any(), any())).thenAnswer(invocation -> {
+                flushing.countDown();
+                release.await();
+                return List.of();
+            });
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, null, null));
+            Thread flushThread = new Thread(buffer::flush);
+            flushThread.start();
+            try {
+                assertTrue(flushing.await(5, TimeUnit.SECONDS), "Flush must have started");
+                StatusUpdate statusUpdate = statusUpdate(Status.SUCCESS, null, null);
+                assertSame(statusUpdate, assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> buffer.drain(2L, statusUpdate)), "Drain must not wait on another stripe");
+            } finally {
+                release.countDown();
+                flushThread.join(5000);
+            }
+        }
+    }
+
+    @DisplayName("public List<TaskStatusUpdate> drain(List<TaskStatusUpdate> statusUpdates)")
+    @Nested
+    class DrainAll {
+        private TaskStatusUpdate taskStatusUpdate(long taskId, Status status, String message) {
+            TaskStatusUpdate statusUpdate = new TaskStatusUpdate();
+            statusUpdate.setJobKey(JOB_KEY);
+            statusUpdate.setTaskId(taskId);
+            statusUpdate.setStatus(status);
+            statusUpdate.setMessage(message);
+            return statusUpdate;
+        }
+
+        @Test
+        @DisplayName("Pending updates are coalesced into the first update to their task")
+        void positivePendingCoalesced() {
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, "Step 1", Map.of("step", "1")));
+            buffer.offer(JOB_KEY, 3L, statusUpdate(Status.PROGRESSING, "Other", null));
+            TaskStatusUpdate first = taskStatusUpdate(1L, Status.PROGRESSING, null);
+            TaskStatusUpdate second = taskStatusUpdate(2L, Status.SUCCESS, null);
+            TaskStatusUpdate third = taskStatusUpdate(1L, Status.SUCCESS, null);
+
+            List<TaskStatusUpdate> drained = buffer.drain(List.of(first, second, third));
+
+            assertEquals(3, drained.size(), "Every update must be returned");
+            assertEquals(Status.PROGRESSING, drained.get(0).getStatus(), "Status must match");
+            assertEquals("Step 1", drained.get(0).getMessage(), "Pending message must be kept");
+            assertEquals(Map.of("step", "1"), drained.get(0).getMetaData(), "Pending meta data must be kept");
+            assertSame(second, drained.get(1), "Update with nothing pending must be returned unchanged");
+            assertSame(third, drained.get(2), "Pending update must only be coalesced once");
+            assertEquals(1, buffer.getPendingCount(), "Only the drained task must be removed");
+
+            buffer.flush();
+            assertEquals(List.of(3L), captureFlushed(1).stream().map(TaskStatusUpdate::getTaskId).toList(),
+                "Drained update must not be flushed");
+        }
+    }
+
+    @DisplayName("public void flush()")
+    @Nested
+    class Flush {
+        @Test
+        @DisplayName("Nothing pending")
+        void positiveNothingPending() {
+            buffer.flush();
+            verify(taskService, never()).updateBufferedStatuses(any(), any());
+        }
+
+        @Test
+        @DisplayName("Pending updates applied in batches per stripe")
+        void positiveBatches() {
+            buffer = new TaskStatusUpdateBuffer(taskService, 10, 2);
+            final List<Long> taskIds = new ArrayList<>();
+            //Task ids a stripe count apart share a stripe
+            for (int index = 0; index < 5; index++) {
+                final long taskId = 1L + (long) index * TaskStatusUpdateBuffer.STRIPES;
+                taskIds.add(taskId);
+                buffer.offer(JOB_KEY, taskId, statusUpdate(Status.PROGRESSING, "Task " + taskId, null));
+            }
+            buffer.offer(JOB_KEY, 2L, statusUpdate(Status.PROGRESSING, "Other stripe", null));
+            taskIds.add(1, 2L);
+
+            buffer.flush();
+
+            List<TaskStatusUpdate> flushed = captureFlushed(4);
+            assertEquals(taskIds, flushed.stream().map(TaskStatusUpdate::getTaskId).toList(),
+                "Every pending task must be applied");
+            assertEquals(0, buffer.getPendingCount(), "Nothing must be pending");
+        }
+
+        @Test
+        @DisplayName("Each update is applied with when it was last buffered")
+        @SuppressWarnings("unchecked")
+        void positiveBufferedAt() {
+            final LocalDateTime before = LocalDateTime.now();
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROCESSING, null, null));
+            buffer.offer(JOB_KEY, 17L, statusUpdate(Status.PROGRESSING, null, null));
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, null, null));
+            final LocalDateTime after = LocalDateTime.now();
+
+            buffer.flush();
+
+            ArgumentCaptor<Map<Long, LocalDateTime>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(taskService, times(1)).updateBufferedStatuses(any(), captor.capture());
+            Map<Long, LocalDateTime> bufferedAt = captor.getValue();
+            assertEquals(Set.of(1L, 17L), bufferedAt.keySet(), "Every task must have a buffered time");
+            assertFalse(bufferedAt.get(1L).isBefore(bufferedAt.get(17L)),
+                "Buffered time must be taken from the latest coalesced update");
+            bufferedAt.values().forEach(time -> assertTrue(!time.isBefore(before) && !time.isAfter(after),
+                "Buffered time must be when the update was offered"));
+        }
+
+        @Test
+        @DisplayName("Failed batch is kept for the next flush")
+        void negativeApplyFails() {
+            when(taskService.updateBufferedStatuses(any(), any())).thenThrow(new RuntimeException("Failed"))
+                .thenReturn(List.of());
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, "Step 1", Map.of("step", "1")));
+
+            buffer.flush();
+
+            verify(taskService, times(1)).updateBufferedStatuses(any(), any());
+            assertEquals(1, buffer.getPendingCount(), "Failed update must be pending again");
+
+            buffer.offer(JOB_KEY, 1L, statusUpdate(Status.PROGRESSING, null, Map.of("total", "3")));
+            buffer.flush();
+
+            List<TaskStatusUpdate> flushed = captureFlushed(2);
+            TaskStatusUpdate statusUpdate = flushed.get(flushed.size() - 1);
+            assertEquals("Step 1", statusUpdate.getMessage(), "Failed message must be kept");
+            assertEquals(Map.of("step", "1", "total", "3"), statusUpdate.getMetaData(),
+                "Failed update must be coalesced with the later update");
+            assertEquals(0, buffer.getPendingCount(), "Nothing must be pending");
+        }
+    }
+
+    @DisplayName("static TaskStatusUpdate coalesce(TaskStatusUpdate earlier, TaskStatusUpdate later)")
+    @Nested
+    class Coalesce {
+        @Test
+        @DisplayName("No meta data")
+        void positiveNoMetaData() {
+            TaskStatusUpdate earlier = new TaskStatusUpdate();
+            earlier.setStatus(Status.PROCESSING);
+            earlier.setMessage("Msg");
+            TaskStatusUpdate later = new TaskStatusUpdate();
+            later.setJobKey(JOB_KEY);
+            later.setTaskId(1L);
+            later.setStatus(Status.PROGRESSING);
+
+            TaskStatusUpdate coalesced = TaskStatusUpdateBuffer.coalesce(earlier, later);
+
+            assertEquals(JOB_KEY, coalesced.getJobKey(), "Job key must match");
+            assertEquals(1L, coalesced.getTaskId(), "Task id must match");
+            assertEquals(Status.PROGRESSING, coalesced.getStatus(), "Status must match");
+            assertEquals("Msg", coalesced.getMessage(), "Message must match");
+            assertNull(coalesced.getMetaData(), "Meta data must be null");
+        }
+    }
+}
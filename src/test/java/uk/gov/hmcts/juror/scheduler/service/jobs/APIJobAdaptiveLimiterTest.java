@@ -0,0 +1,214 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.APIMethod;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("APIJobAdaptiveLimiter")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals",
+    "PMD.LawOfDemeter",
+    "PMD.TooManyMethods"
+})
+class APIJobAdaptiveLimiterTest {
+    private static final String HOST = "https://juror-api.example";
+    private static final String JOB_KEY = "ABC123";
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private APIJobAdaptiveLimiter limiter;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new APIJobAdaptiveLimiter(meterRegistry, true, 4, 1, 8, 0.5, 2.0, 1000, 60_000);
+    }
+
+    private void respond(int count, long latency, int statusCode) {
+        respond(JOB_KEY, count, latency, statusCode);
+    }
+
+    private void respond(String jobKey, int count, long latency, int statusCode) {
+        for (int index = 0; index < count; index++) {
+            limiter.onResponse(HOST, jobKey, System.nanoTime(), latency, statusCode);
+        }
+    }
+
+    @DisplayName("public String getHost(JobDefinition jobDefinition)")
+    @Nested
+    class GetHost {
+        @Test
+        void positiveHost() {
+            assertEquals(HOST, limiter.getHost(JobDefinition.of(APIJobDetailsEntity.builder()
+                .key("ABC123")
+                .method(APIMethod.GET)
+                .url(HOST + "/api/v1/jobs")
+                .build(), null)), "Host must match");
+        }
+    }
+
+    @DisplayName("public boolean tryAcquire(String host)")
+    @Nested
+    class TryAcquire {
+        @Test
+        void positiveLimited() {
+            for (int index = 0; index < 4; index++) {
+                assertTrue(limiter.tryAcquire(HOST), "Executions up to the limit must be allowed");
+            }
+            assertFalse(limiter.tryAcquire(HOST), "Executions over the limit must be rejected");
+            assertTrue(limiter.tryAcquire("https://other.example"), "Hosts must be independent");
+
+            limiter.release(HOST);
+
+            assertTrue(limiter.tryAcquire(HOST), "Released execution must make room");
+        }
+
+        @Test
+        void positiveDisabled() {
+            limiter = new APIJobAdaptiveLimiter(meterRegistry, false, 1, 1, 1, 0.5, 2.0, 1000, 60_000);
+            for (int index = 0; index < 10; index++) {
+                assertTrue(limiter.tryAcquire(HOST), "Executions must not be limited");
+            }
+            limiter.onFailure(HOST, System.nanoTime());
+            assertEquals(1, limiter.getLimit(HOST), "Limit must not change");
+            assertNull(meterRegistry.find(APIJobAdaptiveLimiter.LIMIT).gauge(), "No gauge must be registered");
+        }
+    }
+
+    @DisplayName("public void onResponse(String host, String jobKey, long requestStart, long latency, int statusCode)")
+    @Nested
+    class OnResponse {
+        @Test
+        @DisplayName("Healthy responses increase the limit additively")
+        void positiveAdditiveIncrease() {
+            respond(4, LATENCY, 200);
+            assertEquals(5, limiter.getLimit(HOST), 0.1, "Limit must grow by about one per limit's worth of calls");
+
+            respond(1000, LATENCY, 200);
+            assertEquals(8, limiter.getLimit(HOST), "Limit must not exceed the max limit");
+            assertEquals(8, meterRegistry.get(APIJobAdaptiveLimiter.LIMIT).tag("host", HOST).gauge().value(),
+                "Gauge must report the limit");
+        }
+
+        @ParameterizedTest(name = "Overloaded status code: {0}")
+        @ValueSource(ints = {429, 500, 502, 503, 504})
+        void negativeOverloadedStatusCode(int statusCode) {
+            respond(1, LATENCY, statusCode);
+            assertEquals(2, limiter.getLimit(HOST), "Limit must be cut by the backoff ratio");
+        }
+
+        @ParameterizedTest(name = "Healthy status code: {0}")
+        @ValueSource(ints = {200, 201, 400, 404})
+        void positiveHealthyStatusCode(int statusCode) {
+            respond(1, LATENCY, statusCode);
+            assertTrue(limiter.getLimit(HOST) > 4, "Limit must increase");
+        }
+
+        @Test
+        @DisplayName("Slow responses cut the limit once warmed up")
+        void negativeSlowResponse() {
+            respond(APIJobAdaptiveLimiter.WARM_UP_SAMPLES - 1, LATENCY, 200);
+            respond(1, LATENCY * 10, 200);
+            assertTrue(limiter.getLimit(HOST) > 4, "Slow responses during warm up must not cut the limit");
+
+            respond(APIJobAdaptiveLimiter.WARM_UP_SAMPLES, LATENCY, 200);
+            final double limit = limiter.getLimit(HOST);
+            respond(1, LATENCY * 10, 200);
+            assertEquals(limit / 2, limiter.getLimit(HOST), 0.001, "Slow response must cut the limit");
+        }
+
+        @Test
+        @DisplayName("Slow jobs are judged against their own baseline")
+        void positiveBaselinePerJob() {
+            respond(APIJobAdaptiveLimiter.WARM_UP_SAMPLES, LATENCY, 200);
+            final double limit = limiter.getLimit(HOST);
+            respond("REPORT", APIJobAdaptiveLimiter.WARM_UP_SAMPLES * 2, LATENCY * 300, 200);
+            assertTrue(limiter.getLimit(HOST) > limit, "A job that is always slow must not cut the limit");
+
+            final double reportLimit = limiter.getLimit(HOST);
+            respond("REPORT", 1, LATENCY * 3000, 200);
+            assertEquals(reportLimit / 2, limiter.getLimit(HOST), 0.001,
+                "A job slower than its own baseline must cut the limit");
+        }
+
+        @Test
+        @DisplayName("Responses within the latency tolerance do not cut the limit")
+        void positiveWithinTolerance() {
+            respond(APIJobAdaptiveLimiter.WARM_UP_SAMPLES, LATENCY, 200);
+            final double limit = limiter.getLimit(HOST);
+            respond(1, LATENCY * 2, 200);
+            assertTrue(limiter.getLimit(HOST) > limit, "Limit must increase");
+        }
+    }
+
+    @DisplayName("public void onFailure(String host, long requestStart)")
+    @Nested
+    class OnFailure {
+        @Test
+        @DisplayName("Cut at most once per round trip")
+        void positiveCutOncePerRoundTrip() {
+            final long inFlightStart = System.nanoTime();
+            limiter.onFailure(HOST, inFlightStart);
+            limiter.onFailure(HOST, inFlightStart);
+            limiter.onResponse(HOST, JOB_KEY, inFlightStart, LATENCY, 503);
+            assertEquals(2, limiter.getLimit(HOST), "Calls in flight at the cut must not cut the limit again");
+
+            limiter.onFailure(HOST, System.nanoTime());
+            assertEquals(1, limiter.getLimit(HOST), "Calls started after the cut must cut the limit again");
+        }
+
+        @Test
+        @DisplayName("Never cut below the min limit")
+        void positiveMinLimit() {
+            for (int index = 0; index < 10; index++) {
+                limiter.onFailure(HOST, System.nanoTime());
+            }
+            assertEquals(1, limiter.getLimit(HOST), "Limit must not go below the min limit");
+            assertTrue(limiter.tryAcquire(HOST), "One execution must still be allowed");
+            assertFalse(limiter.tryAcquire(HOST), "Limit must be applied");
+        }
+    }
+
+    @DisplayName("public long nextDeferDelay(String host)")
+    @Nested
+    class NextDeferDelay {
+        @Test
+        @DisplayName("Delay grows as the limit is cut")
+        void positiveGrowsWithCut() {
+            for (int index = 0; index < 100; index++) {
+                long delay = limiter.nextDeferDelay(HOST);
+                assertTrue(delay >= 1000 && delay <= 2000, "Delay must be within the jitter: " + delay);
+            }
+
+            limiter.onFailure(HOST, System.nanoTime());
+            limiter.onFailure(HOST, System.nanoTime());
+
+            for (int index = 0; index < 100; index++) {
+                long delay = limiter.nextDeferDelay(HOST);
+                assertTrue(delay >= 4000 && delay <= 8000, "Delay must grow with the cut: " + delay);
+            }
+        }
+
+        @Test
+        void positiveCapped() {
+            limiter = new APIJobAdaptiveLimiter(meterRegistry, true, 50, 1, 50, 0.5, 2.0, 5000, 60_000);
+            for (int index = 0; index < 10; index++) {
+                limiter.onFailure(HOST, System.nanoTime());
+            }
+            assertEquals(60_000, limiter.nextDeferDelay(HOST), "Delay must be capped");
+        }
+    }
+}
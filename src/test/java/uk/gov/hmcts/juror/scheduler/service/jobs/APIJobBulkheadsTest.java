@@ -0,0 +1,145 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.APIMethod;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("APIJobBulkheads")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals",
+    "PMD.LawOfDemeter"
+})
+class APIJobBulkheadsTest {
+    private static final String LIMITS = "https://juror-api.example/api/v1=4, https://juror-api.example/api/v1/moj=2,"
+        + "reports=1";
+
+    private JobDefinition jobDefinition(String url, String bulkhead) {
+        return JobDefinition.of(APIJobDetailsEntity.builder()
+            .key("ABC123")
+            .method(APIMethod.GET)
+            .url(url)
+            .bulkhead(bulkhead)
+            .build(), null);
+    }
+
+    @DisplayName("public String getBulkhead(JobDefinition jobDefinition)")
+    @Nested
+    class GetBulkhead {
+        private final APIJobBulkheads bulkheads = new APIJobBulkheads(5, LIMITS, 5000, 0);
+
+        @Test
+        void positiveNamedBulkhead() {
+            assertEquals("reports",
+                bulkheads.getBulkhead(jobDefinition("https://juror-api.example/api/v1/moj/jobs", "reports")),
+                "Named bulkhead must be used");
+        }
+
+        @Test
+        void positiveLongestUrlPrefix() {
+            assertEquals("https://juror-api.example/api/v1/moj",
+                bulkheads.getBulkhead(jobDefinition("https://juror-api.example/api/v1/moj/jobs", null)),
+                "Longest matching prefix must be used");
+            assertEquals("https://juror-api.example/api/v1",
+                bulkheads.getBulkhead(jobDefinition("https://juror-api.example/api/v1/public/jobs", null)),
+                "Matching prefix must be used");
+        }
+
+        @Test
+        void positiveHost() {
+            assertEquals("https://other.example:8443",
+                bulkheads.getBulkhead(jobDefinition("https://other.example:8443/api/jobs?from=1", null)),
+                "Host must be used");
+        }
+    }
+
+    @DisplayName("public boolean tryAcquire(String bulkhead)")
+    @Nested
+    class TryAcquire {
+        @Test
+        void positiveConfiguredLimit() {
+            APIJobBulkheads bulkheads = new APIJobBulkheads(5, LIMITS, 5000, 0);
+            assertTrue(bulkheads.tryAcquire("https://juror-api.example/api/v1/moj"), "First permit must be taken");
+            assertTrue(bulkheads.tryAcquire("https://juror-api.example/api/v1/moj"), "Second permit must be taken");
+            assertFalse(bulkheads.tryAcquire("https://juror-api.example/api/v1/moj"), "Limit must be applied");
+            assertEquals(0, bulkheads.getAvailablePermits("https://juror-api.example/api/v1/moj"),
+                "No permits must be available");
+
+            bulkheads.release("https://juror-api.example/api/v1/moj");
+
+            assertEquals(1, bulkheads.getAvailablePermits("https://juror-api.example/api/v1/moj"),
+                "Released permit must be available");
+            assertTrue(bulkheads.tryAcquire("https://juror-api.example/api/v1/moj"), "Released permit must be taken");
+        }
+
+        @Test
+        void positiveDefaultLimit() {
+            APIJobBulkheads bulkheads = new APIJobBulkheads(1, LIMITS, 5000, 0);
+            assertTrue(bulkheads.tryAcquire("https://other.example"), "Permit must be taken");
+            assertFalse(bulkheads.tryAcquire("https://other.example"), "Default limit must be applied");
+            assertTrue(bulkheads.tryAcquire("https://another.example"), "Bulkheads must be independent");
+        }
+
+        @Test
+        void positiveUnlimited() {
+            APIJobBulkheads bulkheads = new APIJobBulkheads(0, "", 5000, 0);
+            for (int index = 0; index < 100; index++) {
+                assertTrue(bulkheads.tryAcquire("https://other.example"), "Permits must not be limited");
+            }
+            bulkheads.release("https://other.example");
+            assertEquals(0, bulkheads.getAvailablePermits("https://other.example"), "Unlimited has no permits");
+        }
+    }
+
+    @DisplayName("public long nextDeferDelay()")
+    @Nested
+    class NextDeferDelay {
+        @Test
+        void positiveWithoutJitter() {
+            assertEquals(5000, new APIJobBulkheads(0, "", 5000, 0).nextDeferDelay(), "Delay must match");
+        }
+
+        @Test
+        void positiveWithJitter() {
+            APIJobBulkheads bulkheads = new APIJobBulkheads(0, "", 5000, 1000);
+            for (int index = 0; index < 100; index++) {
+                long delay = bulkheads.nextDeferDelay();
+                assertTrue(delay >= 5000 && delay <= 6000, "Delay must be within the jitter");
+            }
+        }
+    }
+
+    @DisplayName("static Map<String, Integer> parseLimits(String limits)")
+    @Nested
+    class ParseLimits {
+        @Test
+        void positiveParsed() {
+            assertEquals(Map.of(
+                    "https://juror-api.example/api/v1", 4,
+                    "https://juror-api.example/api/v1/moj", 2,
+                    "reports", 1),
+                APIJobBulkheads.parseLimits(LIMITS), "Limits must match");
+        }
+
+        @Test
+        void positiveBlank() {
+            assertEquals(Map.of(), APIJobBulkheads.parseLimits(" "), "Limits must be empty");
+        }
+
+        @Test
+        void negativeInvalid() {
+            assertThrows(IllegalArgumentException.class, () -> APIJobBulkheads.parseLimits("reports"),
+                "Entries without a limit must be rejected");
+            assertThrows(NumberFormatException.class, () -> APIJobBulkheads.parseLimits("reports=many"),
+                "Limits must be numeric");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("APIJobDispatcher")
+@SuppressWarnings("PMD.LawOfDemeter")
+class APIJobDispatcherTest {
+    private static final String JOB_KEY = "ABC123";
+
+    private ExecutorService executorService;
+    private APIJobDispatcher apiJobDispatcher;
+
+    @BeforeEach
+    void beforeEach() {
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+        apiJobDispatcher = new APIJobDispatcher(executorService, 1000);
+    }
+
+    @AfterEach
+    void afterEach() {
+        apiJobDispatcher.preDestroy();
+    }
+
+    @Test
+    void negativeClusteredAsyncDispatch() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> APIJobDispatcher.checkNotClustered(true, true));
+        assertTrue(exception.getMessage().contains("clustered"), "Message must match");
+        assertDoesNotThrow(() -> APIJobDispatcher.checkNotClustered(true, false), "Unclustered must be allowed");
+        assertDoesNotThrow(() -> APIJobDispatcher.checkNotClustered(false, true), "Disabled must be allowed");
+    }
+
+    @Test
+    void positiveReserveAndRelease() {
+        assertTrue(apiJobDispatcher.reserve(JOB_KEY), "First reservation must succeed");
+        assertFalse(apiJobDispatcher.reserve(JOB_KEY), "Second reservation must fail while in flight");
+        assertEquals(1, apiJobDispatcher.getInFlightCount(), "In flight count must match");
+        apiJobDispatcher.release(JOB_KEY);
+        assertEquals(0, apiJobDispatcher.getInFlightCount(), "In flight count must match");
+        assertTrue(apiJobDispatcher.reserve(JOB_KEY), "Reservation must succeed once released");
+    }
+
+    @Test
+    void positiveDispatchCompletesWithResponse() throws InterruptedException {
+        Response response = mock(Response.class);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Response> actualResponse = new AtomicReference<>();
+        AtomicReference<Throwable> actualThrowable = new AtomicReference<>();
+
+        apiJobDispatcher.reserve(JOB_KEY);
+        apiJobDispatcher.dispatch(JOB_KEY, () -> response, (result, throwable) -> {
+            actualResponse.set(result);
+            actualThrowable.set(throwable);
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Callback must be called");
+        assertSame(response, actualResponse.get(), "Response must match");
+        assertNull(actualThrowable.get(), "Throwable must be null");
+        awaitRelease();
+    }
+
+    @Test
+    void negativeDispatchCompletesWithUnwrappedException() throws InterruptedException {
+        RuntimeException cause = new RuntimeException("An example unexpected error");
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> actualThrowable = new AtomicReference<>();
+
+        apiJobDispatcher.reserve(JOB_KEY);
+        apiJobDispatcher.dispatch(JOB_KEY, () -> {
+            throw cause;
+        }, (result, throwable) -> {
+            actualThrowable.set(throwable);
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Callback must be called");
+        assertSame(cause, actualThrowable.get(), "Throwable must be the original cause");
+        awaitRelease();
+    }
+
+    @Test
+    void negativeCallbackFailureStillReleases() throws InterruptedException {
+        apiJobDispatcher.reserve(JOB_KEY);
+        apiJobDispatcher.dispatch(JOB_KEY, () -> mock(Response.class), (result, throwable) -> {
+            throw new IllegalStateException("Callback failed");
+        });
+        awaitRelease();
+    }
+
+    @Test
+    void positivePreDestroyShutsDownExecutor() {
+        apiJobDispatcher.preDestroy();
+        assertTrue(executorService.isShutdown(), "Executor must be shutdown");
+    }
+
+    private void awaitRelease() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (apiJobDispatcher.getInFlightCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, apiJobDispatcher.getInFlightCount(), "Job key must be released");
+    }
+}
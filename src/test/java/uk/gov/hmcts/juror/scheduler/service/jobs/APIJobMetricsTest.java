@@ -0,0 +1,191 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobExecutionContext;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.APIMethod;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("APIJobMetrics")
+@SuppressWarnings({
+    "PMD.LawOfDemeter",
+    "PMD.AvoidDuplicateLiterals"
+})
+class APIJobMetricsTest {
+    private static final String JOB_KEY = "ABC123";
+
+    private SimpleMeterRegistry meterRegistry;
+    private APIJobMetrics apiJobMetrics;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        apiJobMetrics = new APIJobMetrics(meterRegistry);
+    }
+
+    @DisplayName("public void recordSchedulingDelay(String jobKey, JobExecutionContext context)")
+    @Nested
+    class RecordSchedulingDelay {
+        @Test
+        void positiveDelayRecorded() {
+            JobExecutionContext context = mock(JobExecutionContext.class);
+            when(context.getScheduledFireTime()).thenReturn(new Date(1000));
+            when(context.getFireTime()).thenReturn(new Date(1250));
+
+            apiJobMetrics.recordSchedulingDelay(JOB_KEY, context);
+
+            Timer timer = meterRegistry.find(APIJobMetrics.SCHEDULING_DELAY).tag(APIJobMetrics.TAG_JOB, JOB_KEY)
+                .timer();
+            assertNotNull(timer, "Timer must be registered");
+            assertEquals(1, timer.count(), "Count must match");
+            assertEquals(250, timer.totalTime(TimeUnit.MILLISECONDS), "Delay must match");
+        }
+
+        @Test
+        void positiveManualTriggerNotRecorded() {
+            JobExecutionContext context = mock(JobExecutionContext.class);
+            when(context.getFireTime()).thenReturn(new Date(1250));
+
+            apiJobMetrics.recordSchedulingDelay(JOB_KEY, context);
+
+            assertNull(meterRegistry.find(APIJobMetrics.SCHEDULING_DELAY).timer(), "Timer must not be registered");
+        }
+    }
+
+    @DisplayName("public void recordResponse(String jobKey, APIMethod method, Response response, long durationNanos)")
+    @Nested
+    class RecordResponse {
+        @Test
+        void positiveTaggedWithStatusCode() {
+            Response response = mock(Response.class);
+            when(response.getStatusCode()).thenReturn(503);
+
+            apiJobMetrics.recordResponse(JOB_KEY, APIMethod.POST, response, TimeUnit.MILLISECONDS.toNanos(40));
+
+            Timer timer = meterRegistry.find(APIJobMetrics.RESPONSE)
+                .tag(APIJobMetrics.TAG_JOB, JOB_KEY)
+                .tag(APIJobMetrics.TAG_METHOD, "POST")
+                .tag(APIJobMetrics.TAG_STATUS_CODE, "503")
+                .timer();
+            assertNotNull(timer, "Timer must be registered");
+            assertEquals(40, timer.totalTime(TimeUnit.MILLISECONDS), "Duration must match");
+            assertEquals(0, timer.takeSnapshot().histogramCounts().length, "Per job timer must not be a histogram");
+
+            Timer distribution = meterRegistry.find(APIJobMetrics.RESPONSE_DISTRIBUTION)
+                .tags(APIJobMetrics.TAG_METHOD, "POST", APIJobMetrics.TAG_STATUS_CLASS, "5xx")
+                .timer();
+            assertNotNull(distribution, "Distribution must be registered");
+            assertEquals(2, distribution.getId().getTags().size(), "Distribution must only have low cardinality tags");
+            assertEquals(40, distribution.totalTime(TimeUnit.MILLISECONDS), "Duration must match");
+        }
+    }
+
+    @DisplayName("public void recordExecution(...)")
+    @Nested
+    class RecordExecution {
+        @Test
+        void positiveTaggedWithOutcome() {
+            Response response = mock(Response.class);
+            when(response.getStatusCode()).thenReturn(200);
+            TaskEntity task = new TaskEntity();
+            task.setStatus(Status.VALIDATION_PASSED);
+
+            apiJobMetrics.recordExecution(JOB_KEY, APIMethod.GET, response, task, TimeUnit.SECONDS.toNanos(1));
+
+            Timer timer = meterRegistry.find(APIJobMetrics.EXECUTION)
+                .tag(APIJobMetrics.TAG_JOB, JOB_KEY)
+                .tag(APIJobMetrics.TAG_METHOD, "GET")
+                .tag(APIJobMetrics.TAG_STATUS_CODE, "200")
+                .tag(APIJobMetrics.TAG_STATUS, "VALIDATION_PASSED")
+                .timer();
+            assertNotNull(timer, "Timer must be registered");
+            assertEquals(1, timer.count(), "Count must match");
+            assertEquals(0, timer.takeSnapshot().histogramCounts().length, "Per job timer must not be a histogram");
+
+            Timer distribution = meterRegistry.find(APIJobMetrics.EXECUTION_DISTRIBUTION)
+                .tags(APIJobMetrics.TAG_METHOD, "GET", APIJobMetrics.TAG_STATUS_CLASS, "2xx")
+                .timer();
+            assertNotNull(distribution, "Distribution must be registered");
+            assertEquals(2, distribution.getId().getTags().size(), "Distribution must only have low cardinality tags");
+            assertEquals(1, distribution.count(), "Count must match");
+        }
+
+        @Test
+        void positiveMissingValuesTaggedAsNone() {
+            apiJobMetrics.recordExecution(null, null, null, null, 10);
+
+            Timer timer = meterRegistry.find(APIJobMetrics.EXECUTION)
+                .tag(APIJobMetrics.TAG_JOB, APIJobMetrics.NONE)
+                .tag(APIJobMetrics.TAG_METHOD, APIJobMetrics.NONE)
+                .tag(APIJobMetrics.TAG_STATUS_CODE, APIJobMetrics.NONE)
+                .tag(APIJobMetrics.TAG_STATUS, APIJobMetrics.NONE)
+                .timer();
+            assertNotNull(timer, "Timer must be registered");
+            assertNotNull(meterRegistry.find(APIJobMetrics.EXECUTION_DISTRIBUTION)
+                .tags(APIJobMetrics.TAG_METHOD, APIJobMetrics.NONE, APIJobMetrics.TAG_STATUS_CLASS, APIJobMetrics.NONE)
+                .timer(), "Distribution must be registered");
+        }
+    }
+
+    @DisplayName("public void recordDeferral(String jobKey, String reason)")
+    @Nested
+    class RecordDeferral {
+        @Test
+        void positiveCountedByReason() {
+            apiJobMetrics.recordDeferral(JOB_KEY, APIJobMetrics.REASON_BULKHEAD);
+            apiJobMetrics.recordDeferral(JOB_KEY, APIJobMetrics.REASON_BULKHEAD);
+            apiJobMetrics.recordDeferral(JOB_KEY, APIJobMetrics.REASON_ADAPTIVE_LIMIT);
+
+            assertEquals(2, meterRegistry.get(APIJobMetrics.DEFERRED)
+                .tags(APIJobMetrics.TAG_JOB, JOB_KEY, APIJobMetrics.TAG_REASON, APIJobMetrics.REASON_BULKHEAD)
+                .counter().count(), "Bulkhead count must match");
+            assertEquals(1, meterRegistry.get(APIJobMetrics.DEFERRED)
+                .tags(APIJobMetrics.TAG_JOB, JOB_KEY, APIJobMetrics.TAG_REASON, APIJobMetrics.REASON_ADAPTIVE_LIMIT)
+                .counter().count(), "Adaptive limit count must match");
+            assertNull(meterRegistry.find(APIJobMetrics.EXECUTION).timer(), "Execution must not be recorded");
+        }
+    }
+
+    @DisplayName("public void recordSkip(String jobKey, String reason)")
+    @Nested
+    class RecordSkip {
+        @Test
+        void positiveCountedByReason() {
+            apiJobMetrics.recordSkip(JOB_KEY, APIJobMetrics.REASON_IN_PROGRESS);
+
+            assertEquals(1, meterRegistry.get(APIJobMetrics.SKIPPED)
+                .tags(APIJobMetrics.TAG_JOB, JOB_KEY, APIJobMetrics.TAG_REASON, APIJobMetrics.REASON_IN_PROGRESS)
+                .counter().count(), "Skip count must match");
+            assertNull(meterRegistry.find(APIJobMetrics.EXECUTION).timer(), "Execution must not be recorded");
+        }
+    }
+
+    @Test
+    void positivePhaseTimersRecorded() {
+        apiJobMetrics.recordSetup(JOB_KEY, 1);
+        apiJobMetrics.recordValidation(JOB_KEY, 1);
+        apiJobMetrics.recordCompletion(JOB_KEY, 1);
+
+        assertEquals(1, meterRegistry.get(APIJobMetrics.SETUP).tag(APIJobMetrics.TAG_JOB, JOB_KEY).timer().count(),
+            "Setup count must match");
+        assertEquals(1, meterRegistry.get(APIJobMetrics.VALIDATION).tag(APIJobMetrics.TAG_JOB, JOB_KEY).timer()
+            .count(), "Validation count must match");
+        assertEquals(1, meterRegistry.get(APIJobMetrics.COMPLETION).tag(APIJobMetrics.TAG_JOB, JOB_KEY).timer()
+            .count(), "Completion count must match");
+    }
+}
@@ -0,0 +1,139 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+import uk.gov.hmcts.juror.scheduler.datastore.model.APIMethod;
+import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("APIJobRequestLogger")
+@SuppressWarnings({
+    "PMD.LawOfDemeter",
+    "PMD.AvoidDuplicateLiterals"
+})
+class APIJobRequestLoggerTest {
+    private Logger logger;
+    private JobDefinition jobDefinition;
+    private TaskEntity task;
+    private Response response;
+
+    @BeforeEach
+    void beforeEach() {
+        logger = mock(Logger.class);
+        when(logger.isInfoEnabled()).thenReturn(true);
+        jobDefinition = JobDefinition.of(APIJobDetailsEntity.builder()
+            .key("ABC123")
+            .method(APIMethod.POST)
+            .url("https://juror-api/run")
+            .payload("{\"a\":\"1234567890\"}")
+            .build(), null);
+        task = new TaskEntity();
+        task.setTaskId(5L);
+        task.setStatus(Status.VALIDATION_PASSED);
+        response = mock(Response.class);
+        when(response.getStatusCode()).thenReturn(200);
+        when(response.getTime()).thenReturn(35L);
+        when(response.asString()).thenReturn("{\"result\":\"ok\"}");
+    }
+
+    private APIJobRequestLogger createLogger(APIJobRequestLogger.Mode mode, double sampleRate, double random) {
+        return new APIJobRequestLogger(logger, mode, 10, sampleRate, true, () -> random);
+    }
+
+    private String captureLog() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(logger, times(1)).info(captor.capture());
+        return captor.getValue();
+    }
+
+    @DisplayName("public void logExchange(JobDefinition jobDefinition, TaskEntity task, Response response)")
+    @Nested
+    class LogExchange {
+        @Test
+        void positiveSummaryWithoutBodies() {
+            createLogger(APIJobRequestLogger.Mode.SUMMARY, 0.0, 0.0).logExchange(jobDefinition, task, response);
+
+            assertEquals("Job: ABC123, task: 5, method: POST, url: https://juror-api/run, status code: 200, "
+                + "time: 35ms, result: VALIDATION_PASSED", captureLog(), "Log message must match");
+        }
+
+        @Test
+        void positiveBodiesLoggedOnValidationFailure() {
+            task.setStatus(Status.VALIDATION_FAILED);
+            createLogger(APIJobRequestLogger.Mode.SUMMARY, 0.0, 0.0).logExchange(jobDefinition, task, response);
+
+            assertEquals("Job: ABC123, task: 5, method: POST, url: https://juror-api/run, status code: 200, "
+                    + "time: 35ms, result: VALIDATION_FAILED, request body: {\"a\":\"1234...(8 more characters), "
+                    + "response body: {\"result\":...(5 more characters)",
+                captureLog(), "Log message must match");
+        }
+
+        @Test
+        void positiveFullModeLeavesLoggingToRestAssured() {
+            createLogger(APIJobRequestLogger.Mode.FULL, 0.0, 0.0).logExchange(jobDefinition, task, response);
+            verify(logger, never()).info(anyString());
+        }
+
+        @Test
+        void positiveInfoDisabled() {
+            when(logger.isInfoEnabled()).thenReturn(false);
+            createLogger(APIJobRequestLogger.Mode.SUMMARY, 1.0, 0.0).logExchange(jobDefinition, task, response);
+            verify(logger, never()).info(anyString());
+            verify(response, never()).asString();
+        }
+    }
+
+    @DisplayName("boolean shouldLogBodies(TaskEntity task)")
+    @Nested
+    class ShouldLogBodies {
+        @Test
+        void positiveSampled() {
+            assertTrue(createLogger(APIJobRequestLogger.Mode.SUMMARY, 0.25, 0.2).shouldLogBodies(task),
+                "Bodies must be logged when sampled");
+        }
+
+        @Test
+        void negativeNotSampled() {
+            assertFalse(createLogger(APIJobRequestLogger.Mode.SUMMARY, 0.25, 0.3).shouldLogBodies(task),
+                "Bodies must not be logged when not sampled");
+        }
+
+        @Test
+        void negativeSamplingDisabled() {
+            assertFalse(createLogger(APIJobRequestLogger.Mode.SUMMARY, 0.0, 0.0).shouldLogBodies(task),
+                "Bodies must not be logged when sampling is disabled");
+        }
+    }
+
+    @DisplayName("String truncate(String body)")
+    @Nested
+    class Truncate {
+        @Test
+        void positiveShortBodyUnchanged() {
+            assertEquals("short", createLogger(APIJobRequestLogger.Mode.SUMMARY, 0.0, 0.0).truncate("short"),
+                "Body must match");
+        }
+
+        @Test
+        void positiveNullBody() {
+            assertNull(createLogger(APIJobRequestLogger.Mode.SUMMARY, 0.0, 0.0).truncate(null), "Body must be null");
+        }
+    }
+}
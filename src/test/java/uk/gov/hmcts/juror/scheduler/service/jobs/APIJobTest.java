@@ -1,12 +1,11 @@
 package uk.gov.hmcts.juror.scheduler.service.jobs;
 
 import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestLogSpecification;
 import io.restassured.specification.RequestSpecification;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,7 +23,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
+import uk.gov.hmcts.juror.scheduler.config.http.OutboundHttpClient;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.TaskEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
 import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIValidationEntity;
@@ -34,6 +35,7 @@ import uk.gov.hmcts.juror.scheduler.datastore.model.JobResult;
 import uk.gov.hmcts.juror.scheduler.datastore.model.Status;
 import uk.gov.hmcts.juror.scheduler.datastore.model.ValidationType;
 import uk.gov.hmcts.juror.scheduler.service.contracts.JobService;
+import uk.gov.hmcts.juror.scheduler.service.contracts.SchedulerService;
 import uk.gov.hmcts.juror.scheduler.service.contracts.TaskService;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 import uk.gov.hmcts.juror.standard.service.exceptions.NotFoundException;
@@ -44,6 +46,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -52,7 +56,13 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -78,16 +88,35 @@ class APIJobTest {
     @MockitoBean
     private JobService jobService;
 
-    @MockitoBean
-    private EntityManager entityManager;
-    @MockitoBean
-    private EntityManagerFactory entityManagerFactory;
     @MockitoBean
     private PlatformTransactionManager transactionManager;
 
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private APIJobDispatcher apiJobDispatcher;
+
+    @MockitoBean
+    private APIJobMetrics apiJobMetrics;
+
+    @MockitoBean
+    private OutboundHttpClient outboundHttpClient;
+
+    @MockitoBean
+    private APIJobRequestLogger apiJobRequestLogger;
+
+    @MockitoBean
+    private APIJobBulkheads apiJobBulkheads;
+
+    @MockitoBean
+    private SchedulerService schedulerService;
+
+    @MockitoBean
+    private APIJobAdaptiveLimiter apiJobAdaptiveLimiter;
+
+    private final RestAssuredConfig restAssuredConfig = RestAssuredConfig.config();
+
     @Autowired
     private APIJob apiJob;
 
@@ -102,9 +131,10 @@ class APIJobTest {
     private JobExecutionContext context;
 
     private TaskEntity taskEntity;
-    private TaskEntity updatedTaskEntity;
 
     private static final String JOB_KEY = "ABC123";
+    private static final String BULKHEAD = "https://www.myurl.com";
+    private static final String HOST = "https://www.myurl.com";
 
     @BeforeEach
     public void beforeEach() {
@@ -113,13 +143,20 @@ class APIJobTest {
 
         restAssuredMockedStatic.when(RestAssured::given).thenReturn(requestSpecification);
 
+        when(outboundHttpClient.getRestAssuredConfig()).thenReturn(restAssuredConfig);
+        when(requestSpecification.config(restAssuredConfig)).thenReturn(requestSpecification);
         when(requestSpecification.log()).thenReturn(requestLogSpecification);
         when(requestLogSpecification.all()).thenReturn(requestSpecification);
-
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(apiJobBulkheads.getBulkhead(any())).thenReturn(BULKHEAD);
+        when(apiJobBulkheads.tryAcquire(BULKHEAD)).thenReturn(true);
+        when(apiJobAdaptiveLimiter.getHost(any())).thenReturn(HOST);
+        when(apiJobAdaptiveLimiter.tryAcquire(HOST)).thenReturn(true);
     }
 
     @AfterEach
     public void afterEach() {
+        apiJob.asyncDispatch = false;
         if (restAssuredMockedStatic != null) {
             restAssuredMockedStatic.close();
         }
@@ -132,7 +169,8 @@ class APIJobTest {
 
         when(jobDetail.getJobDataMap()).thenReturn(jobDataMap);
         when(context.getJobDetail()).thenReturn(jobDetail);
-        when(jobService.getJob(apiJobDetailsEntity.getKey())).thenReturn(apiJobDetailsEntity);
+        when(jobService.getJobDefinition(apiJobDetailsEntity.getKey(), null))
+            .thenReturn(JobDefinition.of(apiJobDetailsEntity, null));
 
         when(requestSpecification.request(Method.valueOf(apiJobDetailsEntity.getMethod().name()),
             apiJobDetailsEntity.getUrl())).thenReturn(response);
@@ -142,17 +180,19 @@ class APIJobTest {
         taskEntity.setTaskId(1L);
         taskEntity.setStatus(Status.PENDING);
         when(taskService.createTask(apiJobDetailsEntity)).thenReturn(taskEntity);
-
-
-        updatedTaskEntity = new TaskEntity();
-        when(taskService.getLatestTask(JOB_KEY, taskEntity.getTaskId())).thenReturn(updatedTaskEntity);
-        when(taskService.saveTask(updatedTaskEntity)).thenReturn(updatedTaskEntity);
+        when(taskService.completeTask(eq(taskEntity), any())).thenReturn(true);
     }
 
 
     private void runStandardVerification(APIJobDetailsEntity apiJobDetailsEntity) {
         int defaultHeaderCount = 2;
 
+        //Validate the shared outbound client is used
+        verify(requestSpecification, times(1)).config(restAssuredConfig);
+        //Validate the exchange is summarised rather than logged in full by RestAssured
+        verify(requestSpecification, never()).log();
+        verify(apiJobRequestLogger, times(1)).logExchange(any(), eq(taskEntity), eq(response));
+
         //Validate payload setup correctly
         if (apiJobDetailsEntity.getPayload() == null) {
             verify(requestSpecification, never()).body(anyString());
@@ -192,12 +232,12 @@ class APIJobTest {
         assertEquals(passed.get()
                 ? Status.VALIDATION_PASSED
                 : Status.VALIDATION_FAILED,
-            updatedTaskEntity.getStatus(), "Status must match");
+            taskEntity.getStatus(), "Status must match");
 
         if (passed.get()) {
-            assertNull(updatedTaskEntity.getMessage(), "Message should be null");
+            assertNull(taskEntity.getMessage(), "Message should be null");
         } else {
-            assertEquals(expectedMessageBuilder.toString(), updatedTaskEntity.getMessage(),
+            assertEquals(expectedMessageBuilder.toString(), taskEntity.getMessage(),
                 "Message must match");
         }
 
@@ -205,17 +245,27 @@ class APIJobTest {
         //Validate Request was sent correctly
         verify(requestSpecification, times(1))
             .request(Method.valueOf(apiJobDetailsEntity.getMethod().name()), apiJobDetailsEntity.getUrl());
-        verify(taskService, times(1)).saveTask(updatedTaskEntity);
+        verify(taskService, times(1)).completeTask(eq(taskEntity), any());
+        verify(taskService, never()).getLatestTask(anyString(), anyLong());
+        verify(taskService, never()).saveTask(any());
     }
 
 
     @Test
     void constructorTest() {
-        APIJob apiJob = new APIJob(jobService, taskService, transactionManager);
+        APIJob apiJob = new APIJob(jobService, taskService, transactionManager, apiJobDispatcher, apiJobMetrics,
+            outboundHttpClient, apiJobRequestLogger, apiJobBulkheads, schedulerService, apiJobAdaptiveLimiter);
         assertNotNull(apiJob, "APIJob must be created");
         assertThat(apiJob.jobService).isEqualTo(jobService);
         assertThat(apiJob.taskService).isEqualTo(taskService);
         assertThat(apiJob.transactionManager).isEqualTo(transactionManager);
+        assertThat(apiJob.apiJobDispatcher).isEqualTo(apiJobDispatcher);
+        assertThat(apiJob.apiJobMetrics).isEqualTo(apiJobMetrics);
+        assertThat(apiJob.outboundHttpClient).isEqualTo(outboundHttpClient);
+        assertThat(apiJob.apiJobRequestLogger).isEqualTo(apiJobRequestLogger);
+        assertThat(apiJob.apiJobBulkheads).isEqualTo(apiJobBulkheads);
+        assertThat(apiJob.schedulerService).isEqualTo(schedulerService);
+        assertThat(apiJob.apiJobAdaptiveLimiter).isEqualTo(apiJobAdaptiveLimiter);
         DefaultTransactionDefinition expectedTransactionDefinition =
             new DefaultTransactionDefinition();
         expectedTransactionDefinition.setIsolationLevel(TransactionDefinition.ISOLATION_DEFAULT);
@@ -244,6 +294,86 @@ class APIJobTest {
         runStandardVerification(apiJobDetailsEntity);
     }
 
+    @Test
+    void positiveMetricsRecorded() {
+        List<APIValidationEntity> validationEntityList = new ArrayList<>();
+        validationEntityList.add(new TestAPIJobDetailsEntity(APIValidationEntity.Result.builder().passed(true).build(),
+            ValidationType.STATUS_CODE));
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .validations(validationEntityList)
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+
+        apiJob.execute(context);
+
+        verify(apiJobMetrics, times(1)).recordSchedulingDelay(JOB_KEY, context);
+        verify(apiJobMetrics, times(1)).recordSetup(eq(JOB_KEY), anyLong());
+        verify(apiJobMetrics, times(1)).recordResponse(eq(JOB_KEY), eq(APIMethod.GET), eq(response), anyLong());
+        verify(apiJobMetrics, times(1)).recordValidation(eq(JOB_KEY), anyLong());
+        verify(apiJobMetrics, times(1)).recordCompletion(eq(JOB_KEY), anyLong());
+        verify(apiJobMetrics, times(1))
+            .recordExecution(eq(JOB_KEY), eq(APIMethod.GET), eq(response), eq(taskEntity), anyLong());
+        assertEquals(Status.VALIDATION_PASSED, taskEntity.getStatus(), "Status must match");
+    }
+
+    @Test
+    void negativeMetricsRecordedWhenRequestFails() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(requestSpecification.request(Method.GET, "www.myurl.com"))
+            .thenThrow(new RuntimeException("An example unexpected error"));
+
+        apiJob.execute(context);
+
+        verify(apiJobMetrics, never()).recordResponse(anyString(), any(), any(), anyLong());
+        verify(apiJobMetrics, times(1))
+            .recordExecution(eq(JOB_KEY), eq(APIMethod.GET), isNull(), eq(taskEntity), anyLong());
+        assertEquals(Status.FAILED_UNEXPECTED_EXCEPTION, taskEntity.getStatus(), "Status must match");
+    }
+
+    @Test
+    void positiveFullRequestLogging() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(apiJobRequestLogger.isFullLogging()).thenReturn(true);
+
+        apiJob.execute(context);
+
+        verify(requestSpecification, times(1)).log();
+        verify(taskService, times(1)).completeTask(eq(taskEntity), any());
+    }
+
+    @Test
+    void positiveRevisionUsedToResolveJobDefinition() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        context.getJobDetail().getJobDataMap().put(JobDefinition.JOB_DATA_REVISION_KEY, "revision-1");
+        when(jobService.getJobDefinition(JOB_KEY, "revision-1"))
+            .thenReturn(JobDefinition.of(apiJobDetailsEntity, "revision-1"));
+
+        apiJob.execute(context);
+
+        verify(jobService, times(1)).getJobDefinition(JOB_KEY, "revision-1");
+        verify(jobService, never()).getJobDefinition(JOB_KEY, null);
+        verify(taskService, times(1)).createTask(apiJobDetailsEntity);
+        runStandardVerification(apiJobDetailsEntity);
+    }
+
     @Test
     @SuppressWarnings({
         "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
@@ -323,7 +453,6 @@ class APIJobTest {
         "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
     })
     void positiveTaskUpdatedWhenApiRunning() {
-        apiJob.entityManager = entityManager;
         List<APIValidationEntity> validationEntityList = new ArrayList<>();
         validationEntityList.add(new TestAPIJobDetailsEntity(APIValidationEntity.Result.builder().passed(true).build(),
             ValidationType.STATUS_CODE));
@@ -340,10 +469,11 @@ class APIJobTest {
         runStandardSetup(apiJobDetailsEntity);
         LocalDateTime now = LocalDateTime.now();
         taskEntity.setLastUpdatedAt(now);
-        updatedTaskEntity.setLastUpdatedAt(now.plusSeconds(1));
+        when(taskService.completeTask(taskEntity, now)).thenReturn(false);
         apiJob.execute(context);
-        verify(entityManager, times(1)).detach(updatedTaskEntity);
+        verify(taskService, times(1)).completeTask(taskEntity, now);
         verify(taskService, never()).saveTask(any());
+        verify(context, never()).setResult(any());
     }
 
     @Test
@@ -367,10 +497,10 @@ class APIJobTest {
         runStandardSetup(apiJobDetailsEntity);
         LocalDateTime now = LocalDateTime.now();
         taskEntity.setLastUpdatedAt(now);
-        updatedTaskEntity.setLastUpdatedAt(now);
         apiJob.execute(context);
-        verify(entityManager, never()).detach(updatedTaskEntity);
-        verify(taskService, times(1)).saveTask(any());
+        assertEquals(Status.VALIDATION_PASSED, taskEntity.getStatus(), "Status must match");
+        verify(taskService, times(1)).completeTask(taskEntity, now);
+        verify(taskService, never()).getLatestTask(anyString(), anyLong());
     }
 
     @Test
@@ -379,7 +509,8 @@ class APIJobTest {
     })
     void positiveTaskNotUpdatedWhenApiRunningButValidationFailed() {
         List<APIValidationEntity> validationEntityList = new ArrayList<>();
-        validationEntityList.add(new TestAPIJobDetailsEntity(APIValidationEntity.Result.builder().passed(true).build(),
+        validationEntityList.add(new TestAPIJobDetailsEntity(APIValidationEntity.Result.builder().passed(false)
+            .message("FAILED for XYZ").build(),
             ValidationType.STATUS_CODE));
 
         AuthenticationDefaults authenticationDefaults = mock(AuthenticationDefaults.class);
@@ -395,11 +526,11 @@ class APIJobTest {
         LocalDateTime now = LocalDateTime.now();
 
         taskEntity.setLastUpdatedAt(now);
-        updatedTaskEntity.setLastUpdatedAt(now);
-        updatedTaskEntity.setStatus(Status.VALIDATION_FAILED);
         apiJob.execute(context);
-        verify(entityManager, never()).detach(updatedTaskEntity);
-        verify(taskService, times(1)).saveTask(any());
+        assertEquals(Status.VALIDATION_FAILED, taskEntity.getStatus(), "Status must match");
+        //Validation failures always overwrite the task so no last updated check is applied
+        verify(taskService, times(1)).completeTask(taskEntity, null);
+        verify(taskService, never()).completeTask(taskEntity, now);
     }
 
     @Test
@@ -433,7 +564,7 @@ class APIJobTest {
         when(jobDetail.getJobDataMap()).thenReturn(jobDataMap);
         when(context.getJobDetail()).thenReturn(jobDetail);
         Throwable cause = new NotFoundException("Job not found for key: " + JOB_KEY);
-        when(jobService.getJob(JOB_KEY)).thenThrow(cause);
+        when(jobService.getJobDefinition(JOB_KEY, null)).thenThrow(cause);
 
 
         apiJob.execute(context);
@@ -462,7 +593,7 @@ class APIJobTest {
         when(jobDetail.getJobDataMap()).thenReturn(jobDataMap);
         when(context.getJobDetail()).thenReturn(jobDetail);
         RuntimeException cause = new RuntimeException("An example unexpected error");
-        when(jobService.getJob(JOB_KEY)).thenThrow(cause);
+        when(jobService.getJobDefinition(JOB_KEY, null)).thenThrow(cause);
 
         apiJob.execute(context);
 
@@ -560,6 +691,300 @@ class APIJobTest {
         runStandardVerification(apiJobDetailsEntity);
     }
 
+    private void runDispatchedRequest(Throwable throwable) {
+        doAnswer(invocation -> {
+            Supplier<Response> request = invocation.getArgument(1);
+            BiConsumer<Response, Throwable> onComplete = invocation.getArgument(2);
+            if (throwable == null) {
+                onComplete.accept(request.get(), null);
+            } else {
+                onComplete.accept(null, throwable);
+            }
+            return null;
+        }).when(apiJobDispatcher).dispatch(eq(JOB_KEY), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings({
+        "PMD.JUnitTestsShouldIncludeAssert" //False positive done via inheritance
+    })
+    void positiveAsyncDispatch() {
+        apiJob.asyncDispatch = true;
+        List<APIValidationEntity> validationEntityList = new ArrayList<>();
+        validationEntityList.add(new TestAPIJobDetailsEntity(APIValidationEntity.Result.builder().passed(true).build(),
+            ValidationType.STATUS_CODE));
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .validations(validationEntityList)
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(apiJobDispatcher.reserve(JOB_KEY)).thenReturn(true);
+        runDispatchedRequest(null);
+
+        apiJob.execute(context);
+
+        runStandardVerification(apiJobDetailsEntity);
+        verify(apiJobDispatcher, times(1)).dispatch(eq(JOB_KEY), any(), any());
+        verify(apiJobDispatcher, never()).release(JOB_KEY);
+        verify(context, never()).setResult(any());
+        //Recorded once by the dispatcher rather than when the Quartz job returns
+        verify(apiJobMetrics, times(1))
+            .recordExecution(eq(JOB_KEY), eq(APIMethod.GET), eq(response), eq(taskEntity), anyLong());
+    }
+
+    @Test
+    void negativeAsyncDispatchPreviousExecutionInProgress() {
+        apiJob.asyncDispatch = true;
+        JobDetail jobDetail = mock(JobDetail.class);
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put("key", JOB_KEY);
+        when(jobDetail.getJobDataMap()).thenReturn(jobDataMap);
+        when(context.getJobDetail()).thenReturn(jobDetail);
+        when(apiJobDispatcher.reserve(JOB_KEY)).thenReturn(false);
+
+        apiJob.execute(context);
+
+        ArgumentCaptor<JobResult> argumentCaptor = ArgumentCaptor.forClass(JobResult.class);
+        verify(context, times(1)).setResult(argumentCaptor.capture());
+        JobResult result = argumentCaptor.getValue();
+        assertFalse(result.isPassed(), "Expect result to fail");
+        assertEquals("Previous execution is still in progress", result.getError().getMessage(),
+            "Expect correct message");
+
+        verify(jobService, never()).getJobDefinition(anyString(), any());
+        verifyNoInteractions(taskService);
+        verify(apiJobDispatcher, never()).dispatch(anyString(), any(), any());
+        verify(apiJobDispatcher, never()).release(JOB_KEY);
+        verify(apiJobMetrics, times(1)).recordSkip(JOB_KEY, APIJobMetrics.REASON_IN_PROGRESS);
+        verify(apiJobMetrics, never()).recordExecution(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void negativeAsyncDispatchRequestFailed() {
+        apiJob.asyncDispatch = true;
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(apiJobDispatcher.reserve(JOB_KEY)).thenReturn(true);
+        runDispatchedRequest(new RuntimeException("An example unexpected error"));
+
+        apiJob.execute(context);
+
+        assertEquals(Status.FAILED_UNEXPECTED_EXCEPTION, taskEntity.getStatus(), "Status must match");
+        verify(taskService, times(1)).completeTask(taskEntity, null);
+        verify(taskService, never()).getLatestTask(anyString(), anyLong());
+        verify(context, never()).setResult(any());
+    }
+
+    @Test
+    void negativeAsyncDispatchFailedBeforeDispatch() {
+        apiJob.asyncDispatch = true;
+        JobDetail jobDetail = mock(JobDetail.class);
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put("key", JOB_KEY);
+        when(jobDetail.getJobDataMap()).thenReturn(jobDataMap);
+        when(context.getJobDetail()).thenReturn(jobDetail);
+        when(apiJobDispatcher.reserve(JOB_KEY)).thenReturn(true);
+        when(jobService.getJobDefinition(JOB_KEY, null))
+            .thenThrow(new NotFoundException("Job not found for key: " + JOB_KEY));
+
+        apiJob.execute(context);
+
+        verify(context, times(1)).setResult(any());
+        verify(apiJobDispatcher, never()).dispatch(anyString(), any(), any());
+        verify(apiJobDispatcher, times(1)).release(JOB_KEY);
+    }
+
+    @Test
+    void positiveBulkheadPermitReleased() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+
+        apiJob.execute(context);
+
+        verify(apiJobBulkheads, times(1)).getBulkhead(any(JobDefinition.class));
+        verify(apiJobBulkheads, times(1)).tryAcquire(BULKHEAD);
+        verify(apiJobBulkheads, times(1)).release(BULKHEAD);
+        verify(schedulerService, never()).deferJob(anyString(), anyLong());
+    }
+
+    @Test
+    void negativeBulkheadFullDeferred() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(apiJobBulkheads.tryAcquire(BULKHEAD)).thenReturn(false);
+        when(apiJobBulkheads.nextDeferDelay()).thenReturn(7000L);
+
+        apiJob.execute(context);
+
+        verify(schedulerService, times(1)).deferJob(JOB_KEY, 7000L);
+        ArgumentCaptor<JobResult> argumentCaptor = ArgumentCaptor.forClass(JobResult.class);
+        verify(context, times(1)).setResult(argumentCaptor.capture());
+        JobResult result = argumentCaptor.getValue();
+        assertFalse(result.isPassed(), "Expect result to fail");
+        assertEquals("Deferred as bulkhead " + BULKHEAD + " is full", result.getError().getMessage(),
+            "Expect correct message");
+        verify(taskService, never()).createTask(any());
+        verify(requestSpecification, never()).request(any(Method.class), anyString());
+        verify(apiJobBulkheads, never()).release(anyString());
+        verify(apiJobMetrics, times(1)).recordDeferral(JOB_KEY, APIJobMetrics.REASON_BULKHEAD);
+        verify(apiJobMetrics, never()).recordExecution(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void negativeBulkheadPermitReleasedWhenDeferFails() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(apiJobBulkheads.tryAcquire(BULKHEAD)).thenReturn(false);
+        doThrow(new InternalServerException("Failed to defer Job"))
+            .when(schedulerService).deferJob(eq(JOB_KEY), anyLong());
+
+        apiJob.execute(context);
+
+        verify(context, times(1)).setResult(any());
+        verify(taskService, never()).createTask(any());
+        verify(apiJobBulkheads, never()).release(anyString());
+        verify(apiJobMetrics, never()).recordDeferral(anyString(), anyString());
+        verify(apiJobMetrics, times(1)).recordExecution(eq(JOB_KEY), eq(APIMethod.GET), isNull(), isNull(), anyLong());
+    }
+
+    @Test
+    void positiveAsyncDispatchBulkheadPermitReleasedOnCompletion() {
+        apiJob.asyncDispatch = true;
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(apiJobDispatcher.reserve(JOB_KEY)).thenReturn(true);
+        List<BiConsumer<Response, Throwable>> completions = new ArrayList<>();
+        doAnswer(invocation -> {
+            completions.add(invocation.getArgument(2));
+            return null;
+        }).when(apiJobDispatcher).dispatch(eq(JOB_KEY), any(), any());
+
+        apiJob.execute(context);
+
+        verify(apiJobBulkheads, never()).release(anyString());
+        assertEquals(1, completions.size(), "Request must be dispatched");
+
+        completions.get(0).accept(response, null);
+
+        verify(apiJobBulkheads, times(1)).release(BULKHEAD);
+    }
+
+    @Test
+    void positiveAdaptiveLimitFedWithResponse() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(response.getStatusCode()).thenReturn(503);
+
+        apiJob.execute(context);
+
+        verify(apiJobAdaptiveLimiter, times(1)).tryAcquire(HOST);
+        verify(apiJobAdaptiveLimiter, times(1)).onResponse(eq(HOST), eq(JOB_KEY), anyLong(), anyLong(), eq(503));
+        verify(apiJobAdaptiveLimiter, never()).onFailure(anyString(), anyLong());
+        verify(apiJobAdaptiveLimiter, times(1)).release(HOST);
+    }
+
+    @Test
+    void negativeAdaptiveLimitFedWithFailure() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(requestSpecification.request(Method.GET, "www.myurl.com"))
+            .thenThrow(new RuntimeException("Read timed out"));
+
+        apiJob.execute(context);
+
+        verify(apiJobAdaptiveLimiter, times(1)).onFailure(eq(HOST), anyLong());
+        verify(apiJobAdaptiveLimiter, never()).onResponse(anyString(), anyString(), anyLong(), anyLong(), anyInt());
+        verify(apiJobAdaptiveLimiter, times(1)).release(HOST);
+        assertEquals(Status.FAILED_UNEXPECTED_EXCEPTION, taskEntity.getStatus(), "Status must match");
+    }
+
+    @Test
+    void negativeAdaptiveLimitReachedDeferred() {
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(apiJobAdaptiveLimiter.tryAcquire(HOST)).thenReturn(false);
+        when(apiJobAdaptiveLimiter.nextDeferDelay(HOST)).thenReturn(20_000L);
+
+        apiJob.execute(context);
+
+        verify(schedulerService, times(1)).deferJob(JOB_KEY, 20_000L);
+        ArgumentCaptor<JobResult> argumentCaptor = ArgumentCaptor.forClass(JobResult.class);
+        verify(context, times(1)).setResult(argumentCaptor.capture());
+        JobResult result = argumentCaptor.getValue();
+        assertFalse(result.isPassed(), "Expect result to fail");
+        assertEquals("Deferred as host " + HOST + " is at its adaptive limit", result.getError().getMessage(),
+            "Expect correct message");
+        verify(taskService, never()).createTask(any());
+        verify(requestSpecification, never()).request(any(Method.class), anyString());
+        verify(apiJobAdaptiveLimiter, never()).release(anyString());
+        verify(apiJobBulkheads, times(1)).release(BULKHEAD);
+        verify(apiJobMetrics, times(1)).recordDeferral(JOB_KEY, APIJobMetrics.REASON_ADAPTIVE_LIMIT);
+        verify(apiJobMetrics, never()).recordExecution(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void positiveAsyncDispatchAdaptiveLimitReleasedOnCompletion() {
+        apiJob.asyncDispatch = true;
+        APIJobDetailsEntity apiJobDetailsEntity = APIJobDetailsEntity.builder()
+            .key(JOB_KEY)
+            .method(APIMethod.GET)
+            .url("www.myurl.com")
+            .build();
+        runStandardSetup(apiJobDetailsEntity);
+        when(apiJobDispatcher.reserve(JOB_KEY)).thenReturn(true);
+        List<Supplier<Response>> requests = new ArrayList<>();
+        List<BiConsumer<Response, Throwable>> completions = new ArrayList<>();
+        doAnswer(invocation -> {
+            requests.add(invocation.getArgument(1));
+            completions.add(invocation.getArgument(2));
+            return null;
+        }).when(apiJobDispatcher).dispatch(eq(JOB_KEY), any(), any());
+
+        apiJob.execute(context);
+
+        verify(apiJobAdaptiveLimiter, never()).release(anyString());
+        assertEquals(1, requests.size(), "Request must be dispatched");
+
+        completions.get(0).accept(requests.get(0).get(), null);
+
+        verify(apiJobAdaptiveLimiter, times(1)).onResponse(eq(HOST), eq(JOB_KEY), anyLong(), anyLong(), anyInt());
+        verify(apiJobAdaptiveLimiter, times(1)).release(HOST);
+    }
+
     @SuppressWarnings({
         "PMD.TestClassWithoutTestCases" //False positive support class
     })
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.juror.scheduler.service.jobs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.scheduler.datastore.entity.api.APIJobDetailsEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("JobDefinitionCache")
+class JobDefinitionCacheTest {
+    private static final String JOB_KEY = "ABC123";
+    private static final String REVISION = "revision-1";
+
+    private JobDefinitionCache jobDefinitionCache;
+
+    @BeforeEach
+    void beforeEach() {
+        jobDefinitionCache = new JobDefinitionCache();
+    }
+
+    private JobDefinition createDefinition(String revision) {
+        return JobDefinition.of(APIJobDetailsEntity.builder().key(JOB_KEY).build(), revision);
+    }
+
+    @Test
+    void positiveReturnsDefinitionForMatchingRevision() {
+        JobDefinition definition = createDefinition(REVISION);
+        jobDefinitionCache.put(definition);
+        assertSame(definition, jobDefinitionCache.get(JOB_KEY, REVISION), "Definition must match");
+    }
+
+    @Test
+    void negativeRevisionChanged() {
+        jobDefinitionCache.put(createDefinition(REVISION));
+        assertNull(jobDefinitionCache.get(JOB_KEY, "revision-2"), "Stale definition must not be returned");
+    }
+
+    @Test
+    void negativeNoRevision() {
+        jobDefinitionCache.put(createDefinition(REVISION));
+        assertNull(jobDefinitionCache.get(JOB_KEY, null), "Definition must not be returned without a revision");
+    }
+
+    @Test
+    void negativeDefinitionWithoutRevisionNotCached() {
+        jobDefinitionCache.put(createDefinition(null));
+        assertEquals(0, jobDefinitionCache.size(), "Definition must not be cached");
+    }
+
+    @Test
+    void positiveInvalidate() {
+        jobDefinitionCache.put(createDefinition(REVISION));
+        jobDefinitionCache.invalidate(JOB_KEY);
+        assertNull(jobDefinitionCache.get(JOB_KEY, REVISION), "Definition must be invalidated");
+        assertEquals(0, jobDefinitionCache.size(), "Cache must be empty");
+    }
+}
@@ -34,6 +34,7 @@ public final class CloneUtil {
             .tags(cloneSet(baseApiJobDetailsEntity.getTags()))
             .url(baseApiJobDetailsEntity.getUrl())
             .payload(baseApiJobDetailsEntity.getPayload())
+            .bulkhead(baseApiJobDetailsEntity.getBulkhead())
             .authenticationDefault(baseApiJobDetailsEntity.getAuthenticationDefault())
             .createdAt(baseApiJobDetailsEntity.getCreatedAt())
             .lastUpdatedAt(baseApiJobDetailsEntity.getLastUpdatedAt())